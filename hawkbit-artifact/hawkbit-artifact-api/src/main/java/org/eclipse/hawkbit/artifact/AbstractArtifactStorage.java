@@ -9,17 +9,14 @@
  */
 package org.eclipse.hawkbit.artifact;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
@@ -36,40 +33,27 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
 
     private static final String TEMP_FILE_PREFIX = "tmp";
     private static final String TEMP_FILE_SUFFIX = "artifactrepo";
+    private static final String CHUNKED_UPLOAD_DIRECTORY = "hawkbit-chunked-uploads";
+    private static final Pattern UPLOAD_ID_PATTERN = Pattern.compile("[A-Za-z0-9-]{1,64}");
 
-    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
-    @SuppressWarnings("squid:S2070")
     @Override
     public StoredArtifactInfo store(
             final String tenant, final InputStream content, final String filename, final String contentType,
             final ArtifactHashes providedHashes) {
-        final MessageDigest mdSHA1;
-        final MessageDigest mdMD5;
-        final MessageDigest mdSHA256;
-        try {
-            mdSHA1 = MessageDigest.getInstance("SHA1");
-            mdMD5 = MessageDigest.getInstance("MD5");
-            mdSHA256 = MessageDigest.getInstance("SHA-256");
-        } catch (final NoSuchAlgorithmException e) {
-            throw new ArtifactStoreException(e.getMessage(), e);
-        }
-
         File tempFile = null;
-        try (final DigestInputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
-            tempFile = storeTempFile(inputStream);
-            final HexFormat hexFormat = HexFormat.of().withLowerCase();
-
-            final String sha1Hash = hexFormat.formatHex(mdSHA1.digest());
-            final String md5Hash = hexFormat.formatHex(mdMD5.digest());
-            final String sha256Hash = hexFormat.formatHex(mdSHA256.digest());
+        try (final InputStream inputStream = content) {
+            tempFile = createStagingFile(sanitizeTenant(tenant));
+            final ArtifactHashes hashes = storeTempFile(inputStream, tempFile);
+            final String sha1Hash = hashes.sha1();
 
-            checkHashes(providedHashes, sha1Hash, md5Hash, sha256Hash);
+            checkHashes(providedHashes, sha1Hash, hashes.md5(), hashes.sha256());
 
             final long fileSize = tempFile.length(); // store could change the file
-            final ArtifactHashes hashes = new ArtifactHashes(sha1Hash, md5Hash, sha256Hash);
             // Check if file with same sha1 hash exists and if so return it
             // TODO - if exists, shall we check if the file is really the same as bytes or just sha1 hash is the same
-            if (!existsBySha1(tenant, sha1Hash)) {
+            if (existsBySha1(tenant, sha1Hash)) {
+                refresh(sanitizeTenant(tenant), sha1Hash);
+            } else {
                 store(sanitizeTenant(tenant), hashes, contentType, tempFile);
             }
             return new StoredArtifactInfo(contentType, fileSize, hashes);
@@ -82,6 +66,44 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         }
     }
 
+    @Override
+    public ChunkedArtifactUpload openChunkedUpload(final String tenant, final String uploadId, final long size) {
+        try {
+            return new ChunkedArtifactUpload(getChunkedUploadFile(sanitizeTenant(tenant), sanitizeUploadId(uploadId)), size);
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void deleteChunkedUpload(final String tenant, final String uploadId) {
+        try {
+            deleteTempFile(getChunkedUploadFile(sanitizeTenant(tenant), sanitizeUploadId(uploadId)));
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredArtifactInfo store(
+            final String tenant, final ChunkedArtifactUpload upload, final String filename, final String contentType,
+            final ArtifactHashes providedHashes) {
+        try (upload) {
+            final ArtifactHashes hashes = upload.getHashes();
+            checkHashes(providedHashes, hashes.sha1(), hashes.md5(), hashes.sha256());
+
+            if (existsBySha1(tenant, hashes.sha1())) {
+                refresh(sanitizeTenant(tenant), hashes.sha1());
+            } else {
+                // already hashed - the staging file is just published, not copied
+                store(sanitizeTenant(tenant), hashes, contentType, upload.getFile());
+            }
+            return new StoredArtifactInfo(contentType, upload.getSize(), hashes);
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
     protected static String sanitizeTenant(final String tenant) {
         return tenant.trim().toUpperCase();
     }
@@ -94,13 +116,53 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         }
     }
 
-    protected File storeTempFile(final InputStream content) throws IOException {
-        final File file = createTempFile(false);
-        try (final OutputStream outputstream = new BufferedOutputStream(new FileOutputStream(file))) {
-            content.transferTo(outputstream);
-            outputstream.flush();
+    /**
+     * Creates the file the uploaded content is written to before it is passed to {@link #store(String, ArtifactHashes, String, File)}.
+     * It is deleted after the store (if still existing). By default, a temp file in <code>java.io.tmpdir</code>. Storages could
+     * override it to stage the content next to its final location, so it could be published by a rename instead of a copy.
+     *
+     * @param tenant the (sanitized) tenant
+     * @return the new, empty, file
+     * @throws IOException if the file couldn't be created
+     */
+    protected File createStagingFile(final String tenant) throws IOException {
+        return createTempFile(false);
+    }
+
+    /**
+     * Returns the staging file of an upload in chunks, which is passed to {@link #store(String, ArtifactHashes, String, File)} when
+     * the upload is completed. The file is created by the upload, if not existing, the parent directories shall exist. By default, a
+     * file in <code>java.io.tmpdir</code> - i.e. local to the node, storages used by a cluster shall override it with a shared location.
+     *
+     * @param tenant the (sanitized) tenant
+     * @param uploadId the id of the upload
+     * @return the staging file of the upload
+     * @throws IOException if the parent directories couldn't be created
+     */
+    protected File getChunkedUploadFile(final String tenant, final String uploadId) throws IOException {
+        return Files.createDirectories(Path.of(System.getProperty("java.io.tmpdir"), CHUNKED_UPLOAD_DIRECTORY))
+                .resolve(uploadId + TEMP_FILE_SUFFIX).toFile();
+    }
+
+    // writes the content to the temp file and computes its hashes - in parallel, see ParallelDigester
+    protected ArtifactHashes storeTempFile(final InputStream content, final File file) throws IOException {
+        // no additional buffering needed - the content is written in large chunks
+        try (final OutputStream outputstream = new FileOutputStream(file)) {
+            return ParallelDigester.copy(content, outputstream);
         }
-        return file;
+    }
+
+    /**
+     * Called instead of {@link #store(String, ArtifactHashes, String, File)} if the binary is already stored. Storages collecting the
+     * garbage by the time the binaries were stored (see {@link #collectGarbage(String, java.util.Set, java.time.Instant)}) shall mark
+     * it as stored now - it is referenced again. By default, does nothing.
+     *
+     * @param tenant the (sanitized) tenant
+     * @param sha1Hash the SHA-1 hash of the binary
+     * @throws IOException if the binary couldn't be marked
+     */
+    protected void refresh(final String tenant, final String sha1Hash) throws IOException {
+        // nothing to mark
     }
 
     protected abstract void store(
@@ -161,8 +223,11 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         return providedHashValue != null && !hashValue.equals(providedHashValue);
     }
 
-    private static DigestInputStream wrapInDigestInputStream(final InputStream input,
-            final MessageDigest mdSHA1, final MessageDigest mdMD5, final MessageDigest mdSHA256) {
-        return new DigestInputStream(new DigestInputStream(new DigestInputStream(input, mdSHA256), mdMD5), mdSHA1);
+    // the upload id is a part of the staging file name - ensure that it is not a path traversal attack
+    private static String sanitizeUploadId(final String uploadId) {
+        if (!UPLOAD_ID_PATTERN.matcher(uploadId).matches()) {
+            throw new IllegalArgumentException("Invalid upload id: " + uploadId);
+        }
+        return uploadId;
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,8 @@
 package org.eclipse.hawkbit.artifact;
 
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.Set;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -18,7 +20,11 @@ import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.FileBacked;
+import org.eclipse.hawkbit.artifact.model.Seekable;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Artifact Store service interface.
@@ -42,9 +48,60 @@ public interface ArtifactStorage {
             @NotEmpty String tenant, @NotNull InputStream content, @NotEmpty String filename,
             String contentType, ArtifactHashes hash);
 
+    /**
+     * Opens an upload of an artifact binary in chunks, see {@link ChunkedArtifactUpload}. The staging file is identified by the upload
+     * id and created if not existing - so the upload could be opened again, e.g. by another node receiving the next chunks. In a cluster,
+     * the storage shall keep the staging files in a location shared by the nodes.
+     *
+     * @param tenant the tenant to store the artifact
+     * @param uploadId the (unique) id of the upload
+     * @param size the size of the binary
+     * @return the upload
+     * @throws UnsupportedOperationException if implementation does not support the operation
+     * @throws ArtifactStoreException if the upload couldn't be opened
+     */
+    default ChunkedArtifactUpload openChunkedUpload(@NotEmpty String tenant, @NotEmpty String uploadId, long size) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Deletes the staging file of an upload in chunks, if it exists.
+     *
+     * @param tenant the tenant of the upload
+     * @param uploadId the id of the upload
+     * @throws UnsupportedOperationException if implementation does not support the operation
+     */
+    default void deleteChunkedUpload(@NotEmpty String tenant, @NotEmpty String uploadId) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stores a completely received chunked upload into the repository. The upload is closed afterward - its staging file is either
+     * published (moved) by the storage or kept, to be deleted with {@link #deleteChunkedUpload(String, String)}.
+     *
+     * @param tenant the tenant to store the artifact
+     * @param upload the completed upload
+     * @param filename the filename of the artifact
+     * @param contentType the content type of the artifact
+     * @param hash the hashes of the artifact to do hash-checks before storing the artifact, might be {@code null}
+     * @return the stored artifact
+     * @throws UnsupportedOperationException if implementation does not support the operation
+     * @throws IllegalStateException if the upload is not complete
+     * @throws ArtifactStoreException in case storing of the artifact was not successful
+     * @throws HashNotMatchException in case {@code hash} is provided and not matching to the calculated hashes
+     */
+    default StoredArtifactInfo store(
+            @NotEmpty String tenant, @NotNull ChunkedArtifactUpload upload, @NotEmpty String filename,
+            String contentType, ArtifactHashes hash) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves a {@link StoredArtifactInfo} from the store by its SHA1 hash. Throws {@link ArtifactBinaryNotFoundException} if not found.
      * The caller is responsible to close the InputStream.
+     * <p/>
+     * Storages which support positional reads return streams implementing {@link Seekable} (local file storages - {@link FileBacked}),
+     * so the consumers could read parts of the binary without reading the skipped bytes.
      *
      * @param tenant the tenant to store the artifact
      * @param sha1Hash the sha1-hash of the file to lookup.
@@ -53,6 +110,22 @@ public interface ArtifactStorage {
      */
     InputStream getBySha1(@NotEmpty String tenant, @NotEmpty String sha1Hash);
 
+    /**
+     * Retrieves a pre-compressed variant of an artifact binary, if the storage supports and has produced it. The caller is responsible
+     * to close the stream.
+     * <p/>
+     * The returned stream has the size and the SHA-1 hash of the variant (not of the artifact binary). By default, no variants are
+     * supported.
+     *
+     * @param tenant the tenant
+     * @param sha1Hash the sha1-hash of the artifact binary
+     * @param encoding the content coding of the variant (as in the HTTP <code>Content-Encoding</code> header), e.g. <code>gzip</code>
+     * @return the variant or {@code null} if not (yet) available
+     */
+    default @Nullable ArtifactStream getEncodedBySha1(@NotEmpty String tenant, @NotEmpty String sha1Hash, @NotEmpty String encoding) {
+        return null;
+    }
+
     /**
      * Checks if an artifact exists for a given tenant by its sha1 hash
      *
@@ -77,4 +150,29 @@ public interface ArtifactStorage {
      * @param tenant to erase
      */
     void deleteByTenant(@NotEmpty String tenant);
-}
\ No newline at end of file
+
+    /**
+     * Deletes the artifact binaries of a tenant which are not referenced anymore (sweep of a mark-and-sweep garbage collection). The
+     * binaries last stored after {@code olderThan} are kept - they could be stored but not referenced yet. Storing an already existing
+     * binary again marks it as stored at that time. By default, nothing is collected.
+     *
+     * @param tenant the tenant
+     * @param referenced the SHA-1 hashes of the binaries referenced by the tenant
+     * @param olderThan only binaries (last) stored before are deleted
+     * @return the reclaimed storage in bytes
+     */
+    default long collectGarbage(@NotEmpty String tenant, @NotNull Set<String> referenced, @NotNull Instant olderThan) {
+        return 0;
+    }
+
+    /**
+     * Deletes the content which doesn't belong to an (existing) tenant anymore, e.g. of deleted tenants or abandoned uploads. By default,
+     * nothing is collected.
+     *
+     * @param olderThan only content (last) modified before is deleted
+     * @return the reclaimed storage in bytes
+     */
+    default long collectGarbage(@NotNull Instant olderThan) {
+        return 0;
+    }
+}
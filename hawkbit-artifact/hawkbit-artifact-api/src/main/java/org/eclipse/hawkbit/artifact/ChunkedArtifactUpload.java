@@ -0,0 +1,352 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+
+/**
+ * An artifact binary uploaded in chunks, opened by {@link ArtifactStorage#openChunkedUpload(String, String, long)}. The chunks are
+ * written into a staging file at their offsets, so they could be uploaded in any order, in parallel and retried after a failure.
+ * <p/>
+ * The staging file is identified by the upload id, so the same upload could be opened by several nodes (or again, after a restart) -
+ * each instance tracks the chunks written through it, the received ranges of the whole upload shall be tracked by the caller. The
+ * written chunks are forced to the storage device before {@link #write(long, InputStream)} returns.
+ * <p/>
+ * The hashes are computed incrementally - whenever the contiguously received content grows it is digested (read back from the staging
+ * file, i.e. usually from the page cache), so completing the upload doesn't have to read the whole binary again. The chunks written by
+ * other instances are digested when {@link #markReceived(long, long) marked} as received.
+ * <p/>
+ * A completed upload is stored with {@link ArtifactStorage#store(String, ChunkedArtifactUpload, String, String, ArtifactHashes)}. Closing
+ * an upload keeps its staging file, it is deleted with {@link ArtifactStorage#deleteChunkedUpload(String, String)}.
+ */
+@Slf4j
+public final class ChunkedArtifactUpload implements Closeable {
+
+    private static final int BUFFER_SIZE = 0x10000;
+
+    private final File file;
+    private final long size;
+    private final FileChannel channel;
+    // received ranges, start -> end (exclusive), merged, guarded by this
+    private final TreeMap<Long, Long> received = new TreeMap<>();
+    private final ReentrantLock digestLock = new ReentrantLock();
+    private final MessageDigest sha1;
+    private final MessageDigest md5;
+    private final MessageDigest sha256;
+    // guarded by digestLock: the digested length and the start positions of the writes in progress (-> count), the content is digested
+    // only up to the first write in progress, and a write may start only after the digested content
+    private long digested;
+    private final TreeMap<Long, Integer> writing = new TreeMap<>();
+    // guarded by this - the channel is closed when the last active write completes
+    private int writers;
+    private boolean closed;
+
+    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
+    @SuppressWarnings("squid:S2070")
+    ChunkedArtifactUpload(final File file, final long size) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        this.file = file;
+        this.size = size;
+        try {
+            sha1 = MessageDigest.getInstance("SHA1");
+            md5 = MessageDigest.getInstance("MD5");
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+        // created by the first instance, opened again by the others
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * @return the (expected) size of the binary
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the ranges received by this instance, as start (inclusive) and end (exclusive) offset pairs, ordered by start
+     */
+    public synchronized List<long[]> getReceived() {
+        final List<long[]> ranges = new ArrayList<>(received.size());
+        received.forEach((start, end) -> ranges.add(new long[] { start, end }));
+        return ranges;
+    }
+
+    /**
+     * @return if the whole binary is received by (or marked as received with) this instance
+     */
+    public synchronized boolean isComplete() {
+        return contiguousEnd() == size;
+    }
+
+    /**
+     * Writes a chunk. A chunk which is already completely received (e.g. retried after its response was lost) is ignored. Chunks may
+     * overlap the received, but not yet digested, content.
+     *
+     * @param offset the offset of the chunk in the binary
+     * @param chunk the chunk content, not closed
+     * @return the number of the written bytes
+     * @throws IllegalArgumentException if the chunk exceeds the size, or it overlaps the already digested content
+     * @throws IllegalStateException if the upload is closed
+     * @throws IOException if reading the chunk or writing the staging file fails
+     */
+    public long write(final long offset, final InputStream chunk) throws IOException {
+        if (offset < 0 || offset > size) {
+            throw new IllegalArgumentException("Chunk offset " + offset + " is out of the binary size " + size);
+        }
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Upload is closed");
+            }
+            writers++;
+        }
+        try {
+            return writeChunk(offset, chunk);
+        } finally {
+            final boolean release;
+            synchronized (this) {
+                release = --writers == 0 && closed;
+            }
+            if (release) {
+                release();
+            }
+        }
+    }
+
+    private long writeChunk(final long offset, final InputStream chunk) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = offset;
+        int read;
+        while ((read = chunk.read(buffer.array(), 0, BUFFER_SIZE)) != -1) {
+            if (position + read > size) {
+                throw new IllegalArgumentException("Chunk at offset " + offset + " exceeds the binary size " + size);
+            }
+            if (!startWrite(offset, position, read)) {
+                position += read; // retried chunk - the content is already there
+                continue;
+            }
+            final long start = position;
+            try {
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            } finally {
+                endWrite(start);
+            }
+        }
+        if (position > offset) {
+            // durable before it is reported as received - e.g. recorded by the caller and read back by another node
+            channel.force(false);
+            addReceived(offset, position);
+            digest(false);
+        }
+        return position - offset;
+    }
+
+    /**
+     * Marks a range as received, e.g. written by another instance of the upload. It is read back from the staging file for digesting.
+     *
+     * @param start the start offset, inclusive
+     * @param end the end offset, exclusive
+     * @throws IllegalArgumentException if the range exceeds the size
+     * @throws IOException if reading back the staging file fails
+     */
+    public void markReceived(final long start, final long end) throws IOException {
+        if (start < 0 || end > size || start > end) {
+            throw new IllegalArgumentException("Range " + start + "-" + end + " is out of the binary size " + size);
+        }
+        if (start < end) {
+            addReceived(start, end);
+            digest(false);
+        }
+    }
+
+    /**
+     * Returns the hashes of the binary, requires a completed upload.
+     *
+     * @return the base16 hashes
+     * @throws IllegalStateException if the upload is not complete
+     * @throws IOException if reading back the staging file fails
+     */
+    public ArtifactHashes getHashes() throws IOException {
+        if (!isComplete()) {
+            throw new IllegalStateException("Upload is not complete");
+        }
+        digest(true);
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        digestLock.lock();
+        try {
+            return new ArtifactHashes(
+                    hexFormat.formatHex(((MessageDigest) sha1.clone()).digest()),
+                    hexFormat.formatHex(((MessageDigest) md5.clone()).digest()),
+                    hexFormat.formatHex(((MessageDigest) sha256.clone()).digest()));
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            digestLock.unlock();
+        }
+    }
+
+    /**
+     * Opens the received content, e.g. to store it transformed (encrypted). The caller is responsible to close the stream.
+     *
+     * @return the content stream
+     * @throws IOException if the staging file couldn't be opened
+     */
+    public InputStream openContent() throws IOException {
+        return new FileInputStream(file);
+    }
+
+    /**
+     * @return if the staging file still exists, i.e. it is neither deleted nor published (moved) by the storage
+     */
+    public boolean isStaged() {
+        return file.exists();
+    }
+
+    /**
+     * Closes the upload, the staging file is kept. If chunks are being written, it is done when they are written.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (writers > 0) {
+                return;
+            }
+        }
+        release();
+    }
+
+    private void release() {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            log.warn("Could not close staging file {} of chunked upload", file, e);
+        }
+    }
+
+    // the staging file - moved to the artifact location by the storage
+    File getFile() throws IOException {
+        channel.force(false);
+        return file;
+    }
+
+    // reserves the range of a write, so it is not digested while written - returns false if it is already digested and received
+    // with the chunk (i.e. retried), throws IllegalArgumentException if it is digested but not received with the chunk
+    private boolean startWrite(final long offset, final long position, final int length) {
+        digestLock.lock();
+        try {
+            if (position < digested) {
+                if (isReceived(offset, position + length)) {
+                    return false;
+                }
+                throw new IllegalArgumentException("Chunk at offset " + offset + " overlaps the already received content");
+            }
+            writing.merge(position, 1, Integer::sum);
+            return true;
+        } finally {
+            digestLock.unlock();
+        }
+    }
+
+    private void endWrite(final long position) {
+        digestLock.lock();
+        try {
+            writing.computeIfPresent(position, (key, count) -> count == 1 ? null : count - 1);
+        } finally {
+            digestLock.unlock();
+        }
+    }
+
+    private synchronized boolean isReceived(final long start, final long end) {
+        final Map.Entry<Long, Long> range = received.floorEntry(start);
+        return range != null && range.getValue() >= end;
+    }
+
+    private synchronized void addReceived(final long start, final long end) {
+        long mergedStart = start;
+        long mergedEnd = end;
+        final Map.Entry<Long, Long> before = received.floorEntry(start);
+        if (before != null && before.getValue() >= start) {
+            mergedStart = before.getKey();
+            mergedEnd = Math.max(mergedEnd, before.getValue());
+        }
+        Map.Entry<Long, Long> after;
+        while ((after = received.ceilingEntry(mergedStart)) != null && after.getKey() <= mergedEnd) {
+            mergedEnd = Math.max(mergedEnd, after.getValue());
+            received.remove(after.getKey());
+        }
+        received.put(mergedStart, mergedEnd);
+    }
+
+    private synchronized long contiguousEnd() {
+        final Long end = received.get(0L);
+        return end == null ? 0 : end;
+    }
+
+    // digests the content received contiguously after the already digested one, a buffer at a time - so the writes wait at most for a
+    // buffer. If not waiting, leaves it to a concurrent digesting (or to a later one, if a write is starting)
+    private void digest(final boolean wait) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (true) {
+            if (wait) {
+                digestLock.lock();
+            } else if (!digestLock.tryLock()) {
+                return;
+            }
+            try {
+                final long end = writing.isEmpty() ? contiguousEnd() : Math.min(contiguousEnd(), writing.firstKey());
+                if (end <= digested) {
+                    return;
+                }
+                buffer.clear().limit((int) Math.min(BUFFER_SIZE, end - digested));
+                final int read = channel.read(buffer, digested);
+                if (read == -1) {
+                    throw new IOException("Staging file " + file + " is truncated");
+                }
+                sha1.update(buffer.array(), 0, read);
+                md5.update(buffer.array(), 0, read);
+                sha256.update(buffer.array(), 0, read);
+                digested += read;
+            } finally {
+                digestLock.unlock();
+            }
+        }
+    }
+}
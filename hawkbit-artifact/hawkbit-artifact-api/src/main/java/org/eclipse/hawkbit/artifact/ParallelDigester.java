@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+
+/**
+ * Copies a binary while computing its SHA-1, MD5 and SHA-256 hashes concurrently. The binary is read (and written) once, in large
+ * chunks, by the calling thread and every chunk is handed off to one (virtual) thread per digest. The chunks come from a small,
+ * bounded, pool, so a slow digest applies back pressure to the reading and the memory usage per copy is limited to
+ * {@link #POOL_SIZE} * {@link #CHUNK_SIZE}.
+ * <p/>
+ * So the copy takes roughly as long as the slowest digest (or the I/O) instead of the sum of all digests.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ParallelDigester {
+
+    static final int CHUNK_SIZE = 0x100000; // 1 MiB
+    static final int POOL_SIZE = 4;
+
+    private static final String[] ALGORITHMS = { "SHA1", "MD5", "SHA-256" };
+    // digest work is CPU bound and short, the threads mostly wait for chunks - virtual threads don't occupy platform threads meanwhile
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("artifact-digest-", 0).factory();
+    private static final Chunk END = new Chunk(new byte[0]);
+
+    /**
+     * Copies the content to the output and computes its hashes.
+     *
+     * @param content the content to copy, not closed
+     * @param out the output to copy to, not closed
+     * @return the base16 hashes of the content
+     * @throws IOException if reading or writing fails
+     */
+    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
+    @SuppressWarnings("squid:S2070")
+    static ArtifactHashes copy(final InputStream content, final OutputStream out) throws IOException {
+        final BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(POOL_SIZE);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            free.add(new Chunk(new byte[CHUNK_SIZE]));
+        }
+
+        final Worker[] workers = new Worker[ALGORITHMS.length];
+        for (int i = 0; i < workers.length; i++) {
+            try {
+                workers[i] = new Worker(MessageDigest.getInstance(ALGORITHMS[i]), free);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new ArtifactStoreException(e.getMessage(), e);
+            }
+        }
+        final Thread[] threads = new Thread[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            threads[i] = THREAD_FACTORY.newThread(workers[i]);
+            threads[i].start();
+        }
+
+        try {
+            int read;
+            do {
+                final Chunk chunk = free.take();
+                read = content.readNBytes(chunk.buf, 0, CHUNK_SIZE);
+                if (read > 0) {
+                    out.write(chunk.buf, 0, read);
+                    chunk.len = read;
+                    chunk.pending.set(workers.length);
+                    for (final Worker worker : workers) {
+                        worker.queue.add(chunk); // never blocks - at most POOL_SIZE chunks are in use
+                    }
+                } else {
+                    free.add(chunk);
+                }
+            } while (read == CHUNK_SIZE);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free chunk");
+        } finally {
+            for (final Worker worker : workers) {
+                worker.queue.add(END);
+            }
+        }
+
+        try {
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the digests");
+        }
+
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        return new ArtifactHashes(
+                hexFormat.formatHex(workers[0].digest.digest()),
+                hexFormat.formatHex(workers[1].digest.digest()),
+                hexFormat.formatHex(workers[2].digest.digest()));
+    }
+
+    private static final class Chunk {
+
+        private final byte[] buf;
+        private final AtomicInteger pending = new AtomicInteger();
+        private int len; // visibility to the workers is guaranteed by the hand-off via the blocking queues
+
+        private Chunk(final byte[] buf) {
+            this.buf = buf;
+        }
+    }
+
+    private static final class Worker implements Runnable {
+
+        private final MessageDigest digest;
+        private final BlockingQueue<Chunk> free;
+        // pool size + END
+        private final BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(POOL_SIZE + 1);
+
+        private Worker(final MessageDigest digest, final BlockingQueue<Chunk> free) {
+            this.digest = digest;
+            this.free = free;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Chunk chunk;
+                while ((chunk = queue.take()) != END) {
+                    digest.update(chunk.buf, 0, chunk.len);
+                    if (chunk.pending.decrementAndGet() == 0) {
+                        free.add(chunk);
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.encryption;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * {@link SegmentedArtifactEncryption} with AES-256-GCM. The header is a version byte and a random 7 byte nonce prefix, the nonce of a
+ * segment is the nonce prefix, the 4 byte segment index and a last segment flag byte. The header is the additional authenticated data
+ * of every segment.
+ * <p/>
+ * Not registered by default - register it as {@link ArtifactEncryption} bean (together with an {@link ArtifactEncryptionSecretsStorage})
+ * to enable the artifact encryption.
+ */
+public class AesGcmSegmentedArtifactEncryption extends SegmentedArtifactEncryption {
+
+    /**
+     * Secret key of the (base64 encoded) AES-256 key.
+     */
+    public static final String KEY = "aes256-gcm-key";
+    /**
+     * Default size of the plain segments - 64 KiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 0x10000;
+
+    private static final String ALGORITHM = "AES";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int KEY_SIZE = 32;
+    private static final int TAG_SIZE = 16;
+    private static final byte VERSION = 1;
+    private static final int NONCE_PREFIX_SIZE = 7;
+    private static final int HEADER_SIZE = 1 + NONCE_PREFIX_SIZE;
+    private static final long MAX_SEGMENTS = 0xFFFFFFFFL;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public AesGcmSegmentedArtifactEncryption() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize the size of the plain segments - shall never be changed for stored artifacts
+     */
+    public AesGcmSegmentedArtifactEncryption(final int segmentSize) {
+        super(segmentSize);
+    }
+
+    @Override
+    public Set<String> requiredSecretKeys() {
+        return Set.of(KEY);
+    }
+
+    @Override
+    public Map<String, String> generateSecrets() {
+        final byte[] key = new byte[KEY_SIZE];
+        secureRandom.nextBytes(key);
+        final Map<String, String> secrets = new HashMap<>();
+        secrets.put(KEY, Base64.getEncoder().encodeToString(key));
+        return secrets;
+    }
+
+    @Override
+    protected int headerSize() {
+        return HEADER_SIZE;
+    }
+
+    @Override
+    protected int segmentOverhead() {
+        return TAG_SIZE;
+    }
+
+    @Override
+    protected SegmentCipher segmentCipher(final Map<String, String> secrets) throws GeneralSecurityException {
+        final String encodedKey = secrets.get(KEY);
+        if (encodedKey == null) {
+            throw new GeneralSecurityException("Secret " + KEY + " is missing");
+        }
+        final SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(encodedKey), ALGORITHM);
+        final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        return new SegmentCipher() {
+
+            @Override
+            public byte[] newHeader() {
+                final byte[] header = new byte[HEADER_SIZE];
+                header[0] = VERSION;
+                final byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+                secureRandom.nextBytes(noncePrefix);
+                System.arraycopy(noncePrefix, 0, header, 1, NONCE_PREFIX_SIZE);
+                return header;
+            }
+
+            @Override
+            public int encrypt(final byte[] header, final long index, final boolean last, final byte[] src, final int len, final byte[] dst)
+                    throws GeneralSecurityException {
+                cipher.init(Cipher.ENCRYPT_MODE, key, nonce(header, index, last));
+                cipher.updateAAD(header);
+                return cipher.doFinal(src, 0, len, dst, 0);
+            }
+
+            @Override
+            public int decrypt(final byte[] header, final long index, final boolean last, final byte[] src, final int len, final byte[] dst)
+                    throws GeneralSecurityException {
+                if (header[0] != VERSION) {
+                    throw new GeneralSecurityException("Unsupported version " + header[0]);
+                }
+                cipher.init(Cipher.DECRYPT_MODE, key, nonce(header, index, last));
+                cipher.updateAAD(header);
+                return cipher.doFinal(src, 0, len, dst, 0);
+            }
+        };
+    }
+
+    private static GCMParameterSpec nonce(final byte[] header, final long index, final boolean last) throws GeneralSecurityException {
+        if (index > MAX_SEGMENTS) {
+            throw new GeneralSecurityException("Too many segments");
+        }
+        final ByteBuffer nonce = ByteBuffer.allocate(NONCE_PREFIX_SIZE + 5);
+        nonce.put(header, 1, NONCE_PREFIX_SIZE);
+        nonce.putInt((int) index);
+        nonce.put(last ? (byte) 1 : (byte) 0);
+        return new GCMParameterSpec(TAG_SIZE * 8, nonce.array());
+    }
+}
@@ -61,4 +61,15 @@ public interface ArtifactEncryption {
      * @return encryption overhead in byte
      */
     int encryptionSizeOverhead();
+
+    /**
+     * Size of the decrypted artifact. By default, the encrypted size minus the {@link #encryptionSizeOverhead()}. Shall be overridden by
+     * the encryptions with size dependent overhead.
+     *
+     * @param encryptedSize size of the encrypted artifact in bytes
+     * @return size of the decrypted artifact in bytes
+     */
+    default long decryptedSize(final long encryptedSize) {
+        return encryptedSize - encryptionSizeOverhead();
+    }
 }
\ No newline at end of file
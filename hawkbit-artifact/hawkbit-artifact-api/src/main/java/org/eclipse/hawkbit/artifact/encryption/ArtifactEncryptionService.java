@@ -128,6 +128,16 @@ public final class ArtifactEncryptionService {
         return artifactEncryption.encryptionSizeOverhead();
     }
 
+    /**
+     * Size of the decrypted artifact
+     *
+     * @param encryptedSize size of the encrypted artifact in bytes
+     * @return size of the decrypted artifact in bytes
+     */
+    public long decryptedSize(final long encryptedSize) {
+        return artifactEncryption.decryptedSize(encryptedSize);
+    }
+
     private Map<String, String> getEncryptionSecrets(final long id) {
         final Set<String> requiredSecretsKeys = artifactEncryption.requiredSecretKeys();
         final Map<String, String> requiredSecrets = new HashMap<>();
@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.encryption;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+
+import org.eclipse.hawkbit.artifact.exception.ArtifactEncryptionFailedException;
+import org.eclipse.hawkbit.artifact.model.Seekable;
+
+/**
+ * Base of the {@link ArtifactEncryption} implementations using a segmented authenticated encryption format: the encrypted artifact is a
+ * (per artifact) header followed by fixed size segments of the plain artifact, each encrypted and authenticated independently - with
+ * its index and a last segment flag, so segments can't be reordered and the artifact can't be truncated unnoticed.
+ * <pre>
+ * header | segment 0 (segment size + overhead) | ... | last segment (up to segment size + overhead)
+ * </pre>
+ * An artifact has at least one (possibly empty) segment.
+ * <p/>
+ * If the encrypted stream is {@link Seekable}, the decrypted stream is {@link Seekable} too - a (range) read decrypts only the
+ * segments it covers, e.g. a resumed download doesn't decrypt the artifact from the beginning.
+ */
+public abstract class SegmentedArtifactEncryption implements ArtifactEncryption {
+
+    private final int segmentSize;
+
+    /**
+     * @param segmentSize the size of the plain segments
+     */
+    protected SegmentedArtifactEncryption(final int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Encryption and decryption of the segments of a single stream, not thread safe.
+     */
+    protected interface SegmentCipher {
+
+        /**
+         * @return new header for an artifact to encrypt (e.g. containing a random nonce prefix)
+         */
+        byte[] newHeader();
+
+        /**
+         * Encrypts a segment.
+         *
+         * @param header the header of the artifact
+         * @param index the index of the segment
+         * @param last if it is the last segment of the artifact
+         * @param src the plain segment
+         * @param len the length of the plain segment
+         * @param dst the buffer to write the encrypted segment to (at least segment size + overhead)
+         * @return the length of the encrypted segment
+         * @throws GeneralSecurityException if encryption fails
+         */
+        int encrypt(byte[] header, long index, boolean last, byte[] src, int len, byte[] dst) throws GeneralSecurityException;
+
+        /**
+         * Decrypts and verifies a segment.
+         *
+         * @param header the header of the artifact
+         * @param index the index of the segment
+         * @param last if it is the last segment of the artifact
+         * @param src the encrypted segment
+         * @param len the length of the encrypted segment
+         * @param dst the buffer to write the plain segment to (at least segment size)
+         * @return the length of the plain segment
+         * @throws GeneralSecurityException if decryption or verification fails
+         */
+        int decrypt(byte[] header, long index, boolean last, byte[] src, int len, byte[] dst) throws GeneralSecurityException;
+    }
+
+    /**
+     * @return the size of the header
+     */
+    protected abstract int headerSize();
+
+    /**
+     * @return the size an encrypted segment is larger than the plain segment (e.g. the authentication tag)
+     */
+    protected abstract int segmentOverhead();
+
+    /**
+     * Creates the cipher of a stream. Called eagerly, the secrets are cleared after the stream is created.
+     *
+     * @param secrets secrets key/value pairs
+     * @return the segment cipher
+     * @throws GeneralSecurityException if the secrets are not valid
+     */
+    protected abstract SegmentCipher segmentCipher(Map<String, String> secrets) throws GeneralSecurityException;
+
+    /**
+     * Overhead of an artifact with a single segment, see {@link #decryptedSize(long)} for the overhead of any artifact.
+     */
+    @Override
+    public int encryptionSizeOverhead() {
+        return headerSize() + segmentOverhead();
+    }
+
+    @Override
+    public long decryptedSize(final long encryptedSize) {
+        final long encryptedSegmentSize = (long) segmentSize + segmentOverhead();
+        final long body = encryptedSize - headerSize();
+        final long rest = body % encryptedSegmentSize;
+        return body / encryptedSegmentSize * segmentSize + (rest > 0 ? rest - segmentOverhead() : 0);
+    }
+
+    @Override
+    public InputStream encryptStream(final Map<String, String> secrets, final InputStream stream) {
+        return new EncryptingInputStream(cipher(secrets, ArtifactEncryptionFailedException.EncryptionOperation.ENCRYPT), stream);
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final InputStream stream) {
+        final SegmentCipher cipher = cipher(secrets, ArtifactEncryptionFailedException.EncryptionOperation.DECRYPT);
+        return stream instanceof Seekable ? new SeekableDecryptingInputStream(cipher, stream) : new DecryptingInputStream(cipher, stream);
+    }
+
+    private SegmentCipher cipher(final Map<String, String> secrets, final ArtifactEncryptionFailedException.EncryptionOperation operation) {
+        try {
+            return segmentCipher(secrets);
+        } catch (final GeneralSecurityException e) {
+            throw new ArtifactEncryptionFailedException(operation, "Failed to initialize the segment cipher", e);
+        }
+    }
+
+    private static boolean isEof(final PushbackInputStream in) throws IOException {
+        final int next = in.read();
+        if (next == -1) {
+            return true;
+        }
+        in.unread(next);
+        return false;
+    }
+
+    private final class EncryptingInputStream extends InputStream {
+
+        private final SegmentCipher cipher;
+        private final PushbackInputStream in;
+        private final byte[] header;
+        private final byte[] plain = new byte[segmentSize];
+        private byte[] out;
+        private int outPos;
+        private int outLen;
+        private long index;
+        private boolean done;
+
+        private EncryptingInputStream(final SegmentCipher cipher, final InputStream in) {
+            this.cipher = cipher;
+            this.in = new PushbackInputStream(in, 1);
+            header = cipher.newHeader();
+            out = header; // the header is streamed first
+            outLen = header.length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (outPos == outLen) {
+                if (!nextSegment()) {
+                    return -1;
+                }
+            }
+            final int n = Math.min(len, outLen - outPos);
+            System.arraycopy(out, outPos, b, off, n);
+            outPos += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private boolean nextSegment() throws IOException {
+            if (done) {
+                return false;
+            }
+            final int len = in.readNBytes(plain, 0, segmentSize);
+            final boolean last = len < segmentSize || isEof(in);
+            if (out == header) {
+                out = new byte[segmentSize + segmentOverhead()];
+            }
+            try {
+                outLen = cipher.encrypt(header, index++, last, plain, len, out);
+            } catch (final GeneralSecurityException e) {
+                throw new IOException("Failed to encrypt segment " + (index - 1), e);
+            }
+            outPos = 0;
+            done = last;
+            return true;
+        }
+    }
+
+    private class DecryptingInputStream extends InputStream {
+
+        private final SegmentCipher cipher;
+        private final InputStream in;
+        private final Seekable seekableIn; // null if not seekable - then the segments are read sequentially from in
+        private final int encryptedSegmentSize = segmentSize + segmentOverhead();
+        private final byte[] encrypted = new byte[encryptedSegmentSize];
+        private final byte[] plain = new byte[segmentSize];
+        private byte[] header;
+        private long segmentIndex = -1; // index of the segment in plain
+        private int segmentLen;
+        private boolean lastSegment;
+        private long position; // plain position of the sequential reads
+        private long plainSize = -1;
+
+        private DecryptingInputStream(final SegmentCipher cipher, final InputStream in) {
+            this.cipher = cipher;
+            if (in instanceof Seekable seekable) {
+                this.in = in;
+                seekableIn = seekable;
+            } else {
+                this.in = new PushbackInputStream(in, 1);
+                seekableIn = null;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final int n;
+            if (seekableIn == null) {
+                n = readSequential(b, off, len);
+            } else {
+                n = read(ByteBuffer.wrap(b, off, len), position);
+            }
+            if (n > 0) {
+                position += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            if (seekableIn == null || n <= 0) {
+                return super.skip(n);
+            }
+            // no need to decrypt the skipped segments
+            final long skipped = Math.min(n, Math.max(0, size() - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        // Seekable#size - only if the encrypted stream is seekable
+        public long size() throws IOException {
+            if (seekableIn == null) {
+                throw new IOException("Size of a not seekable stream is unknown");
+            }
+            if (plainSize == -1) {
+                plainSize = decryptedSize(seekableIn.size()); // artifacts are immutable
+            }
+            return plainSize;
+        }
+
+        // Seekable#read - only if the encrypted stream is seekable
+        public int read(final ByteBuffer dst, final long plainPosition) throws IOException {
+            if (seekableIn == null) {
+                throw new IOException("Positional read of a not seekable stream");
+            }
+            if (plainPosition >= size()) {
+                return -1;
+            }
+            final long index = plainPosition / segmentSize;
+            if (index != segmentIndex) {
+                loadSegment(index);
+            }
+            final int offset = (int) (plainPosition - index * segmentSize);
+            final int n = Math.min(dst.remaining(), segmentLen - offset);
+            dst.put(plain, offset, n);
+            return n;
+        }
+
+        private int readSequential(final byte[] b, final int off, final int len) throws IOException {
+            if (header == null) {
+                header = in.readNBytes(headerSize());
+                if (header.length < headerSize()) {
+                    throw new EOFException("Encrypted artifact is truncated");
+                }
+            }
+            final int offset = (int) (position - Math.max(segmentIndex, 0) * segmentSize);
+            if (segmentIndex == -1 || offset >= segmentLen) {
+                if (lastSegment) {
+                    return -1;
+                }
+                final int encryptedLen = in.readNBytes(encrypted, 0, encryptedSegmentSize);
+                decrypt(segmentIndex + 1, encryptedLen < encryptedSegmentSize || isEof((PushbackInputStream) in), encryptedLen);
+                return readSequential(b, off, len);
+            }
+            final int n = Math.min(len, segmentLen - offset);
+            System.arraycopy(plain, offset, b, off, n);
+            return n;
+        }
+
+        private void loadSegment(final long index) throws IOException {
+            if (header == null) {
+                header = new byte[headerSize()];
+                readFully(ByteBuffer.wrap(header), 0);
+            }
+            final long encryptedSize = seekableIn.size();
+            final long encryptedPosition = headerSize() + index * encryptedSegmentSize;
+            final int encryptedLen = (int) Math.min(encryptedSegmentSize, encryptedSize - encryptedPosition);
+            readFully(ByteBuffer.wrap(encrypted, 0, encryptedLen), encryptedPosition);
+            decrypt(index, encryptedPosition + encryptedLen >= encryptedSize, encryptedLen);
+        }
+
+        private void decrypt(final long index, final boolean last, final int encryptedLen) throws IOException {
+            segmentIndex = -1; // invalid until decrypted
+            try {
+                segmentLen = cipher.decrypt(header, index, last, encrypted, encryptedLen, plain);
+            } catch (final GeneralSecurityException e) {
+                throw new IOException("Failed to decrypt segment " + index, e);
+            }
+            segmentIndex = index;
+            lastSegment = last;
+        }
+
+        private void readFully(final ByteBuffer dst, final long encryptedPosition) throws IOException {
+            long pos = encryptedPosition;
+            while (dst.hasRemaining()) {
+                final int n = seekableIn.read(dst, pos);
+                if (n == -1) {
+                    throw new EOFException("Encrypted artifact is truncated");
+                }
+                pos += n;
+            }
+        }
+    }
+
+    private final class SeekableDecryptingInputStream extends DecryptingInputStream implements Seekable {
+
+        private SeekableDecryptingInputStream(final SegmentCipher cipher, final InputStream in) {
+            super(cipher, in);
+        }
+    }
+}
@@ -11,10 +11,12 @@ package org.eclipse.hawkbit.artifact.model;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.jspecify.annotations.Nullable;
 
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -34,6 +36,26 @@ public class ArtifactStream extends InputStream {
         this.sha1Hash = sha1Hash;
     }
 
+    /**
+     * Returns the positional read access to the artifact binary if it is streamed unmodified (e.g. not decrypted) from a storage which
+     * supports it.
+     *
+     * @return the seekable binary or {@code null} if the stream is not seekable
+     */
+    public @Nullable Seekable getSeekable() {
+        return inputStream instanceof Seekable seekable ? seekable : null;
+    }
+
+    /**
+     * Returns the channel of the backing file if the artifact binary is streamed unmodified (e.g. not decrypted) from a local file.
+     *
+     * @return the file channel or {@code null} if the stream is not file backed
+     */
+    public @Nullable FileChannel getFileChannel() {
+        final Seekable seekable = getSeekable();
+        return seekable == null ? null : seekable.getChannel();
+    }
+
     @Override
     public int read() throws IOException {
         return inputStream.read();
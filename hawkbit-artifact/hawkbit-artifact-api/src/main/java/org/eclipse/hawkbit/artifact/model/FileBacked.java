@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Implemented by artifact binary input streams which are backed by a (local) file. Allows the consumers to transfer the (unmodified)
+ * binary directly from the file channel, e.g. with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * instead of copying it through heap buffers.
+ */
+public interface FileBacked extends Seekable {
+
+    /**
+     * Returns the channel of the backing file. The channel is owned by the stream (it is closed when the stream is closed) and might be
+     * shared with other streams of the same file. Consumers shall use positional operations only and shall not close the channel.
+     *
+     * @return the file channel
+     */
+    @Override
+    FileChannel getChannel();
+
+    @Override
+    default long size() throws IOException {
+        return getChannel().size();
+    }
+
+    @Override
+    default int read(final ByteBuffer dst, final long position) throws IOException {
+        return getChannel().read(dst, position);
+    }
+}
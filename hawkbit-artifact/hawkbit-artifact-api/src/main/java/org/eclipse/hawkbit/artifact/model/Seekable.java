@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Optional capability of the artifact binary input streams returned by an {@link org.eclipse.hawkbit.artifact.ArtifactStorage} which
+ * support positional (random access) reads. Allows the consumers to read (range) parts of the binary in any order without reading
+ * the skipped bytes.
+ * <p/>
+ * Positional reads don't depend on and don't change the position of the stream.
+ */
+public interface Seekable {
+
+    /**
+     * @return the size of the binary in bytes
+     * @throws IOException if the size couldn't be determined
+     */
+    long size() throws IOException;
+
+    /**
+     * Reads bytes of the binary, starting at the given position, into the given buffer.
+     *
+     * @param dst the buffer to read into
+     * @param position the position in the binary to start reading from
+     * @return the number of read bytes, possibly zero, or {@code -1} if the position is greater than or equal to the size
+     * @throws IOException if reading fails
+     */
+    int read(ByteBuffer dst, long position) throws IOException;
+
+    /**
+     * @return the channel of the backing file or {@code null} if the binary is not backed by a local file
+     */
+    default @Nullable FileChannel getChannel() {
+        return null;
+    }
+}
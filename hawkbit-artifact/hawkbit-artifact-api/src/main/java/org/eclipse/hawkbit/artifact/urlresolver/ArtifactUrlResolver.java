@@ -12,6 +12,8 @@ package org.eclipse.hawkbit.artifact.urlresolver;
 import java.net.URI;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Interface declaration of the {@link ArtifactUrlResolver} which generates the URLs to specific artifacts.
  */
@@ -57,6 +59,17 @@ public interface ArtifactUrlResolver {
      */
     List<ArtifactUrl> getUrls(DownloadDescriptor downloadDescriptor, ApiType api, URI requestUri);
 
+    /**
+     * Returns the epoch of the generated URLs. As long as the epoch is not changed, the URLs generated for the same download descriptor,
+     * API type and request URI are the same or, at least, still valid. So, the epoch could be used instead of the generated URLs in order
+     * to decide if a response containing URLs is modified (e.g. as part of an entity tag) - without generating them.
+     *
+     * @return the epoch of the generated URLs or <code>null</code> if not supported, then the URLs have to be generated
+     */
+    default @Nullable String getEpoch() {
+        return null;
+    }
+
     /**
      * Container for variables available to the {@link ArtifactUrlResolver}.
      */
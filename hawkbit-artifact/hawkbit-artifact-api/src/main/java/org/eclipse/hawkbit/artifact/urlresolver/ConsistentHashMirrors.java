@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.urlresolver;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consistent hash ring of mirror (e.g. edge cache) nodes. An artifact is mapped onto the first node of the ring following its hash, so
+ * each artifact is downloaded via (and cached on) the same node. Adding or removing a node remaps only the artifacts of its ring
+ * segments - the cache hit rates of the other nodes are kept.
+ * <p/>
+ * Each node is placed on the ring multiple times (virtual nodes) for an even distribution. Unhealthy nodes are skipped - the artifacts
+ * fall back to the next nodes of the ring, i.e. to a stable fallback node, too.
+ */
+@Slf4j
+class ConsistentHashMirrors {
+
+    private final List<String> nodes;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> unhealthy = ConcurrentHashMap.newKeySet();
+
+    ConsistentHashMirrors(final List<String> nodes, final int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one mirror node is required");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (final String node : this.nodes) {
+            for (int i = 0; i < Math.max(1, virtualNodes); i++) {
+                ring.put(hash(node + '#' + i), node);
+            }
+        }
+    }
+
+    List<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the currently unhealthy nodes, in the order of the nodes
+     */
+    List<String> getUnhealthy() {
+        return nodes.stream().filter(unhealthy::contains).toList();
+    }
+
+    /**
+     * @param key the key to map, e.g. tenant and SHA-1 hash of the artifact
+     * @return the first healthy node of the ring following the hash of the key, or the first one, if no node is healthy
+     */
+    String select(final String key) {
+        final long hash = hash(key);
+        String first = null;
+        // clockwise, from the hash of the key
+        for (final String node : (Iterable<String>) Stream.concat(
+                ring.tailMap(hash, true).values().stream(), ring.headMap(hash, false).values().stream())::iterator) {
+            if (!unhealthy.contains(node)) {
+                return node;
+            } else if (first == null) {
+                first = node;
+            }
+        }
+        return first;
+    }
+
+    void setHealthy(final String node, final boolean healthy) {
+        if (healthy ? unhealthy.remove(node) : unhealthy.add(node)) {
+            log.info("Mirror node {} is {}", node, healthy ? "healthy again" : "unhealthy");
+        }
+    }
+
+    /**
+     * Checks the health of all nodes - a node is healthy if its health URL responds with a 2xx or 3xx status.
+     *
+     * @param httpClient the client to check with
+     * @param protocol the protocol of the health URLs, e.g. <code>http</code>
+     * @param path the path of the health URLs
+     * @param timeout the timeout of a check
+     */
+    void checkHealth(final HttpClient httpClient, final String protocol, final String path, final Duration timeout) {
+        for (final String node : nodes) {
+            boolean healthy;
+            try {
+                final HttpRequest request = HttpRequest.newBuilder(URI.create(protocol + "://" + node + path))
+                        .timeout(timeout)
+                        .GET()
+                        .build();
+                healthy = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                log.debug("Health check of mirror node {} failed: {}", node, e.getMessage());
+                healthy = false;
+            }
+            setHealthy(node, healthy);
+        }
+    }
+
+    // suppress warning, of not strong enough hashing algorithm, MD5 is not used security related
+    @SuppressWarnings("squid:S2070")
+    private static long hash(final String key) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8))).getLong();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.artifact.urlresolver;
 
 import java.net.URI;
 import java.net.URLEncoder;
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -19,8 +20,16 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties.Mirrors;
 import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties.UrlProtocol;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -38,8 +47,12 @@ import org.springframework.util.StringUtils;
  * Default (MD5SUM files):
  * {protocol}://{hostname}:{port}{contextPath}/{tenant}/controller/v1/{controllerId}/
  * softwaremodules/{softwareModuleId}/artifacts/{artifactFileName}.MD5SUM
+ * <p/>
+ * With mirror nodes configured (see {@link Mirrors}), the {mirror} placeholder is replaced by the node selected for the artifact by
+ * consistent hashing - e.g. {protocol}://{mirror}/{tenant}/artifacts/{artifactSHA1}. The health checks of the mirror nodes (if configured)
+ * are stopped and their HTTP clients are closed when the nodes are changed or the resolver is destroyed.
  */
-public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
+public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver, DisposableBean {
 
     private static final String PROTOCOL_PLACEHOLDER = "protocol";
     private static final String PROTOCOL_REQUEST_PLACEHOLDER = "protocolRequest";
@@ -55,11 +68,15 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
     private static final String SOFTWARE_MODULE_ID_PLACEHOLDER = "softwareModuleId";
     private static final String ARTIFACT_FILENAME_PLACEHOLDER = "artifactFileName";
     private static final String ARTIFACT_SHA1_PLACEHOLDER = "artifactSHA1";
+    private static final String MIRROR_PLACEHOLDER = "mirror";
     // by default, we download via the controller / DDI API download endpoint
     static final String DEFAULT_URL_PROTOCOL_REF = "{" + PROTOCOL_REQUEST_PLACEHOLDER + "}://{" + HOSTNAME_REQUEST_PLACEHOLDER + "}:{" + PORT_REQUEST_PLACEHOLDER + "}{" + CONTEXT_PATH + "}/{" + TENANT_PLACEHOLDER + "}/controller/v1/{" + CONTROLLER_ID_PLACEHOLDER + "}/softwaremodules/{" + SOFTWARE_MODULE_ID_PLACEHOLDER + "}/artifacts/{" + ARTIFACT_FILENAME_PLACEHOLDER + "}";
 
     private final PropertyBasedArtifactUrlResolverProperties urlHandlerProperties;
     private final String contextPath;
+    // by protocol key - rebuilt if the nodes are changed
+    private final Map<String, MirrorsState> mirrors = new ConcurrentHashMap<>();
+    private ScheduledExecutorService healthCheckExecutor;
 
     @SuppressWarnings("java:S3358") // better readable this way
     public PropertyBasedArtifactUrlResolver(final PropertyBasedArtifactUrlResolverProperties urlHandlerProperties, final String contextPath) {
@@ -76,16 +93,26 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
 
     @Override
     public List<ArtifactUrl> getUrls(final DownloadDescriptor downloadDescriptor, final ApiType api, final URI requestUri) {
-        return urlHandlerProperties.getProtocols().values().stream()
-                .filter(urlProtocol -> urlProtocol.isEnabled() && urlProtocol.getSupports().contains(api))
-                .map(urlProtocol -> new ArtifactUrl(
-                        urlProtocol.getProtocol().toUpperCase(), urlProtocol.getRel(),
-                        generateUrl(urlProtocol, downloadDescriptor, requestUri)))
+        return urlHandlerProperties.getProtocols().entrySet().stream()
+                .filter(entry -> entry.getValue().isEnabled() && entry.getValue().getSupports().contains(api))
+                .map(entry -> new ArtifactUrl(
+                        entry.getValue().getProtocol().toUpperCase(), entry.getValue().getRel(),
+                        generateUrl(entry.getKey(), entry.getValue(), downloadDescriptor, requestUri)))
                 .toList();
     }
 
-    private String generateUrl(final UrlProtocol protocol, final DownloadDescriptor placeholder, final URI requestUri) {
-        final Set<Entry<String, String>> entrySet = getReplaceMap(protocol, placeholder, requestUri).entrySet();
+    // the URLs depend on the configuration and, if mirror nodes are configured, on the health of the nodes
+    @Override
+    public String getEpoch() {
+        final StringBuilder epoch = new StringBuilder(contextPath).append('|').append(new TreeMap<>(urlHandlerProperties.getProtocols()));
+        new TreeMap<>(mirrors).forEach((protocolKey, state) ->
+                epoch.append('|').append(protocolKey).append('=').append(state.ring().getUnhealthy()));
+        return epoch.toString();
+    }
+
+    private String generateUrl(
+            final String protocolKey, final UrlProtocol protocol, final DownloadDescriptor placeholder, final URI requestUri) {
+        final Set<Entry<String, String>> entrySet = getReplaceMap(protocolKey, protocol, placeholder, requestUri).entrySet();
         String urlPattern = protocol.getRef();
         for (final Entry<String, String> entry : entrySet) {
             if (List.of(PORT_PLACEHOLDER, PORT_REQUEST_PLACEHOLDER).contains(entry.getKey())) {
@@ -100,7 +127,8 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
         return urlPattern;
     }
 
-    private Map<String, String> getReplaceMap(final UrlProtocol protocol, final DownloadDescriptor placeholder, final URI requestUri) {
+    private Map<String, String> getReplaceMap(
+            final String protocolKey, final UrlProtocol protocol, final DownloadDescriptor placeholder, final URI requestUri) {
         final Map<String, String> replaceMap = new HashMap<>();
 
         replaceMap.put(PROTOCOL_PLACEHOLDER, protocol.getProtocol());
@@ -126,9 +154,61 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
         replaceMap.put(SOFTWARE_MODULE_ID_PLACEHOLDER, String.valueOf(placeholder.softwareModuleId()));
         replaceMap.put(ARTIFACT_FILENAME_PLACEHOLDER, URLEncoder.encode(placeholder.filename(), StandardCharsets.UTF_8));
         replaceMap.put(ARTIFACT_SHA1_PLACEHOLDER, placeholder.sha1());
+        replaceMap.put(MIRROR_PLACEHOLDER, getMirror(protocolKey, protocol, placeholder));
         return replaceMap;
     }
 
+    // null (i.e. not replaced) if there are no mirror nodes
+    private String getMirror(final String protocolKey, final UrlProtocol protocol, final DownloadDescriptor placeholder) {
+        final Mirrors config = protocol.getMirrors();
+        if (ObjectUtils.isEmpty(config.getNodes())) {
+            return null;
+        }
+        MirrorsState state = mirrors.get(protocolKey);
+        if (state == null || !state.ring().getNodes().equals(config.getNodes())) {
+            state = mirrors.compute(protocolKey, (key, current) -> current != null && current.ring().getNodes().equals(config.getNodes())
+                    ? current
+                    : createMirrorsState(current, protocol));
+        }
+        return state.ring().select(placeholder.tenant() + '/' + placeholder.sha1());
+    }
+
+    @Override
+    public void destroy() {
+        mirrors.values().forEach(MirrorsState::close);
+        mirrors.clear();
+        synchronized (this) {
+            if (healthCheckExecutor != null) {
+                healthCheckExecutor.shutdownNow();
+                healthCheckExecutor = null;
+            }
+        }
+    }
+
+    private MirrorsState createMirrorsState(final MirrorsState current, final UrlProtocol protocol) {
+        if (current != null) {
+            current.close();
+        }
+        final Mirrors config = protocol.getMirrors();
+        final ConsistentHashMirrors ring = new ConsistentHashMirrors(config.getNodes(), config.getVirtualNodes());
+        if (ObjectUtils.isEmpty(config.getHealthCheckPath())) {
+            return new MirrorsState(ring, null, null);
+        }
+        final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(config.getHealthCheckTimeout()).build();
+        final long interval = config.getHealthCheckInterval().toMillis();
+        return new MirrorsState(ring, httpClient, getHealthCheckExecutor().scheduleWithFixedDelay(
+                () -> ring.checkHealth(httpClient, protocol.getProtocol(), config.getHealthCheckPath(), config.getHealthCheckTimeout()),
+                0, interval, TimeUnit.MILLISECONDS));
+    }
+
+    private synchronized ScheduledExecutorService getHealthCheckExecutor() {
+        if (healthCheckExecutor == null) {
+            healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("artifact-mirrors-health-check").daemon().factory());
+        }
+        return healthCheckExecutor;
+    }
+
     private static String getPort(final UrlProtocol protocol) {
         return ObjectUtils.isEmpty(protocol.getPort()) ? null : String.valueOf(protocol.getPort());
     }
@@ -149,4 +229,15 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
         final String domain = StringUtils.collectionToDelimitedString(domainElements.subList(1, domainElements.size()), ".");
         return StringUtils.delimitedListToStringArray(protocol.getHostname(), ".")[0].trim() + "." + domain;
     }
+
+    private record MirrorsState(ConsistentHashMirrors ring, HttpClient httpClient, ScheduledFuture<?> healthCheck) {
+
+        // stops the health check - a running one is aborted by closing the client
+        private void close() {
+            if (healthCheck != null) {
+                healthCheck.cancel(false);
+                httpClient.shutdownNow();
+            }
+        }
+    }
 }
\ No newline at end of file
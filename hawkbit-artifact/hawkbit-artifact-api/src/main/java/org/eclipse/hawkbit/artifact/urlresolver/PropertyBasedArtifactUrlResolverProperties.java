@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.artifact.urlresolver;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -81,8 +82,47 @@ public class PropertyBasedArtifactUrlResolverProperties {
          */
         private List<ApiType> supports = List.of(ApiType.DDI, ApiType.DMF, ApiType.MGMT);
 
+        /**
+         * Mirror nodes for the <code>{mirror}</code> placeholder that can be used in ref pattern.
+         */
+        private final Mirrors mirrors = new Mirrors();
+
         public void setSupports(final List<ApiType> supports) {
             this.supports = Collections.unmodifiableList(supports);
         }
     }
+
+    /**
+     * Mirror (e.g. edge cache) nodes the artifacts are downloaded from. Each artifact (tenant and SHA-1 hash) is mapped onto one of
+     * the healthy nodes by consistent hashing.
+     */
+    @Data
+    public static class Mirrors {
+
+        /**
+         * The mirror nodes - as host or host:port, as replaced in the ref pattern.
+         */
+        private List<String> nodes = List.of();
+
+        /**
+         * Number of the positions of each node on the consistent hash ring. The more, the more even is the distribution.
+         */
+        private int virtualNodes = 100;
+
+        /**
+         * Path of the health check URL of the nodes, e.g. <code>/health</code>. If set, the nodes are checked periodically and the
+         * artifacts of the unhealthy nodes are mapped onto the next (healthy) nodes of the ring.
+         */
+        private String healthCheckPath;
+
+        /**
+         * Interval of the health checks.
+         */
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+        /**
+         * Timeout of a health check.
+         */
+        private Duration healthCheckTimeout = Duration.ofSeconds(2);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Feature: Unit Tests - Artifact Storage<br/>
+ * Story: Chunked artifact upload
+ */
+class ChunkedArtifactUploadTest {
+
+    private static final int CHUNK_SIZE = 100_000;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Verifies that chunks uploaded out of order and in parallel result in the complete binary and its hashes.
+     */
+    @Test
+    void uploadChunksInParallel() throws Exception {
+        final byte[] content = randomBytes(10 * CHUNK_SIZE + 123);
+        final List<Integer> offsets = new ArrayList<>();
+        for (int offset = 0; offset < content.length; offset += CHUNK_SIZE) {
+            offsets.add(offset);
+        }
+        Collections.shuffle(offsets, new Random(1));
+
+        final File file = Files.createFile(tempDir.resolve("upload")).toFile();
+        try (final ChunkedArtifactUpload upload = new ChunkedArtifactUpload(file, content.length);
+                final ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            final List<Future<Long>> written = new ArrayList<>();
+            for (final int offset : offsets) {
+                written.add(executor.submit(() -> upload.write(offset, chunk(content, offset))));
+            }
+            for (final Future<Long> future : written) {
+                future.get();
+            }
+
+            assertThat(upload.isComplete()).isTrue();
+            assertThat(upload.getReceived()).singleElement().satisfies(range -> assertThat(range).containsExactly(0, content.length));
+            assertThat(upload.getHashes()).isEqualTo(hashes(content));
+            try (final InputStream in = upload.openContent()) {
+                assertThat(in.readAllBytes()).isEqualTo(content);
+            }
+        }
+        // deleted by the storage
+        assertThat(file).exists();
+    }
+
+    /**
+     * Verifies that the received ranges are reported, so the upload could be resumed, and retried chunks are accepted.
+     */
+    @Test
+    void resumeUpload() throws IOException, NoSuchAlgorithmException {
+        final byte[] content = randomBytes(3 * CHUNK_SIZE);
+        try (final ChunkedArtifactUpload upload =
+                new ChunkedArtifactUpload(Files.createFile(tempDir.resolve("upload")).toFile(), content.length)) {
+            upload.write(0, chunk(content, 0));
+            upload.write(2L * CHUNK_SIZE, chunk(content, 2 * CHUNK_SIZE));
+
+            assertThat(upload.isComplete()).isFalse();
+            assertThat(upload.getReceived()).hasSize(2);
+            assertThat(upload.getReceived().get(0)).containsExactly(0, CHUNK_SIZE);
+            assertThat(upload.getReceived().get(1)).containsExactly(2L * CHUNK_SIZE, 3L * CHUNK_SIZE);
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(upload::getHashes);
+
+            // retry of a received chunk
+            upload.write(0, chunk(content, 0));
+            upload.write(CHUNK_SIZE, chunk(content, CHUNK_SIZE));
+
+            assertThat(upload.isComplete()).isTrue();
+            assertThat(upload.getHashes()).isEqualTo(hashes(content));
+        }
+    }
+
+    /**
+     * Verifies that an upload opened again (e.g. by another node) marks the chunks written by the other instance as received, and
+     * digests them for the hashes.
+     */
+    @Test
+    void reopenUpload() throws IOException, NoSuchAlgorithmException {
+        final byte[] content = randomBytes(3 * CHUNK_SIZE);
+        final File file = tempDir.resolve("upload").toFile();
+        try (final ChunkedArtifactUpload upload = new ChunkedArtifactUpload(file, content.length)) {
+            upload.write(CHUNK_SIZE, chunk(content, CHUNK_SIZE));
+        }
+        try (final ChunkedArtifactUpload upload = new ChunkedArtifactUpload(file, content.length)) {
+            upload.write(0, chunk(content, 0));
+            upload.write(2L * CHUNK_SIZE, chunk(content, 2 * CHUNK_SIZE));
+            assertThat(upload.isComplete()).isFalse();
+
+            upload.markReceived(CHUNK_SIZE, 2L * CHUNK_SIZE);
+
+            assertThat(upload.isComplete()).isTrue();
+            assertThat(upload.getHashes()).isEqualTo(hashes(content));
+        }
+        assertThat(file).exists();
+    }
+
+    /**
+     * Verifies that chunks exceeding the binary or overwriting the already digested content are rejected.
+     */
+    @Test
+    void rejectInvalidChunks() throws IOException {
+        final byte[] content = randomBytes(2 * CHUNK_SIZE);
+        try (final ChunkedArtifactUpload upload =
+                new ChunkedArtifactUpload(Files.createFile(tempDir.resolve("upload")).toFile(), content.length)) {
+            final byte[] tooLarge = randomBytes(CHUNK_SIZE + 1);
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> upload.write(CHUNK_SIZE, new ByteArrayInputStream(tooLarge)));
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> upload.write(-1, chunk(content, 0)));
+
+            upload.write(0, chunk(content, 0));
+            final byte[] modified = Arrays.copyOfRange(content, CHUNK_SIZE / 2, CHUNK_SIZE + CHUNK_SIZE / 2);
+            modified[0] ^= 1;
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> upload.write(CHUNK_SIZE / 2, new ByteArrayInputStream(modified)));
+        }
+    }
+
+    /**
+     * Verifies that closing an upload while a chunk is written closes it after the write, keeping the staging file, and rejects further
+     * writes.
+     */
+    @Test
+    void closeWhileWriting() throws Exception {
+        final byte[] content = randomBytes(CHUNK_SIZE);
+        final File file = Files.createFile(tempDir.resolve("upload")).toFile();
+        final ChunkedArtifactUpload upload = new ChunkedArtifactUpload(file, content.length);
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final InputStream blockingChunk = new ByteArrayInputStream(content) {
+
+            @Override
+            public synchronized int read(final byte[] b, final int off, final int len) {
+                reading.countDown();
+                try {
+                    closed.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(b, off, len);
+            }
+        };
+
+        try (final ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            final Future<Long> written = executor.submit(() -> upload.write(0, blockingChunk));
+            reading.await();
+            upload.close();
+            assertThat(file).exists();
+            closed.countDown();
+            assertThat(written.get()).isEqualTo(content.length);
+        }
+        assertThat(file).exists().hasSize(content.length);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> upload.write(0, chunk(content, 0)));
+    }
+
+    private static InputStream chunk(final byte[] content, final int offset) {
+        return new ByteArrayInputStream(content, offset, Math.min(CHUNK_SIZE, content.length - offset));
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static ArtifactHashes hashes(final byte[] content) throws NoSuchAlgorithmException {
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        return new ArtifactHashes(
+                hexFormat.formatHex(MessageDigest.getInstance("SHA1").digest(content)),
+                hexFormat.formatHex(MessageDigest.getInstance("MD5").digest(content)),
+                hexFormat.formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sequential hashing of an artifact binary with chained {@link DigestInputStream}s (the former approach of
+ * {@link AbstractArtifactStorage#store}) with the {@link ParallelDigester}. The binary is copied to a discarding output, so only the
+ * hashing and the copying are measured. Not run by the build - run with (after <code>mvn test-compile</code>):
+ * <pre>
+ * java -cp &lt;test classpath&gt; org.openjdk.jmh.Main DigestBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DigestBenchmark {
+
+    @Param({ "1048576", "67108864", "268435456" }) // 1 MiB, 64 MiB, 256 MiB
+    private int size;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        content = new byte[size];
+        new Random(size).nextBytes(content);
+    }
+
+    @Benchmark
+    public MessageDigest sequential() throws IOException, NoSuchAlgorithmException {
+        final MessageDigest mdSHA1 = MessageDigest.getInstance("SHA1");
+        final MessageDigest mdMD5 = MessageDigest.getInstance("MD5");
+        final MessageDigest mdSHA256 = MessageDigest.getInstance("SHA-256");
+        try (final InputStream in = new DigestInputStream(
+                new DigestInputStream(new DigestInputStream(new ByteArrayInputStream(content), mdSHA256), mdMD5), mdSHA1)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        mdMD5.digest();
+        mdSHA256.digest();
+        return mdSHA1;
+    }
+
+    @Benchmark
+    public ArtifactHashes parallel() throws IOException {
+        return ParallelDigester.copy(new ByteArrayInputStream(content), OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Feature: Unit Tests - Artifact Storage<br/>
+ * Story: Parallel hashing of artifact binaries
+ */
+class ParallelDigesterTest {
+
+    /**
+     * Verifies that the content is copied unmodified and the hashes match the sequentially computed ones, also for contents of
+     * exactly one chunk and contents which need more chunks than the chunk pool size.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {
+            0, 1, ParallelDigester.CHUNK_SIZE, ParallelDigester.CHUNK_SIZE + 1,
+            ParallelDigester.CHUNK_SIZE * (ParallelDigester.POOL_SIZE * 2) + 17 })
+    void copyAndDigest(final int size) throws IOException, NoSuchAlgorithmException {
+        final byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ArtifactHashes hashes = ParallelDigester.copy(new ByteArrayInputStream(content), out);
+
+        assertThat(out.toByteArray()).isEqualTo(content);
+        assertThat(hashes).isEqualTo(new ArtifactHashes(hash("SHA1", content), hash("MD5", content), hash("SHA-256", content)));
+    }
+
+    private static String hash(final String algorithm, final byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().withLowerCase().formatHex(MessageDigest.getInstance(algorithm).digest(content));
+    }
+}
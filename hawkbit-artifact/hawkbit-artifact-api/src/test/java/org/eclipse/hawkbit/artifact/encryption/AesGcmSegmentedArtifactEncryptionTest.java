@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.encryption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.hawkbit.artifact.model.Seekable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Feature: Unit Tests - Artifact Encryption<br/>
+ * Story: Segmented AES-GCM artifact encryption
+ */
+class AesGcmSegmentedArtifactEncryptionTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    private final AesGcmSegmentedArtifactEncryption encryption = new AesGcmSegmentedArtifactEncryption(SEGMENT_SIZE);
+    private final Map<String, String> secrets = encryption.generateSecrets();
+
+    /**
+     * Verifies that artifacts of any size are decrypted to the original and the decrypted size is computed from the encrypted size.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, 3 * SEGMENT_SIZE, 3 * SEGMENT_SIZE + 17 })
+    void encryptAndDecrypt(final int size) throws IOException {
+        final byte[] plain = randomBytes(size);
+        final byte[] encrypted = encrypt(plain);
+
+        assertThat(encryption.decryptedSize(encrypted.length)).isEqualTo(size);
+        try (final InputStream decrypted = encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted))) {
+            assertThat(decrypted).isNotInstanceOf(Seekable.class);
+            assertThat(decrypted.readAllBytes()).isEqualTo(plain);
+        }
+        try (final InputStream decrypted = encryption.decryptStream(secrets, new SeekableStream(encrypted))) {
+            assertThat(decrypted.readAllBytes()).isEqualTo(plain);
+        }
+    }
+
+    /**
+     * Verifies that the decrypted stream of a seekable encrypted stream supports positional reads and skipping, across segments.
+     */
+    @Test
+    void readPositionalFromSeekable() throws IOException {
+        final byte[] plain = randomBytes(5 * SEGMENT_SIZE + 100);
+        try (final InputStream decrypted = encryption.decryptStream(secrets, new SeekableStream(encrypt(plain)))) {
+            assertThat(decrypted).isInstanceOf(Seekable.class);
+            final Seekable seekable = (Seekable) decrypted;
+            assertThat(seekable.size()).isEqualTo(plain.length);
+
+            // in reversed order and crossing segment boundaries
+            for (final int position : new int[] { 4 * SEGMENT_SIZE + 1000, 2 * SEGMENT_SIZE - 10, 5 }) {
+                final ByteBuffer dst = ByteBuffer.allocate(50);
+                long pos = position;
+                while (dst.hasRemaining()) {
+                    pos += seekable.read(dst, pos);
+                }
+                assertThat(dst.array()).isEqualTo(Arrays.copyOfRange(plain, position, position + 50));
+            }
+            assertThat(seekable.read(ByteBuffer.allocate(1), plain.length)).isEqualTo(-1);
+
+            assertThat(decrypted.skip(3L * SEGMENT_SIZE)).isEqualTo(3L * SEGMENT_SIZE);
+            assertThat(decrypted.readAllBytes()).isEqualTo(Arrays.copyOfRange(plain, 3 * SEGMENT_SIZE, plain.length));
+        }
+    }
+
+    /**
+     * Verifies that modified, reordered or truncated encrypted artifacts are not decrypted.
+     */
+    @Test
+    void detectTamperingAndTruncation() {
+        final byte[] encrypted = encrypt(randomBytes(3 * SEGMENT_SIZE));
+        final int encryptedSegmentSize = SEGMENT_SIZE + 16;
+
+        final byte[] modified = encrypted.clone();
+        modified[modified.length / 2] ^= 1;
+        assertDecryptionFails(modified);
+
+        final byte[] modifiedHeader = encrypted.clone();
+        modifiedHeader[3] ^= 1;
+        assertDecryptionFails(modifiedHeader);
+
+        final byte[] reordered = encrypted.clone();
+        System.arraycopy(encrypted, 8, reordered, 8 + encryptedSegmentSize, encryptedSegmentSize);
+        System.arraycopy(encrypted, 8 + encryptedSegmentSize, reordered, 8, encryptedSegmentSize);
+        assertDecryptionFails(reordered);
+
+        // truncated at segment boundary
+        assertDecryptionFails(Arrays.copyOf(encrypted, 8 + 2 * encryptedSegmentSize));
+        assertDecryptionFails(Arrays.copyOf(encrypted, encrypted.length - 1));
+    }
+
+    private void assertDecryptionFails(final byte[] encrypted) {
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> {
+            try (final InputStream decrypted = encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted))) {
+                decrypted.readAllBytes();
+            }
+        });
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> {
+            try (final InputStream decrypted = encryption.decryptStream(secrets, new SeekableStream(encrypted))) {
+                decrypted.readAllBytes();
+            }
+        });
+    }
+
+    private byte[] encrypt(final byte[] plain) {
+        try (final InputStream encrypted = encryption.encryptStream(secrets, new ByteArrayInputStream(plain))) {
+            return encrypted.readAllBytes();
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static class SeekableStream extends ByteArrayInputStream implements Seekable {
+
+        private SeekableStream(final byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public long size() {
+            return buf.length;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position) {
+            if (position >= buf.length) {
+                return -1;
+            }
+            final int n = (int) Math.min(dst.remaining(), buf.length - position);
+            dst.put(buf, (int) position, n);
+            return n;
+        }
+    }
+}
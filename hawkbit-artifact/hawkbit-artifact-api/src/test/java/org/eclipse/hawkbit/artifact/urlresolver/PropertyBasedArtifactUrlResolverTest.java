@@ -10,10 +10,13 @@
 package org.eclipse.hawkbit.artifact.urlresolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
 import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties.UrlProtocol;
@@ -192,4 +195,98 @@ class PropertyBasedArtifactUrlResolverTest {
                         "http://host.bumlux.net/" + TENANT + "/controller/v1/" +
                                 CONTROLLER_ID + "/softwaremodules/" + SOFTWARE_MODULE_ID + "/artifacts/" + FILENAME_ENCODED));
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that the mirror node is selected by consistent hashing - stable for an artifact and mostly kept if a node is added.
+     */
+    @Test
+    void urlGenerationWithMirror() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setRef("{protocol}://{mirror}/{tenant}/artifacts/{artifactSHA1}");
+        proto.getMirrors().setNodes(List.of("edge1:8080", "edge2:8080", "edge3:8080"));
+        properties.getProtocols().put("download-http", proto);
+
+        final String url = urlHandlerUnderTest.getUrls(DOWNLOAD_DESCRIPTOR, ArtifactUrlResolver.ApiType.DDI).get(0).ref();
+        assertThat(url).matches("http://edge[123]:8080/" + TENANT + "/artifacts/" + SHA1);
+        assertThat(urlHandlerUnderTest.getUrls(DOWNLOAD_DESCRIPTOR, ArtifactUrlResolver.ApiType.DDI).get(0).ref()).isEqualTo(url);
+
+        final List<String> keys = IntStream.range(0, 1000).mapToObj(i -> TENANT + "/" + i).toList();
+        final ConsistentHashMirrors mirrors = new ConsistentHashMirrors(List.of("edge1", "edge2", "edge3"), 100);
+        final ConsistentHashMirrors extendedMirrors = new ConsistentHashMirrors(List.of("edge1", "edge2", "edge3", "edge4"), 100);
+        final long moved = keys.stream().filter(key -> !mirrors.select(key).equals(extendedMirrors.select(key))).count();
+        // ~1/4 expected, all to the new node
+        assertThat(moved).isBetween(100L, 400L);
+        assertThat(keys.stream().filter(key -> !mirrors.select(key).equals(extendedMirrors.select(key))).map(extendedMirrors::select))
+                .containsOnly("edge4");
+    }
+
+    /**
+     * Verifies that the epoch of the URLs is stable as long as the configuration is not changed.
+     */
+    @Test
+    void epochChangedWithConfiguration() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setRef("{protocol}://{mirror}/{tenant}/artifacts/{artifactSHA1}");
+        proto.getMirrors().setNodes(List.of("edge1:8080", "edge2:8080"));
+        properties.getProtocols().put("download-http", proto);
+        urlHandlerUnderTest.getUrls(DOWNLOAD_DESCRIPTOR, ArtifactUrlResolver.ApiType.DDI);
+
+        final String epoch = urlHandlerUnderTest.getEpoch();
+        assertThat(epoch).isNotNull().isEqualTo(urlHandlerUnderTest.getEpoch());
+
+        proto.getMirrors().setNodes(List.of("edge1:8080", "edge3:8080"));
+        assertThat(urlHandlerUnderTest.getEpoch()).isNotEqualTo(epoch);
+    }
+
+    /**
+     * Verifies that the health checks of the mirror nodes are stopped when the resolver is destroyed.
+     */
+    @Test
+    void healthCheckIsStoppedOnDestroy() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setRef("{protocol}://{mirror}/{tenant}/artifacts/{artifactSHA1}");
+        proto.getMirrors().setNodes(List.of("localhost:1"));
+        proto.getMirrors().setHealthCheckPath("/health");
+        properties.getProtocols().put("download-http", proto);
+
+        assertThat(urlHandlerUnderTest.getUrls(DOWNLOAD_DESCRIPTOR, ArtifactUrlResolver.ApiType.DDI)).isNotEmpty();
+        assertThat(healthCheckThreadAlive()).isTrue();
+
+        ((PropertyBasedArtifactUrlResolver) urlHandlerUnderTest).destroy();
+        await().atMost(Duration.ofSeconds(10)).until(() -> !healthCheckThreadAlive());
+    }
+
+    /**
+     * Verifies that the artifacts of an unhealthy mirror node fall back to the other nodes, and only these.
+     */
+    @Test
+    void mirrorFallbackIfUnhealthy() {
+        final ConsistentHashMirrors mirrors = new ConsistentHashMirrors(List.of("edge1", "edge2", "edge3"), 100);
+        final List<String> keys = IntStream.range(0, 1000).mapToObj(i -> TENANT + "/" + i).toList();
+        final List<String> selected = keys.stream().map(mirrors::select).toList();
+
+        mirrors.setHealthy("edge2", false);
+        assertThat(mirrors.getUnhealthy()).containsExactly("edge2");
+        for (int i = 0; i < keys.size(); i++) {
+            final String node = mirrors.select(keys.get(i));
+            if ("edge2".equals(selected.get(i))) {
+                assertThat(node).isIn("edge1", "edge3");
+            } else {
+                assertThat(node).isEqualTo(selected.get(i));
+            }
+        }
+
+        // no healthy node - the primary node is selected
+        mirrors.setHealthy("edge1", false);
+        mirrors.setHealthy("edge3", false);
+        assertThat(keys.stream().map(mirrors::select).toList()).isEqualTo(selected);
+
+        mirrors.setHealthy("edge2", true);
+        assertThat(keys.stream().map(mirrors::select).toList()).containsOnly("edge2");
+    }
+
+    private static boolean healthCheckThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> "artifact-mirrors-health-check".equals(thread.getName()) && thread.isAlive());
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Content addressed store of the artifact binaries, shared by all tenants. The artifact file of a tenant is a hard link to the blob
+ * with the same SHA-1 hash, so a binary uploaded by many tenants (e.g. a vendor base image) is stored, and cached by the page cache,
+ * only once.
+ * <p/>
+ * The references are counted by the file-system - the link count of a blob is its number of tenant files plus one (the blob itself).
+ * A blob which is not referenced by any tenant file anymore is deleted. Deleting a blob never affects the tenant files - they keep
+ * the content. At worst, a blob collected concurrently to a new reference just doesn't share the content with the further uploads.
+ * <p/>
+ * The blobs are stored in <code>/basepath/.blobs/[two digit sha1]/[two digit sha1]/[sha1]</code>, i.e. on the same file-system as the
+ * tenant files, as required for hard links. If the file-system doesn't support hard links, the binaries are just not shared.
+ * <p/>
+ * Walking the blobs is expensive - so the blob metrics are computed periodically in the background, not on the metrics scrapes.
+ */
+@Slf4j
+class ArtifactBlobs {
+
+    // starts with a '.' - can't clash with the directory of a (sanitized, upper case) tenant
+    static final String BLOBS_DIRECTORY = ".blobs";
+
+    private static final String LINK_COUNT = "unix:nlink";
+    private static final long STATS_INTERVAL_MINUTES = 5;
+
+    private final Path directory;
+    private final AtomicLong shared = new AtomicLong();
+    private volatile Stats stats = new Stats(0, 0);
+    private @Nullable ScheduledExecutorService statsExecutor;
+
+    ArtifactBlobs(final Path basePath) {
+        directory = basePath.resolve(BLOBS_DIRECTORY);
+    }
+
+    /**
+     * @param basePath the base path of the artifacts
+     * @return if the file-system supports the link counts the references are counted by
+     */
+    static boolean isSupported(final Path basePath) {
+        try {
+            Files.createDirectories(basePath);
+            Files.getAttribute(basePath, LINK_COUNT);
+            return true;
+        } catch (final IOException | UnsupportedOperationException | IllegalArgumentException e) {
+            log.warn("Artifact deduplication is not supported by the file-system of {}: {}", basePath, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Publishes the staging file as the artifact file of a tenant - as a link to the existing blob (and drops the staging file) or as
+     * a new blob.
+     *
+     * @param stagingFile the staging file with the binary
+     * @param file the (not existing) artifact file of the tenant
+     * @param sha1 the SHA-1 hash of the binary
+     * @throws IOException if publishing fails
+     */
+    void publish(final File stagingFile, final File file, final String sha1) throws IOException {
+        final Path blob = blob(sha1);
+        try {
+            Files.createLink(file.toPath(), blob);
+            // the blob could be old - the tenant file shall be protected by the grace period of the garbage collection
+            Files.setLastModifiedTime(file.toPath(), FileTime.from(Instant.now()));
+            Files.deleteIfExists(stagingFile.toPath());
+            shared.incrementAndGet();
+            return;
+        } catch (final FileAlreadyExistsException e) {
+            // concurrent upload of the same binary by the same tenant
+            Files.deleteIfExists(stagingFile.toPath());
+            return;
+        } catch (final NoSuchFileException e) {
+            // no blob (anymore) - new binary
+        } catch (final IOException | UnsupportedOperationException e) {
+            log.warn("Could not link {} to blob {}, stored unshared: {}", file, blob, e.getMessage());
+        }
+
+        // the tenant file is published first - so the binary is never lost, even if the blob is collected concurrently
+        FileArtifactStorage.publish(stagingFile, file);
+        try {
+            Files.createDirectories(blob.getParent());
+            Files.createLink(blob, file.toPath());
+        } catch (final FileAlreadyExistsException e) {
+            // concurrently created for another tenant - this file stays unshared
+        } catch (final IOException | UnsupportedOperationException e) {
+            log.warn("Could not create blob {} of {}: {}", blob, file, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the blob, if not referenced by a tenant file anymore. Shall be called after a tenant file is deleted.
+     *
+     * @param sha1 the SHA-1 hash of the binary
+     */
+    void release(final String sha1) {
+        deleteIfUnreferenced(blob(sha1));
+    }
+
+    /**
+     * Deletes all blobs not referenced by a tenant file anymore, e.g. after all files of a tenant are deleted.
+     *
+     * @return the size of the deleted blobs in bytes
+     */
+    long releaseAll() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (final Stream<Path> blobs = Files.walk(directory)) {
+            return blobs.filter(Files::isRegularFile).mapToLong(ArtifactBlobs::deleteIfUnreferenced).sum();
+        } catch (final IOException | UncheckedIOException e) {
+            log.warn("Could not release the blobs in {}", directory, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Binds the deduplication metrics and starts their periodic computation.
+     *
+     * @param meterRegistry the registry to bind to
+     */
+    synchronized void bindMetrics(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("hawkbit.artifact.dedup.shared", shared, AtomicLong::get)
+                .description("Stored artifacts which share the binary of an already stored one")
+                .register(meterRegistry);
+        Gauge.builder("hawkbit.artifact.dedup.blobs", this, blobs -> blobs.stats.blobs())
+                .description("Number of the shared binaries")
+                .register(meterRegistry);
+        Gauge.builder("hawkbit.artifact.dedup.saved", this, blobs -> blobs.stats.savedBytes())
+                .description("Storage saved by sharing the binaries")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        if (statsExecutor == null) {
+            statsExecutor = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("artifact-dedup-stats").daemon().factory());
+            statsExecutor.scheduleWithFixedDelay(this::computeStats, 0, STATS_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Stops the computation of the metrics.
+     */
+    synchronized void close() {
+        if (statsExecutor != null) {
+            statsExecutor.shutdownNow();
+            statsExecutor = null;
+        }
+    }
+
+    private void computeStats() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long blobs = 0;
+        long savedBytes = 0;
+        try (final Stream<Path> files = Files.walk(directory)) {
+            for (final Path blob : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                blobs++;
+                // the blob itself, the first tenant file and the further (sharing) tenant files
+                savedBytes += Math.max(0, linkCount(blob) - 2) * Files.size(blob);
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            // e.g. a blob deleted concurrently - the previous stats are kept until the next computation
+            log.debug("Could not compute the blob stats", e);
+            return;
+        }
+        stats = new Stats(blobs, savedBytes);
+    }
+
+    private Path blob(final String sha1) {
+        final int length = sha1.length();
+        return directory.resolve(sha1.substring(length - 4, length - 2)).resolve(sha1.substring(length - 2, length)).resolve(sha1);
+    }
+
+    // returns the size of the deleted blob, 0 if not deleted
+    private static long deleteIfUnreferenced(final Path blob) {
+        try {
+            if (linkCount(blob) <= 1) {
+                final long size = Files.size(blob);
+                return Files.deleteIfExists(blob) ? size : 0;
+            }
+        } catch (final NoSuchFileException e) {
+            // not shared or already deleted
+        } catch (final IOException e) {
+            log.warn("Could not release blob {}", blob, e);
+        }
+        return 0;
+    }
+
+    private static int linkCount(final Path path) throws IOException {
+        return (Integer) Files.getAttribute(path, LINK_COUNT);
+    }
+
+    private record Stats(long blobs, long savedBytes) {}
+}
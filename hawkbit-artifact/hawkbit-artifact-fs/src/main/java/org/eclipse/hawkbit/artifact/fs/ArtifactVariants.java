@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.fs;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Pre-compressed (gzip) variants of the artifact files. A variant is stored next to the artifact file, as
+ * <code>[sha1].gz</code>, and its SHA-1 hash is recorded in <code>[sha1].gz.sha1</code>. The hash file is written last, so a variant
+ * is available only if it is completely written. If the variant doesn't compress well enough, only an empty hash file is written, so
+ * it is not tried again.
+ * <p/>
+ * The variants are produced in the background - when an artifact is stored and when a variant of an older artifact is requested for
+ * the first time.
+ */
+@Slf4j
+class ArtifactVariants {
+
+    static final String GZIP = "gzip";
+
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String HASH_SUFFIX = ".sha1";
+    private static final int BUFFER_SIZE = 0x10000;
+
+    private final long minSize;
+    private final double maxRatio;
+    private final Executor executor;
+    private final Callable<File> stagingFileFactory;
+    private final Set<String> inProduction = ConcurrentHashMap.newKeySet();
+
+    ArtifactVariants(final FileArtifactProperties.Variants properties, final Executor executor, final Callable<File> stagingFileFactory) {
+        minSize = properties.getMinSize().toBytes();
+        maxRatio = properties.getMaxRatio();
+        this.executor = executor;
+        this.stagingFileFactory = stagingFileFactory;
+    }
+
+    /**
+     * Returns the variant of the artifact file, if produced. Otherwise, triggers its production (if not yet tried).
+     *
+     * @param file the artifact file
+     * @param encoding the requested content coding
+     * @return the variant or {@code null} if the encoding is not supported or the variant is not available
+     */
+    @Nullable
+    ArtifactStream get(final File file, final String encoding) {
+        if (!GZIP.equalsIgnoreCase(encoding)) {
+            return null;
+        }
+
+        final File hashFile = hashFile(file);
+        try {
+            if (!hashFile.exists()) {
+                produce(file);
+                return null;
+            }
+            final String sha1Hash = Files.readString(hashFile.toPath(), StandardCharsets.US_ASCII).trim();
+            if (sha1Hash.isEmpty()) {
+                return null; // doesn't compress well enough
+            }
+            final File variant = variantFile(file);
+            return new ArtifactStream(
+                    new FileArtifactStorage.FileBackedInputStream(new FileInputStream(variant)), variant.length(), sha1Hash);
+        } catch (final IOException e) {
+            log.warn("Failed to read the {} variant of {}", GZIP, file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Triggers the (background) production of the variants of the artifact file, if large enough.
+     *
+     * @param file the artifact file
+     */
+    void produce(final File file) {
+        if (file.length() >= minSize && inProduction.add(file.getPath())) {
+            executor.execute(() -> {
+                try {
+                    produceGzip(file);
+                } catch (final Exception e) {
+                    log.warn("Failed to produce the {} variant of {}", GZIP, file, e);
+                } finally {
+                    inProduction.remove(file.getPath());
+                }
+            });
+        }
+    }
+
+    /**
+     * Deletes the variants of the artifact file.
+     *
+     * @param file the artifact file
+     */
+    static void delete(final File file) {
+        try {
+            Files.deleteIfExists(hashFile(file).toPath()); // first - so the variant is not available anymore
+            Files.deleteIfExists(variantFile(file).toPath());
+        } catch (final IOException e) {
+            log.warn("Failed to delete the variants of {}", file, e);
+        }
+    }
+
+    /**
+     * @param file the artifact file
+     * @return the total size of the variants of the artifact file, 0 if there are none
+     */
+    static long size(final File file) {
+        return variantFile(file).length() + hashFile(file).length();
+    }
+
+    // suppress warning, of not strong enough hashing algorithm, SHA-1 is not used security related
+    @SuppressWarnings("squid:S2070")
+    private void produceGzip(final File file) throws Exception {
+        final File hashFile = hashFile(file);
+        if (hashFile.exists() || !file.exists()) {
+            return;
+        }
+
+        final MessageDigest sha1 = MessageDigest.getInstance("SHA1");
+        final File staging = stagingFileFactory.call();
+        try {
+            try (final InputStream in = new FileInputStream(file);
+                    final OutputStream out = new GZIPOutputStream(
+                            new DigestOutputStream(new FileOutputStream(staging), sha1), BUFFER_SIZE)) {
+                in.transferTo(out);
+            }
+
+            final String sha1Hash;
+            if (staging.length() > file.length() * maxRatio) {
+                log.debug("{} variant of {} is dropped, it doesn't compress well enough", GZIP, file);
+                sha1Hash = "";
+            } else {
+                FileArtifactStorage.publish(staging, variantFile(file));
+                sha1Hash = HexFormat.of().withLowerCase().formatHex(sha1.digest());
+            }
+            writeHashFile(hashFile, sha1Hash);
+            log.debug("{} variant of {} produced", GZIP, file);
+        } finally {
+            Files.deleteIfExists(staging.toPath());
+        }
+    }
+
+    private void writeHashFile(final File hashFile, final String sha1Hash) throws Exception {
+        final File staging = stagingFileFactory.call();
+        try {
+            Files.writeString(staging.toPath(), sha1Hash, StandardCharsets.US_ASCII);
+            FileArtifactStorage.publish(staging, hashFile);
+        } finally {
+            Files.deleteIfExists(staging.toPath());
+        }
+    }
+
+    private static File variantFile(final File file) {
+        return new File(file.getPath() + GZIP_SUFFIX);
+    }
+
+    private static File hashFile(final File file) {
+        return new File(file.getPath() + GZIP_SUFFIX + HASH_SUFFIX);
+    }
+}
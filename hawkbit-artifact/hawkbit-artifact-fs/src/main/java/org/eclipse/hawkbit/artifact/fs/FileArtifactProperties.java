@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.artifact.fs;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Configuration properties for the file-system repository, e.g. the base-path to store the files.
@@ -23,4 +24,84 @@ public class FileArtifactProperties {
      * The base-path of the directory to store the artifacts.
      */
     private String path = "./artifactrepo";
-}
\ No newline at end of file
+
+    /**
+     * Cache of memory mapped, frequently downloaded, artifacts.
+     */
+    private final HotCache hotCache = new HotCache();
+
+    /**
+     * Pre-compressed (gzip) variants of the artifacts, served to the clients which accept them.
+     */
+    private final Variants variants = new Variants();
+
+    /**
+     * Deduplication of the artifact binaries across the tenants.
+     */
+    private final Dedup dedup = new Dedup();
+
+    /**
+     * Garbage collection of the artifact binaries which are not referenced anymore.
+     */
+    private final Gc gc = new Gc();
+
+    @Data
+    public static class HotCache {
+
+        /**
+         * Enables the cache of memory mapped artifacts.
+         */
+        private boolean enabled = false;
+        /**
+         * Maximal total size of the cached (mapped) artifacts.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(1024);
+        /**
+         * Maximal size of a single cached artifact, larger artifacts are always read from the file. Limited to 2 GiB.
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(512);
+        /**
+         * Number of downloads of an artifact (within 10 minutes) after which it is cached. Artifacts downloaded less often are read from
+         * the file, so they don't replace the frequently downloaded ones.
+         */
+        private int admissionHits = 2;
+    }
+
+    @Data
+    public static class Variants {
+
+        /**
+         * Enables the background production of the pre-compressed variants of the stored (and downloaded) artifacts.
+         */
+        private boolean enabled = false;
+        /**
+         * Minimal size of an artifact to produce variants for.
+         */
+        private DataSize minSize = DataSize.ofKilobytes(64);
+        /**
+         * Maximal ratio of the variant size to the artifact size, variants not compressing better are dropped.
+         */
+        private double maxRatio = 0.9;
+    }
+
+    @Data
+    public static class Dedup {
+
+        /**
+         * Enables sharing of the binaries uploaded by multiple tenants - the artifact files of the tenants are hard links to a single,
+         * content addressed, blob. Requires a file-system supporting hard links and link counts (e.g. POSIX file-systems). Applies to
+         * the artifacts stored after enabling it.
+         */
+        private boolean enabled = false;
+    }
+
+    @Data
+    public static class Gc {
+
+        /**
+         * Maximal number of files deleted per second by the garbage collection, so it doesn't compete with the downloads for the
+         * file-system. Set to 0 for no limit.
+         */
+        private int maxDeletesPerSecond = 100;
+    }
+}
@@ -15,15 +15,37 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
 import org.eclipse.hawkbit.artifact.ArtifactStorage;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.FileBacked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -34,37 +56,243 @@ import org.springframework.validation.annotation.Validated;
  * <p/>
  * Due to the limit of many file-systems of files within one directory, the files are stored in different subdirectories based on the last four
  * digits of the SHA1-hash {@code (/basepath/[two digit sha1]/[two digit sha1])}.
+ * <p/>
+ * Uploads are streamed into staging files in {@code /basepath/.staging}, i.e. on the same file-system as the artifacts, and published
+ * with an atomic rename - so there is no second copy of the binary and no partially written artifact is ever visible. The staging files
+ * of the chunked uploads are there, too - so, if the base directory is shared by the nodes of a cluster, any node could receive the
+ * chunks of an upload.
+ * <p/>
+ * Optionally (see {@link FileArtifactProperties#getHotCache()}), the downloaded artifacts are served from a cache of memory mappings.
+ * <p/>
+ * Optionally (see {@link FileArtifactProperties#getVariants()}), pre-compressed variants of the artifacts are produced, see
+ * {@link ArtifactVariants}.
+ * <p/>
+ * Optionally (see {@link FileArtifactProperties#getDedup()}), the binaries are shared by the tenants, see {@link ArtifactBlobs}.
+ * <p/>
+ * The directory of a deleted tenant is just moved to {@code /basepath/.trash} - it is deleted, with the not referenced binaries, the
+ * abandoned uploads and the orphaned variants, by the (throttled) garbage collection.
  */
+@Slf4j
 @Validated
-public class FileArtifactStorage extends AbstractArtifactStorage {
+public class FileArtifactStorage extends AbstractArtifactStorage implements DisposableBean {
+
+    // starts with a '.' - can't clash with the directory of a (sanitized, upper case) tenant
+    private static final String STAGING_DIRECTORY = ".staging";
+    private static final String STAGING_FILE_PREFIX = "upload";
+    private static final String CHUNKED_UPLOAD_FILE_PREFIX = "chunked-";
+    private static final String STAGING_FILE_SUFFIX = ".staging";
+    private static final String TRASH_DIRECTORY = ".trash";
+    private static final String GC_SUFFIX = ".gc";
 
     private final FileArtifactProperties artifactResourceProperties;
+    private final @Nullable HotArtifactCache hotCache;
+    private final @Nullable ArtifactVariants variants;
+    private final @Nullable ArtifactBlobs blobs;
+    // the executor of the variants, if created (and so to be shut down) by the storage
+    private final @Nullable ExecutorService ownedVariantsExecutor;
 
     public FileArtifactStorage(final FileArtifactProperties artifactResourceProperties) {
+        // variants are produced one by one, in the background - compression is CPU intensive and not urgent
+        this(artifactResourceProperties, artifactResourceProperties.getVariants().isEnabled()
+                ? Executors.newSingleThreadExecutor(Thread.ofPlatform().name("artifact-variants-", 0).daemon().factory())
+                : null, true);
+    }
+
+    FileArtifactStorage(final FileArtifactProperties artifactResourceProperties, final @Nullable Executor variantsExecutor) {
+        this(artifactResourceProperties, variantsExecutor, false);
+    }
+
+    private FileArtifactStorage(
+            final FileArtifactProperties artifactResourceProperties, final @Nullable Executor variantsExecutor,
+            final boolean ownsVariantsExecutor) {
         this.artifactResourceProperties = artifactResourceProperties;
+        ownedVariantsExecutor = ownsVariantsExecutor ? (ExecutorService) variantsExecutor : null;
+        final FileArtifactProperties.HotCache hotCacheProperties = artifactResourceProperties.getHotCache();
+        hotCache = hotCacheProperties.isEnabled()
+                ? new HotArtifactCache(
+                        hotCacheProperties.getMaxSize().toBytes(), hotCacheProperties.getMaxFileSize().toBytes(),
+                        hotCacheProperties.getAdmissionHits())
+                : null;
+        variants = artifactResourceProperties.getVariants().isEnabled() && variantsExecutor != null
+                ? new ArtifactVariants(
+                        artifactResourceProperties.getVariants(), variantsExecutor,
+                        () -> newStagingFile(Paths.get(artifactResourceProperties.getPath())))
+                : null;
+        final Path basePath = Paths.get(artifactResourceProperties.getPath());
+        blobs = artifactResourceProperties.getDedup().isEnabled() && ArtifactBlobs.isSupported(basePath)
+                ? new ArtifactBlobs(basePath)
+                : null;
+    }
+
+    /**
+     * Binds the metrics of the hot artifact cache and of the deduplication, if enabled.
+     *
+     * @param meterRegistry the registry to bind to
+     */
+    public void bindMetrics(final MeterRegistry meterRegistry) {
+        if (hotCache != null) {
+            hotCache.bindMetrics(meterRegistry);
+        }
+        if (blobs != null) {
+            blobs.bindMetrics(meterRegistry);
+        }
+    }
+
+    /**
+     * Stops the production of the variants, if the storage has created its executor, and the computation of the deduplication metrics.
+     * The staging files of interrupted productions are removed by the garbage collection.
+     */
+    @Override
+    public void destroy() {
+        if (ownedVariantsExecutor != null) {
+            ownedVariantsExecutor.shutdownNow();
+        }
+        if (blobs != null) {
+            blobs.close();
+        }
     }
 
     @Override
     public void deleteBySha1(final String tenant, final String sha1) {
-        deleteSilent(getFile(tenant, sha1));
+        if (hotCache != null) {
+            hotCache.invalidate(cacheKey(tenant, sha1));
+        }
+        delete(sha1, getFile(tenant, sha1));
     }
 
     @Override
     public InputStream getBySha1(final String tenant, final String sha1) {
         final File file = getFile(tenant, sha1);
         if (!file.exists()) {
+            if (hotCache != null) {
+                hotCache.invalidate(cacheKey(tenant, sha1)); // e.g. deleted by another node
+            }
             throw new ArtifactBinaryNotFoundException(sha1);
         }
+        if (hotCache != null) {
+            final InputStream cached = hotCache.get(cacheKey(tenant, sha1), file);
+            if (cached != null) {
+                return cached;
+            }
+        }
         try {
-            return new BufferedInputStream(new FileInputStream(file));
+            return new FileBackedInputStream(new FileInputStream(file));
         } catch (final FileNotFoundException e) {
             throw new ArtifactBinaryNotFoundException(sha1);
         }
     }
 
+    @Override
+    public @Nullable ArtifactStream getEncodedBySha1(final String tenant, final String sha1, final String encoding) {
+        if (variants == null) {
+            return null;
+        }
+        final File file = getFile(tenant, sha1);
+        return file.exists() ? variants.get(file, encoding) : null;
+    }
+
     @Override
     public void deleteByTenant(final String tenant) {
-        deleteSilent(Paths.get(artifactResourceProperties.getPath(), sanitizeTenant(tenant)).toFile());
+        if (hotCache != null) {
+            hotCache.invalidateByPrefix(cacheKey(tenant, "")); // if the mappings are shared - all
+        }
+        final Path tenantDirectory = Paths.get(artifactResourceProperties.getPath(), sanitizeTenant(tenant));
+        if (!Files.exists(tenantDirectory)) {
+            return;
+        }
+        try {
+            // a rename, independent of the number of artifacts - the files are deleted by the garbage collection
+            final Path trashDirectory = Files.createDirectories(Paths.get(artifactResourceProperties.getPath(), TRASH_DIRECTORY));
+            Files.move(
+                    tenantDirectory, trashDirectory.resolve(sanitizeTenant(tenant) + '-' + UUID.randomUUID()),
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            log.warn("Could not move {} to the trash, deleting it: {}", tenantDirectory, e.getMessage());
+            deleteSilent(tenantDirectory.toFile());
+            if (blobs != null) {
+                blobs.releaseAll();
+            }
+        }
+    }
+
+    @Override
+    public long collectGarbage(final String tenant, final Set<String> referenced, final Instant olderThan) {
+        final Path tenantDirectory = Paths.get(artifactResourceProperties.getPath(), sanitizeTenant(tenant));
+        if (!Files.isDirectory(tenantDirectory)) {
+            return 0;
+        }
+        final Throttle throttle = new Throttle(artifactResourceProperties.getGc().getMaxDeletesPerSecond());
+        long reclaimed = 0;
+        // [two digit sha1]/[two digit sha1]/[sha1], the variants ([sha1].gz, [sha1].gz.sha1) are next to the artifact file
+        try (final Stream<Path> files = Files.walk(tenantDirectory, 3)) {
+            for (final Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                final String name = path.getFileName().toString();
+                final int dot = name.indexOf('.');
+                final String sha1 = dot < 0 ? name : name.substring(0, dot);
+                final File file = path.resolveSibling(sha1).toFile();
+                // the variants are deleted with their artifact file, if orphaned - on their own
+                if (!referenced.contains(sha1) && (dot < 0 || !file.exists()) && isOlder(path, olderThan)) {
+                    throttle.acquire();
+                    if (dot < 0) {
+                        final long size = file.length() + ArtifactVariants.size(file);
+                        if (collect(tenant, sha1, olderThan)) {
+                            if (hotCache != null) {
+                                hotCache.invalidate(cacheKey(tenant, sha1));
+                            }
+                            reclaimed += size;
+                        }
+                    } else {
+                        reclaimed += path.toFile().length();
+                        Files.deleteIfExists(path);
+                    }
+                }
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            log.warn("Garbage collection of tenant {} failed, will be continued next time", tenant, e);
+        }
+        return reclaimed;
+    }
+
+    @Override
+    public long collectGarbage(final Instant olderThan) {
+        final Throttle throttle = new Throttle(artifactResourceProperties.getGc().getMaxDeletesPerSecond());
+        long reclaimed = 0;
+        // deleted tenants
+        final Path trashDirectory = Paths.get(artifactResourceProperties.getPath(), TRASH_DIRECTORY);
+        if (Files.isDirectory(trashDirectory)) {
+            try (final Stream<Path> trash = Files.walk(trashDirectory)) {
+                // children first
+                for (final Path path : (Iterable<Path>) trash.sorted(Comparator.reverseOrder())::iterator) {
+                    if (!path.equals(trashDirectory)) {
+                        throttle.acquire();
+                        reclaimed += Files.isRegularFile(path) ? path.toFile().length() : 0;
+                        Files.deleteIfExists(path);
+                    }
+                }
+            } catch (final IOException | UncheckedIOException e) {
+                log.warn("Garbage collection of the deleted tenants failed, will be continued next time", e);
+            }
+        }
+        // abandoned (e.g. by a crashed node, or expired chunked) uploads
+        final Path stagingDirectory = Paths.get(artifactResourceProperties.getPath(), STAGING_DIRECTORY);
+        if (Files.isDirectory(stagingDirectory)) {
+            try (final Stream<Path> staging = Files.list(stagingDirectory)) {
+                for (final Path path : (Iterable<Path>) staging::iterator) {
+                    if (isOlder(path, olderThan)) {
+                        throttle.acquire();
+                        reclaimed += path.toFile().length();
+                        Files.deleteIfExists(path);
+                    }
+                }
+            } catch (final IOException | UncheckedIOException e) {
+                log.warn("Garbage collection of the staging files failed, will be continued next time", e);
+            }
+        }
+        // blobs which are not referenced by tenant files anymore, e.g. of the deleted tenants
+        if (blobs != null) {
+            reclaimed += blobs.releaseAll();
+        }
+        return reclaimed;
     }
 
     @Override
@@ -72,6 +300,23 @@ public class FileArtifactStorage extends AbstractArtifactStorage {
         return getFile(tenant, sha1).exists();
     }
 
+    @Override
+    protected File createStagingFile(final @Nullable String tenant) throws IOException {
+        return newStagingFile(Paths.get(artifactResourceProperties.getPath()));
+    }
+
+    @Override
+    protected File getChunkedUploadFile(final String tenant, final String uploadId) throws IOException {
+        final Path stagingDirectory = Files.createDirectories(Paths.get(artifactResourceProperties.getPath(), STAGING_DIRECTORY));
+        return stagingDirectory.resolve(CHUNKED_UPLOAD_FILE_PREFIX + uploadId + STAGING_FILE_SUFFIX).toFile();
+    }
+
+    @Override
+    protected void refresh(final String tenant, final String sha1Hash) throws IOException {
+        // referenced again - so, protected from the garbage collection for the grace period
+        Files.setLastModifiedTime(getFile(tenant, sha1Hash).toPath(), FileTime.from(Instant.now()));
+    }
+
     @Override
     protected void store(final String tenant, final ArtifactHashes base16Hashes, final String contentType, final File tempFile)
             throws IOException {
@@ -79,8 +324,76 @@ public class FileArtifactStorage extends AbstractArtifactStorage {
         if (fileSHA1Naming.exists()) {
             deleteSilent(tempFile);
         } else {
-            Files.move(tempFile.toPath(), fileSHA1Naming.toPath());
+            // readers see either no or the complete artifact. Concurrent uploads of the same binary just replace it.
+            if (blobs == null) {
+                publish(tempFile, fileSHA1Naming);
+            } else {
+                blobs.publish(tempFile, fileSHA1Naming, base16Hashes.sha1());
+            }
+            if (variants != null) {
+                variants.produce(fileSHA1Naming);
+            }
+        }
+    }
+
+    // moves the staging file to its final location - atomically, if supported
+    static void publish(final File stagingFile, final File file) throws IOException {
+        try {
+            Files.move(stagingFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            // e.g. the staging directory is a mount point of another file-system
+            Files.move(stagingFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // moves the artifact file aside first and deletes it only if it still hasn't been refreshed (i.e. referenced again by an upload) -
+    // otherwise it is restored. A refresh after the move fails (the file doesn't exist), so the upload fails instead of referencing a
+    // deleted binary. The file is moved next to the original, so it can't be deleted by the trash collection of another node and, if
+    // left by a crash, it is collected as an orphaned variant.
+    boolean collect(final String tenant, final String sha1, final Instant olderThan) throws IOException {
+        final File file = getFile(tenant, sha1);
+        final Path collected = file.toPath().resolveSibling(sha1 + GC_SUFFIX);
+        try {
+            Files.move(file.toPath(), collected, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final NoSuchFileException e) {
+            return false; // concurrently deleted
+        }
+        if (!isOlder(collected, olderThan)) {
+            // refreshed meanwhile - concurrent uploads of the binary could have stored it again, it is just replaced with the same content
+            Files.move(collected, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            return false;
+        }
+        deleteSilent(collected.toFile());
+        ArtifactVariants.delete(file);
+        if (blobs != null) {
+            blobs.release(sha1);
         }
+        return true;
+    }
+
+    private void delete(final String sha1, final File file) {
+        deleteSilent(file);
+        ArtifactVariants.delete(file);
+        if (blobs != null) {
+            blobs.release(sha1);
+        }
+    }
+
+    // if (concurrently) deleted - 0, i.e. older, and the delete is skipped silently
+    // static - used by the variants, which are created by the constructor
+    private static File newStagingFile(final Path basePath) throws IOException {
+        final Path stagingDirectory = Files.createDirectories(basePath.resolve(STAGING_DIRECTORY));
+        // on POSIX file-systems created with owner only read / write permissions
+        return Files.createTempFile(stagingDirectory, STAGING_FILE_PREFIX, STAGING_FILE_SUFFIX).toFile();
+    }
+
+    private static boolean isOlder(final Path path, final Instant instant) {
+        return path.toFile().lastModified() < instant.toEpochMilli();
+    }
+
+    private String cacheKey(final String tenant, final String sha1) {
+        // the files of the tenants share the binary - so they could share the mapping, too
+        return blobs == null ? sanitizeTenant(tenant) + '/' + sha1 : sha1;
     }
 
     private File getFile(final String tenant, final String sha1) {
@@ -107,6 +420,43 @@ public class FileArtifactStorage extends AbstractArtifactStorage {
         return Paths.get(artifactResourceProperties.getPath(), sanitizeTenant(tenant), folder1, folder2);
     }
 
+    // exposes the file channel, so the unmodified binary could be transferred without copying it through heap buffers
+    static class FileBackedInputStream extends BufferedInputStream implements FileBacked {
+
+        private final FileChannel channel;
+
+        FileBackedInputStream(final FileInputStream in) {
+            super(in);
+            channel = in.getChannel();
+        }
+
+        @Override
+        public FileChannel getChannel() {
+            return channel;
+        }
+    }
+
+    // limits the rate of the deletes - evenly spread over the second
+    private static class Throttle {
+
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        private Throttle(final int maxPerSecond) {
+            intervalNanos = maxPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxPerSecond : 0;
+        }
+
+        private void acquire() {
+            if (intervalNanos > 0) {
+                final long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                next = Math.max(next, System.nanoTime()) + intervalNanos;
+            }
+        }
+    }
+
     @SuppressWarnings({ "java:S899", "java:S4042" }) // just ignore the result - silent
     private static void deleteSilent(final File file) {
         if (file.exists()) {
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.model.FileBacked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Cache of read only memory mappings of frequently downloaded artifact files, e.g. the artifacts of a rollout which are downloaded by
+ * many devices within a short time. The downloads of cached artifacts are served from the mapping (i.e. from the page cache) and the
+ * shared channel of the file, without opening the file again. The streams are {@link FileBacked}, so the (range) downloads are
+ * transferred from the channel without copying through heap buffers.
+ * <p/>
+ * An artifact is mapped when it has been requested a number of times (the admission hits) within the admission period - so the
+ * artifacts downloaded just once, e.g. by a single device, don't replace the hot ones.
+ * <p/>
+ * The cache is bounded by the total size of the mapped files, the entries are evicted by frequency and recency (Caffeine W-TinyLFU). An
+ * evicted mapping is released when it is garbage collected and no download uses it anymore, the channel is closed when no download
+ * uses it anymore.
+ */
+@Slf4j
+class HotArtifactCache {
+
+    // the requests of the not (yet) cached artifacts are counted for the admission period
+    private static final Duration ADMISSION_PERIOD = Duration.ofMinutes(10);
+    private static final int MAX_ADMISSION_CANDIDATES = 10_000;
+
+    private final Cache<String, MappedArtifact> cache;
+    private final Cache<String, AtomicInteger> candidates;
+    private final long maxFileSize;
+    private final int admissionHits;
+
+    HotArtifactCache(final long maxSize, final long maxFileSize, final int admissionHits) {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((String key, MappedArtifact mapped) -> mapped.mapped.capacity())
+                // synchronously - so the channel is closed (if not used) as soon as removed
+                .executor(Runnable::run)
+                .removalListener((String key, MappedArtifact mapped, RemovalCause cause) -> {
+                    if (mapped != null) {
+                        mapped.evict();
+                    }
+                })
+                .recordStats()
+                .build();
+        candidates = Caffeine.newBuilder()
+                .maximumSize(MAX_ADMISSION_CANDIDATES)
+                .expireAfterAccess(ADMISSION_PERIOD)
+                .build();
+        // a mapped byte buffer is limited to Integer.MAX_VALUE bytes
+        this.maxFileSize = Math.min(maxFileSize, Integer.MAX_VALUE);
+        this.admissionHits = Math.max(1, admissionHits);
+    }
+
+    /**
+     * Returns a stream of the mapped file, maps it if not yet cached and requested the admission hits times.
+     *
+     * @param key the key of the artifact - tenant and SHA-1
+     * @param file the artifact file
+     * @return the stream or {@code null} if the file is not (yet) cached, not cacheable (e.g. too large) or couldn't be mapped
+     */
+    @Nullable
+    InputStream get(final String key, final File file) {
+        final long size = file.length();
+        if (size <= 0 || size > maxFileSize) {
+            return null;
+        }
+        MappedArtifact mapped = cache.getIfPresent(key);
+        if (mapped == null) {
+            if (candidates.get(key, k -> new AtomicInteger()).incrementAndGet() < admissionHits) {
+                return null;
+            }
+            candidates.invalidate(key);
+            try {
+                mapped = cache.asMap().computeIfAbsent(key, k -> map(file));
+            } catch (final UncheckedIOException e) {
+                log.warn("Failed to map artifact file {}", file, e);
+                return null;
+            }
+        }
+        // null if evicted in the meantime - then read from the file
+        return mapped.acquire() ? new MappedArtifactInputStream(mapped) : null;
+    }
+
+    void invalidate(final String key) {
+        cache.invalidate(key);
+        candidates.invalidate(key);
+    }
+
+    void invalidateByPrefix(final String keyPrefix) {
+        cache.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+        candidates.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    void bindMetrics(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("hawkbit.artifact.cache.hits", cache, c -> c.stats().hitCount())
+                .description("Downloads served from a cached artifact mapping")
+                .register(meterRegistry);
+        FunctionCounter.builder("hawkbit.artifact.cache.misses", cache, c -> c.stats().missCount())
+                .description("Downloads of cacheable artifacts which were not cached (yet)")
+                .register(meterRegistry);
+        Gauge.builder("hawkbit.artifact.cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Total size of the cached artifact mappings")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("hawkbit.artifact.cache.size", cache, Cache::estimatedSize)
+                .description("Number of cached artifact mappings")
+                .register(meterRegistry);
+    }
+
+    private static MappedArtifact map(final File file) {
+        try {
+            final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            try {
+                return new MappedArtifact(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (final IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // the mapping and the channel of a cached artifact - the channel is shared by the downloads and closed when the artifact is
+    // removed from the cache and not used by a download anymore
+    private static final class MappedArtifact {
+
+        private final FileChannel channel;
+        private final ByteBuffer mapped; // shared, never read relatively
+        private int users; // guarded by this
+        private boolean evicted; // guarded by this
+
+        private MappedArtifact(final FileChannel channel, final ByteBuffer mapped) {
+            this.channel = channel;
+            this.mapped = mapped;
+        }
+
+        private synchronized boolean acquire() {
+            if (evicted) {
+                return false;
+            }
+            users++;
+            return true;
+        }
+
+        private synchronized void release() {
+            if (--users == 0 && evicted) {
+                close();
+            }
+        }
+
+        private synchronized void evict() {
+            evicted = true;
+            if (users == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                log.warn("Failed to close artifact channel", e);
+            }
+        }
+    }
+
+    private static class MappedArtifactInputStream extends InputStream implements FileBacked {
+
+        private final MappedArtifact mapped;
+        private final ByteBuffer buffer; // own position
+        private boolean closed;
+
+        private MappedArtifactInputStream(final MappedArtifact mapped) {
+            this.mapped = mapped;
+            buffer = mapped.mapped.duplicate();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        // shared by the downloads of the artifact - positional operations only and not to be closed
+        @Override
+        public FileChannel getChannel() {
+            return mapped.channel;
+        }
+
+        @Override
+        public long size() {
+            return mapped.mapped.capacity();
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position) {
+            if (position >= mapped.mapped.capacity()) {
+                return -1;
+            }
+            final int n = (int) Math.min(dst.remaining(), mapped.mapped.capacity() - position);
+            dst.put(mapped.mapped.slice((int) position, n));
+            return n;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                mapped.release();
+            }
+        }
+    }
+}
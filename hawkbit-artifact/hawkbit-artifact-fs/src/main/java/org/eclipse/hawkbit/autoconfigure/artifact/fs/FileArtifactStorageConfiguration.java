@@ -9,9 +9,13 @@
  */
 package org.eclipse.hawkbit.autoconfigure.artifact.fs;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.eclipse.hawkbit.artifact.ArtifactStorage;
 import org.eclipse.hawkbit.artifact.fs.FileArtifactProperties;
 import org.eclipse.hawkbit.artifact.fs.FileArtifactStorage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -33,4 +37,22 @@ public class FileArtifactStorageConfiguration {
     public ArtifactStorage artifactStorage(final FileArtifactProperties artifactFilesystemProperties) {
         return new FileArtifactStorage(artifactFilesystemProperties);
     }
+
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class FileArtifactStorageMetricsConfiguration {
+
+        /**
+         * @param artifactStorage the artifact storage
+         * @return binder of the {@link FileArtifactStorage} metrics (e.g. of its hot artifact cache), bound by the meter registries
+         */
+        @Bean
+        MeterBinder fileArtifactStorageMetrics(final ObjectProvider<ArtifactStorage> artifactStorage) {
+            return meterRegistry -> {
+                if (artifactStorage.getIfAvailable() instanceof FileArtifactStorage fileArtifactStorage) {
+                    fileArtifactStorage.bindMetrics(meterRegistry);
+                }
+            };
+        }
+    }
 }
\ No newline at end of file
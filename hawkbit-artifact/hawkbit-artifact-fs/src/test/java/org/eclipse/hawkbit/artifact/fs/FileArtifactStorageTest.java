@@ -11,22 +11,46 @@ package org.eclipse.hawkbit.artifact.fs;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.ChunkedArtifactUpload;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.fs.FileArtifactStorage.FileBackedInputStream;
+import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.FileBacked;
+import org.eclipse.hawkbit.artifact.model.Seekable;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Feature: Unit Tests - Artifact File System Repository<br/>
@@ -86,6 +110,237 @@ class FileArtifactStorageTest {
         assertThat(artifactFilesystemRepository.getBySha1(TENANT, artifact.getHashes().sha1())).isNotNull();
     }
 
+    /**
+     * Verifies that uploads are staged in the artifact file-system and no staging file is left - neither after a successful store nor
+     * after a hash mismatch
+     */
+    @Test
+    void noStagingFileIsLeft() throws IOException {
+        final Path stagingDirectory = Path.of(artifactResourceProperties.getPath(), ".staging");
+        storeRandomArtifact(randomBytes());
+        assertThat(stagingDirectory).isEmptyDirectory();
+
+        final ArtifactHashes wrongHashes = new ArtifactHashes("0000000000000000000000000000000000000000", null, null);
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(randomBytes())) {
+            assertThatExceptionOfType(HashNotMatchException.class).isThrownBy(() -> artifactFilesystemRepository.store(
+                    TENANT, inputStream, "filename.tmp", "application/txt", wrongHashes));
+        }
+        assertThat(stagingDirectory).isEmptyDirectory();
+    }
+
+    /**
+     * Verifies that a chunked upload is staged in the artifact file-system by its id - so it could be opened again (e.g. by another node)
+     * - its staging file is published on store and deleted on abort, and an upload id can't be used for a path traversal
+     */
+    @Test
+    void stageChunkedUploadById() throws IOException {
+        final Path stagingDirectory = Path.of(artifactResourceProperties.getPath(), ".staging");
+        final byte[] fileContent = randomBytes();
+        try (final ChunkedArtifactUpload upload = artifactFilesystemRepository.openChunkedUpload(TENANT, "upload-1", fileContent.length)) {
+            upload.write(0, new ByteArrayInputStream(fileContent, 0, 10));
+        }
+        assertThat(stagingDirectory).isDirectoryContaining(path -> path.getFileName().toString().contains("upload-1"));
+        final StoredArtifactInfo artifact;
+        try (final ChunkedArtifactUpload upload = artifactFilesystemRepository.openChunkedUpload(TENANT, "upload-1", fileContent.length)) {
+            upload.write(10, new ByteArrayInputStream(fileContent, 10, fileContent.length - 10));
+            upload.markReceived(0, 10);
+            artifact = artifactFilesystemRepository.store(TENANT, upload, "filename.tmp", "application/txt", null);
+        }
+        try (final InputStream is = artifactFilesystemRepository.getBySha1(TENANT, artifact.getHashes().sha1())) {
+            assertThat(is.readAllBytes()).isEqualTo(fileContent);
+        }
+        assertThat(stagingDirectory).isEmptyDirectory();
+
+        try (final ChunkedArtifactUpload upload = artifactFilesystemRepository.openChunkedUpload(TENANT, "upload-2", fileContent.length)) {
+            upload.write(0, new ByteArrayInputStream(fileContent));
+        }
+        artifactFilesystemRepository.deleteChunkedUpload(TENANT, "upload-2");
+        assertThat(stagingDirectory).isEmptyDirectory();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> artifactFilesystemRepository.openChunkedUpload(TENANT, "../upload", fileContent.length));
+    }
+
+    /**
+     * Verifies that artifacts are served from the hot artifact cache, if enabled, after the admission hits, the cached streams are file
+     * backed and the cached mapping is evicted on delete
+     */
+    @Test
+    void getFromHotCache() throws IOException {
+        final FileArtifactProperties hotCacheProperties = new FileArtifactProperties();
+        hotCacheProperties.setPath(artifactResourceProperties.getPath());
+        hotCacheProperties.getHotCache().setEnabled(true);
+        final FileArtifactStorage hotCacheStorage = new FileArtifactStorage(hotCacheProperties);
+
+        final byte[] fileContent = randomBytes();
+        final String sha1 = storeRandomArtifact(fileContent).getHashes().sha1();
+        for (int i = 0; i < 3; i++) {
+            try (final InputStream is = hotCacheStorage.getBySha1(TENANT, sha1)) {
+                if (i == 0) {
+                    // not admitted yet - read from the file
+                    assertThat(is).isInstanceOf(FileBackedInputStream.class);
+                } else {
+                    assertThat(is).isInstanceOf(FileBacked.class).isNotInstanceOf(FileBackedInputStream.class);
+                }
+                final ByteBuffer range = ByteBuffer.allocate(5);
+                assertThat(((Seekable) is).read(range, 3)).isEqualTo(5);
+                assertThat(range.array()).isEqualTo(Arrays.copyOfRange(fileContent, 3, 8));
+                final ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+                final FileChannel channel = ((FileBacked) is).getChannel();
+                assertThat(channel.transferTo(3, 5, Channels.newChannel(transferred))).isEqualTo(5);
+                assertThat(transferred.toByteArray()).isEqualTo(Arrays.copyOfRange(fileContent, 3, 8));
+                assertThat(is.readAllBytes()).isEqualTo(fileContent);
+            }
+        }
+
+        hotCacheStorage.deleteBySha1(TENANT, sha1);
+        assertThatExceptionOfType(ArtifactBinaryNotFoundException.class).isThrownBy(() -> hotCacheStorage.getBySha1(TENANT, sha1));
+    }
+
+    /**
+     * Verifies that gzip variants are produced for well compressible artifacts only and are deleted with the artifact
+     */
+    @Test
+    void produceGzipVariants() throws IOException {
+        final FileArtifactProperties variantsProperties = new FileArtifactProperties();
+        variantsProperties.setPath(artifactResourceProperties.getPath());
+        variantsProperties.getVariants().setEnabled(true);
+        variantsProperties.getVariants().setMinSize(DataSize.ofBytes(10));
+        // produce synchronously
+        final FileArtifactStorage variantsStorage = new FileArtifactStorage(variantsProperties, Runnable::run);
+
+        final byte[] compressible = "compressible content ".repeat(100).getBytes(StandardCharsets.UTF_8);
+        final String sha1;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(compressible)) {
+            sha1 = variantsStorage.store(TENANT, inputStream, "filename.tmp", "application/txt", null).getHashes().sha1();
+        }
+        try (final ArtifactStream variant = variantsStorage.getEncodedBySha1(TENANT, sha1, "gzip")) {
+            assertThat(variant).isNotNull();
+            assertThat(variant.getSize()).isLessThan(compressible.length);
+            assertThat(variant.getSha1Hash()).isNotEqualTo(sha1);
+            assertThat(new GZIPInputStream(variant).readAllBytes()).isEqualTo(compressible);
+        }
+        assertThat(variantsStorage.getEncodedBySha1(TENANT, sha1, "br")).isNull();
+
+        // random content doesn't compress
+        final String randomSha1;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(randomBytes())) {
+            randomSha1 = variantsStorage.store(TENANT, inputStream, "filename.tmp", "application/txt", null).getHashes().sha1();
+        }
+        assertThat(variantsStorage.getEncodedBySha1(TENANT, randomSha1, "gzip")).isNull();
+
+        variantsStorage.deleteBySha1(TENANT, sha1);
+        assertThat(variantsStorage.getEncodedBySha1(TENANT, sha1, "gzip")).isNull();
+    }
+
+    /**
+     * Verifies that, if deduplication is enabled, the tenants share the binary, the savings are measured (in the background) and the
+     * shared binary is deleted with its last reference
+     */
+    @Test
+    void shareBinariesAcrossTenants() throws IOException {
+        final FileArtifactProperties dedupProperties = new FileArtifactProperties();
+        dedupProperties.setPath(artifactResourceProperties.getPath());
+        dedupProperties.getDedup().setEnabled(true);
+        final FileArtifactStorage dedupStorage = new FileArtifactStorage(dedupProperties);
+
+        final byte[] fileContent = randomBytes();
+        final String otherTenant = "other_tenant";
+        String sha1 = null;
+        for (final String tenant : new String[] { TENANT, otherTenant }) {
+            try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(fileContent)) {
+                sha1 = dedupStorage.store(tenant, inputStream, "filename.tmp", "application/txt", null).getHashes().sha1();
+            }
+        }
+        final Path blob = Path.of(
+                artifactResourceProperties.getPath(), ".blobs", sha1.substring(36, 38), sha1.substring(38, 40), sha1);
+        assertThat(Files.getAttribute(blob, "unix:nlink")).isEqualTo(3);
+
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dedupStorage.bindMetrics(meterRegistry);
+        assertThat(meterRegistry.get("hawkbit.artifact.dedup.shared").functionCounter().count()).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> meterRegistry.get("hawkbit.artifact.dedup.saved").gauge().value() == fileContent.length);
+        assertThat(meterRegistry.get("hawkbit.artifact.dedup.blobs").gauge().value()).isEqualTo(1);
+        dedupStorage.destroy();
+
+        dedupStorage.deleteBySha1(TENANT, sha1);
+        assertThat(Files.getAttribute(blob, "unix:nlink")).isEqualTo(2);
+        try (final InputStream is = dedupStorage.getBySha1(otherTenant, sha1)) {
+            assertThat(is.readAllBytes()).isEqualTo(fileContent);
+        }
+
+        dedupStorage.deleteByTenant(otherTenant);
+        dedupStorage.collectGarbage(Instant.now());
+        assertThat(blob).doesNotExist();
+    }
+
+    /**
+     * Verifies that the garbage collection deletes the not referenced binaries after the grace period, the abandoned staging files and
+     * the deleted tenants
+     */
+    @Test
+    void collectGarbage() throws IOException {
+        final String tenant = "gc_tenant";
+        final byte[] referencedContent = randomBytes();
+        final String referenced;
+        final String notReferenced;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(referencedContent)) {
+            referenced = artifactFilesystemRepository.store(tenant, inputStream, "filename.tmp", "application/txt", null)
+                    .getHashes().sha1();
+        }
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(randomBytes())) {
+            notReferenced = artifactFilesystemRepository.store(tenant, inputStream, "filename.tmp", "application/txt", null)
+                    .getHashes().sha1();
+        }
+
+        // in the grace period
+        assertThat(artifactFilesystemRepository.collectGarbage(tenant, Set.of(referenced), Instant.now().minus(1, ChronoUnit.HOURS)))
+                .isZero();
+        assertThat(artifactFilesystemRepository.existsBySha1(tenant, notReferenced)).isTrue();
+
+        assertThat(artifactFilesystemRepository.collectGarbage(tenant, Set.of(referenced), Instant.now().plusSeconds(1))).isEqualTo(20);
+        assertThat(artifactFilesystemRepository.existsBySha1(tenant, notReferenced)).isFalse();
+        try (final InputStream is = artifactFilesystemRepository.getBySha1(tenant, referenced)) {
+            assertThat(is.readAllBytes()).isEqualTo(referencedContent);
+        }
+
+        final Path abandoned = Files.createDirectories(Path.of(artifactResourceProperties.getPath(), ".staging")).resolve("abandoned");
+        Files.write(abandoned, randomBytes());
+        Files.setLastModifiedTime(abandoned, FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        artifactFilesystemRepository.deleteByTenant(tenant);
+        assertThat(artifactFilesystemRepository.existsBySha1(tenant, referenced)).isFalse();
+
+        // the abandoned staging file and the referenced artifact (and the trash of the other tests, if any)
+        assertThat(artifactFilesystemRepository.collectGarbage(Instant.now().minus(1, ChronoUnit.HOURS))).isGreaterThanOrEqualTo(40);
+        assertThat(abandoned).doesNotExist();
+        assertThat(Path.of(artifactResourceProperties.getPath(), ".trash")).isEmptyDirectory();
+    }
+
+    /**
+     * Verifies that a binary collected by the garbage collection is restored if it has been refreshed (uploaded again) meanwhile
+     */
+    @Test
+    void restoreRefreshedBinaryOnCollect() throws IOException {
+        final String tenant = "gc_restore_tenant";
+        final byte[] content = randomBytes();
+        final String sha1;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(content)) {
+            sha1 = artifactFilesystemRepository.store(tenant, inputStream, "filename.tmp", "application/txt", null).getHashes().sha1();
+        }
+
+        // stored after the collection has selected it - i.e. refreshed
+        assertThat(artifactFilesystemRepository.collect(tenant, sha1, Instant.now().minus(1, ChronoUnit.HOURS))).isFalse();
+        try (final InputStream is = artifactFilesystemRepository.getBySha1(tenant, sha1)) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+
+        assertThat(artifactFilesystemRepository.collect(tenant, sha1, Instant.now().plusSeconds(1))).isTrue();
+        assertThat(artifactFilesystemRepository.existsBySha1(tenant, sha1)).isFalse();
+        // nothing left aside
+        assertThat(artifactFilesystemRepository.collectGarbage(tenant, Set.of(), Instant.now().plusSeconds(1))).isZero();
+    }
+
     /**
      * Verifies that an artifact can be deleted in the file-system repository
      */
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.s3;
+
+import java.net.URI;
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the S3 repository, e.g. the bucket to store the artifacts in.
+ */
+@Data
+@ConfigurationProperties("org.eclipse.hawkbit.artifact.s3")
+public class S3ArtifactProperties {
+
+    /**
+     * The (existing) bucket to store the artifacts in.
+     */
+    private String bucket = "hawkbit-artifacts";
+
+    /**
+     * The region of the bucket.
+     */
+    private String region = "us-east-1";
+
+    /**
+     * The endpoint of an S3 compatible storage (e.g. <code>http://localhost:9000</code> of a MinIO server). If not set, the AWS
+     * endpoint of the region is used.
+     */
+    private URI endpoint;
+
+    /**
+     * Set to <code>true</code> to address the bucket in the path instead of the host name, as required by most S3 compatible storages.
+     */
+    private boolean pathStyleAccess;
+
+    /**
+     * The access key. If not set (with the secret key), the default AWS credentials provider chain is used.
+     */
+    private String accessKey;
+
+    /**
+     * The secret key.
+     */
+    private String secretKey;
+
+    /**
+     * Upload of the artifact binaries.
+     */
+    private final Upload upload = new Upload();
+
+    /**
+     * Presigned download URLs, handed to the devices instead of the hawkBit download URLs.
+     */
+    private final Presign presign = new Presign();
+
+    @Data
+    public static class Upload {
+
+        /**
+         * Size of the parts of the multipart upload, at least 5 MiB. Larger binaries are uploaded in parts. Each part is buffered in
+         * memory, while uploaded.
+         */
+        private DataSize partSize = DataSize.ofMegabytes(16);
+        /**
+         * Maximal number of parts uploaded in parallel, for all uploads.
+         */
+        private int threads = 4;
+        /**
+         * Directory of the staging files of the chunked uploads. In a cluster, shall be a volume shared by the nodes, so any node could
+         * receive the chunks of an upload. If not set, a directory in <code>java.io.tmpdir</code>, i.e. local to the node.
+         */
+        private String stagingPath;
+    }
+
+    @Data
+    public static class Presign {
+
+        /**
+         * Enables the presigned download URLs. The devices download the artifacts directly from the storage, so the download
+         * bandwidth is offloaded from the hawkBit nodes. Not applicable with artifact encryption (the startup fails) - the storage has
+         * the encrypted binaries.
+         */
+        private boolean enabled = false;
+        /**
+         * Validity of the presigned URLs, i.e. time within the devices shall start the download. At most 7 days.
+         */
+        private Duration expiration = Duration.ofHours(1);
+        /**
+         * The rel of the download URLs to replace with the presigned ones.
+         */
+        private String rel = "download-http";
+    }
+}
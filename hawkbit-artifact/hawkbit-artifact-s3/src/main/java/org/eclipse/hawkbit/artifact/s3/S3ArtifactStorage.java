@@ -0,0 +1,388 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.s3;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.Seekable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.validation.annotation.Validated;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Implementation of the {@link ArtifactStorage} to store artifacts in an S3 (compatible) bucket. The binaries are stored as objects
+ * with the key <code>[tenant]/[sha1]</code>.
+ * <p/>
+ * The uploaded content is staged (and hashed) in a temp file - binaries larger than the part size
+ * ({@link S3ArtifactProperties.Upload#getPartSize()}) are uploaded with a multipart upload, the parts in parallel. The chunked uploads
+ * are staged in {@link S3ArtifactProperties.Upload#getStagingPath()}, if set.
+ * <p/>
+ * The returned binaries are {@link Seekable} - the positional reads (e.g. of the requested ranges) are served with ranged GET requests.
+ * <p/>
+ * Optionally (see {@link S3ArtifactProperties#getPresign()}), the devices download the artifacts directly from the storage, see
+ * {@link S3PresignedArtifactUrlResolver}.
+ */
+@Slf4j
+@Validated
+public class S3ArtifactStorage extends AbstractArtifactStorage implements DisposableBean {
+
+    // minimal part size of the S3 multipart uploads (except the last part)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    // maximal number of keys deleted with one request
+    private static final int MAX_DELETE_BATCH = 1000;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final int partSize;
+    private final @Nullable Path stagingPath;
+    private final ExecutorService uploadExecutor;
+
+    public S3ArtifactStorage(final S3Client s3Client, final S3ArtifactProperties properties) {
+        this.s3Client = s3Client;
+        bucket = properties.getBucket();
+        partSize = (int) Math.clamp(properties.getUpload().getPartSize().toBytes(), MIN_PART_SIZE, Integer.MAX_VALUE);
+        stagingPath = properties.getUpload().getStagingPath() == null ? null : Path.of(properties.getUpload().getStagingPath());
+        uploadExecutor = Executors.newFixedThreadPool(
+                Math.max(1, properties.getUpload().getThreads()), Thread.ofPlatform().name("artifact-s3-upload-", 0).daemon().factory());
+    }
+
+    /**
+     * Stops the uploads of the parts. The interrupted multipart uploads are aborted.
+     */
+    @Override
+    public void destroy() {
+        uploadExecutor.shutdownNow();
+    }
+
+    @Override
+    public InputStream getBySha1(final String tenant, final String sha1) {
+        try {
+            final String key = objectKey(tenant, sha1);
+            return new S3ObjectInputStream(key, s3Client.getObject(request -> request.bucket(bucket).key(key)));
+        } catch (final NoSuchKeyException e) {
+            throw new ArtifactBinaryNotFoundException(sha1);
+        } catch (final SdkException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean existsBySha1(final String tenant, final String sha1) {
+        try {
+            s3Client.headObject(request -> request.bucket(bucket).key(objectKey(tenant, sha1)));
+            return true;
+        } catch (final NoSuchKeyException e) {
+            return false;
+        } catch (final S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void deleteBySha1(final String tenant, final String sha1) {
+        try {
+            s3Client.deleteObject(request -> request.bucket(bucket).key(objectKey(tenant, sha1)));
+        } catch (final SdkException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void deleteByTenant(final String tenant) {
+        // batch deletes, up to 1000 objects with a request
+        delete(tenant, object -> true);
+    }
+
+    @Override
+    public long collectGarbage(final String tenant, final Set<String> referenced, final Instant olderThan) {
+        return delete(tenant, object -> !referenced.contains(sha1(object)) && object.lastModified().isBefore(olderThan));
+    }
+
+    @Override
+    protected File getChunkedUploadFile(final String tenant, final String uploadId) throws IOException {
+        if (stagingPath == null) {
+            return super.getChunkedUploadFile(tenant, uploadId);
+        }
+        return Files.createDirectories(stagingPath).resolve(uploadId + ".staging").toFile();
+    }
+
+    @Override
+    protected void refresh(final String tenant, final String sha1Hash) throws IOException {
+        // objects are immutable - the last modified time is updated by a (server side) copy onto itself
+        final String key = objectKey(tenant, sha1Hash);
+        try {
+            final String contentType = s3Client.headObject(request -> request.bucket(bucket).key(key)).contentType();
+            s3Client.copyObject(request -> request
+                    .sourceBucket(bucket).sourceKey(key).destinationBucket(bucket).destinationKey(key)
+                    .metadataDirective(MetadataDirective.REPLACE).contentType(contentType));
+        } catch (final SdkException e) {
+            // e.g. larger than 5 GiB - could be collected if not referenced when the garbage collection has started
+            log.warn("Could not refresh {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    protected void store(final String tenant, final ArtifactHashes base16Hashes, final String contentType, final File tempFile)
+            throws IOException {
+        final String key = objectKey(tenant, base16Hashes.sha1());
+        final long size = tempFile.length();
+        try {
+            if (size <= partSize) {
+                s3Client.putObject(request -> request.bucket(bucket).key(key).contentType(contentType), RequestBody.fromFile(tempFile));
+            } else {
+                storeMultipart(key, contentType, tempFile, size);
+            }
+        } catch (final SdkException e) {
+            throw new IOException("Failed to upload " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void storeMultipart(final String key, final String contentType, final File tempFile, final long size) throws IOException {
+        final String uploadId = s3Client.createMultipartUpload(request -> request.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+        final List<Future<CompletedPart>> parts = new ArrayList<>();
+        try (final FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.READ)) {
+            int partNumber = 1;
+            for (long position = 0; position < size; position += partSize) {
+                final int number = partNumber++;
+                final long partPosition = position;
+                final int length = (int) Math.min(partSize, size - position);
+                parts.add(uploadExecutor.submit(() -> uploadPart(key, uploadId, number, channel, partPosition, length)));
+            }
+            final List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (final Future<CompletedPart> part : parts) {
+                completedParts.add(part.get());
+            }
+            s3Client.completeMultipartUpload(request -> request
+                    .bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(multipartUpload -> multipartUpload.parts(completedParts)));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, parts);
+            throw new IOException("Interrupted while uploading " + key, e);
+        } catch (final ExecutionException e) {
+            abort(key, uploadId, parts);
+            throw new IOException("Failed to upload a part of " + key + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (final IOException | RuntimeException e) {
+            abort(key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(
+            final String key, final String uploadId, final int partNumber, final FileChannel channel, final long position, final int length)
+            throws IOException {
+        // positional reads - the parts share the channel
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the staged file");
+            }
+        }
+        buffer.flip();
+        final UploadPartResponse response = s3Client.uploadPart(
+                request -> request.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).contentLength((long) length),
+                RequestBody.fromByteBuffer(buffer));
+        return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).checksumCRC32(response.checksumCRC32()).build();
+    }
+
+    private void abort(final String key, final String uploadId, final List<Future<CompletedPart>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (final SdkException e) {
+            // the bucket shall have a lifecycle rule for the incomplete multipart uploads
+            log.warn("Could not abort the multipart upload {} of {}: {}", uploadId, key, e.getMessage());
+        }
+    }
+
+    // deletes the objects of the tenant matching the filter, returns their total size
+    private long delete(final String tenant, final Predicate<S3Object> filter) {
+        long deleted = 0;
+        final List<ObjectIdentifier> batch = new ArrayList<>(MAX_DELETE_BATCH);
+        try {
+            for (final S3Object object : s3Client.listObjectsV2Paginator(
+                    request -> request.bucket(bucket).prefix(sanitizeTenant(tenant) + '/')).contents()) {
+                if (filter.test(object)) {
+                    batch.add(ObjectIdentifier.builder().key(object.key()).build());
+                    deleted += object.size();
+                    if (batch.size() == MAX_DELETE_BATCH) {
+                        deleteBatch(batch);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                deleteBatch(batch);
+            }
+        } catch (final SdkException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+        return deleted;
+    }
+
+    private void deleteBatch(final List<ObjectIdentifier> batch) {
+        s3Client.deleteObjects(request -> request.bucket(bucket).delete(delete -> delete.objects(List.copyOf(batch)).quiet(true)))
+                .errors()
+                .forEach(error -> log.warn("Could not delete {}: {}", error.key(), error.message()));
+        batch.clear();
+    }
+
+    static String objectKey(final String tenant, final String sha1) {
+        return sanitizeTenant(tenant) + '/' + sha1;
+    }
+
+    private static String sha1(final S3Object object) {
+        return object.key().substring(object.key().lastIndexOf('/') + 1);
+    }
+
+    // object stream - the sequential reads are served by the (eagerly opened, so a missing object is detected) GET of the whole object,
+    // the positional reads by a ranged GET from the position to the end, continued as long as the reads are sequential - so a range
+    // isn't downloaded with a request per read buffer
+    private final class S3ObjectInputStream extends InputStream implements Seekable {
+
+        private final String key;
+        private final ResponseInputStream<GetObjectResponse> in;
+        private final long size;
+        private boolean eof;
+        private ResponseInputStream<GetObjectResponse> rangeIn;
+        private long rangePosition;
+
+        private S3ObjectInputStream(final String key, final ResponseInputStream<GetObjectResponse> in) {
+            this.key = key;
+            this.in = in;
+            size = in.response().contentLength();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            eof = b == -1;
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = in.read(b, off, len);
+            eof = n == -1;
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            return in.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in.available();
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position) throws IOException {
+            if (position >= size) {
+                return -1;
+            }
+            if (rangeIn == null || rangePosition != position) {
+                closeRange();
+                try {
+                    rangeIn = s3Client.getObject(request -> request.bucket(bucket).key(key).range("bytes=" + position + "-"));
+                } catch (final SdkException e) {
+                    throw new IOException("Failed to read " + key + " from " + position + ": " + e.getMessage(), e);
+                }
+                rangePosition = position;
+            }
+            final int len = (int) Math.min(dst.remaining(), size - position);
+            final int n;
+            if (dst.hasArray()) {
+                n = rangeIn.read(dst.array(), dst.arrayOffset() + dst.position(), len);
+                if (n > 0) {
+                    dst.position(dst.position() + n);
+                }
+            } else {
+                final byte[] b = new byte[len];
+                n = rangeIn.read(b);
+                if (n > 0) {
+                    dst.put(b, 0, n);
+                }
+            }
+            if (n == -1) {
+                throw new EOFException("Unexpected end of " + key + " at " + position);
+            }
+            rangePosition += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                closeRange();
+            } finally {
+                if (!eof) {
+                    // otherwise the rest of the object would be read to reuse the connection
+                    in.abort();
+                }
+                in.close();
+            }
+        }
+
+        private void closeRange() throws IOException {
+            if (rangeIn != null) {
+                if (rangePosition < size) {
+                    rangeIn.abort();
+                }
+                rangeIn.close();
+                rangeIn = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.s3;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionService;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrl;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * {@link ArtifactUrlResolver} which replaces the download URLs (with rel {@link S3ArtifactProperties.Presign#getRel()}) generated by
+ * another resolver with short-lived presigned URLs of the artifact objects of the {@link S3ArtifactStorage}. So, the devices download
+ * the artifacts directly from the storage and the download bandwidth is offloaded from the hawkBit nodes.
+ * <p/>
+ * The presigned URLs are computed locally - no request to the storage is done.
+ * <p/>
+ * The storage serves the stored binaries as they are - so, if the artifact encryption is supported, the URLs are not replaced, since
+ * the devices would download encrypted binaries.
+ * <p/>
+ * The epoch of the URLs (see {@link #getEpoch()}) is changed every half of the expiration. So, URLs considered not modified, since
+ * generated within the same epoch, are still valid for at least half of the expiration.
+ * <p/>
+ * The delegate is owned by the resolver - it is destroyed (e.g. its mirror health checks are stopped) with the resolver.
+ */
+public class S3PresignedArtifactUrlResolver implements ArtifactUrlResolver, DisposableBean {
+
+    private final ArtifactUrlResolver delegate;
+    private final S3Presigner presigner;
+    private final S3ArtifactProperties properties;
+
+    public S3PresignedArtifactUrlResolver(
+            final ArtifactUrlResolver delegate, final S3Presigner presigner, final S3ArtifactProperties properties) {
+        this.delegate = delegate;
+        this.presigner = presigner;
+        this.properties = properties;
+    }
+
+    @Override
+    public List<ArtifactUrl> getUrls(final DownloadDescriptor downloadDescriptor, final ApiType api) {
+        return getUrls(downloadDescriptor, api, null);
+    }
+
+    @Override
+    public List<ArtifactUrl> getUrls(final DownloadDescriptor downloadDescriptor, final ApiType api, final URI requestUri) {
+        final List<ArtifactUrl> urls = delegate.getUrls(downloadDescriptor, api, requestUri);
+        if (ArtifactEncryptionService.getInstance().isEncryptionSupported()) {
+            return urls;
+        }
+        return urls.stream()
+                .map(url -> properties.getPresign().getRel().equals(url.rel()) ? presign(downloadDescriptor, url.rel()) : url)
+                .toList();
+    }
+
+    @Override
+    public @Nullable String getEpoch() {
+        final String delegateEpoch = delegate.getEpoch();
+        if (delegateEpoch == null || ArtifactEncryptionService.getInstance().isEncryptionSupported()) {
+            return delegateEpoch;
+        }
+        final S3ArtifactProperties.Presign presign = properties.getPresign();
+        final long window = Math.max(1, presign.getExpiration().toMillis() / 2);
+        return delegateEpoch + "|" + properties.getBucket() + "|" + presign.getRel() + "|" + System.currentTimeMillis() / window;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposableDelegate) {
+            disposableDelegate.destroy();
+        }
+    }
+
+    private ArtifactUrl presign(final DownloadDescriptor downloadDescriptor, final String rel) {
+        // the downloaded file shall have the artifact filename, not the object key
+        final String contentDisposition = "attachment; filename*=UTF-8''" +
+                URLEncoder.encode(downloadDescriptor.filename(), StandardCharsets.UTF_8).replace("+", "%20");
+        final URL url = presigner.presignGetObject(presignRequest -> presignRequest
+                        .signatureDuration(properties.getPresign().getExpiration())
+                        .getObjectRequest(request -> request
+                                .bucket(properties.getBucket())
+                                .key(S3ArtifactStorage.objectKey(downloadDescriptor.tenant(), downloadDescriptor.sha1()))
+                                .responseContentDisposition(contentDisposition)))
+                .url();
+        return new ArtifactUrl(url.getProtocol().toUpperCase(), rel, url.toString());
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.autoconfigure.artifact.s3;
+
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryption;
+import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionSecretsStorage;
+import org.eclipse.hawkbit.artifact.s3.S3ArtifactProperties;
+import org.eclipse.hawkbit.artifact.s3.S3ArtifactStorage;
+import org.eclipse.hawkbit.artifact.s3.S3PresignedArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ObjectUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Configuration for the {@link S3ArtifactStorage}. Precedes the file-system storage, if on the classpath, too.
+ */
+@Configuration
+@AutoConfigureBefore(name = {
+        "org.eclipse.hawkbit.autoconfigure.artifact.fs.FileArtifactStorageConfiguration",
+        "org.eclipse.hawkbit.autoconfigure.artifact.PropertyBasedArtifactUrlResolverAutoConfiguration" })
+@ConditionalOnProperty(prefix = "org.eclipse.hawkbit.artifact.s3", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(S3ArtifactProperties.class)
+public class S3ArtifactStorageConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public S3Client s3Client(final S3ArtifactProperties properties) {
+        final S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(credentialsProvider(properties))
+                .forcePathStyle(properties.isPathStyleAccess());
+        if (properties.getEndpoint() != null) {
+            // S3 compatible storages don't necessarily support the (optional) checksums, the AWS SDK sends by default
+            builder.endpointOverride(properties.getEndpoint()).requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param s3Client the S3 client
+     * @param properties the S3 artifact properties
+     * @return the {@link S3ArtifactStorage}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ArtifactStorage artifactStorage(final S3Client s3Client, final S3ArtifactProperties properties) {
+        return new S3ArtifactStorage(s3Client, properties);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "org.eclipse.hawkbit.artifact.s3.presign", name = "enabled")
+    @EnableConfigurationProperties(PropertyBasedArtifactUrlResolverProperties.class)
+    static class S3PresignConfiguration {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        S3Presigner s3Presigner(final S3ArtifactProperties properties) {
+            final S3Presigner.Builder builder = S3Presigner.builder()
+                    .region(Region.of(properties.getRegion()))
+                    .credentialsProvider(credentialsProvider(properties))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(properties.isPathStyleAccess()).build());
+            if (properties.getEndpoint() != null) {
+                builder.endpointOverride(properties.getEndpoint());
+            }
+            return builder.build();
+        }
+
+        /**
+         * @return the presigned URLs resolver, replacing the download URLs of the {@link PropertyBasedArtifactUrlResolver}
+         * @throws IllegalStateException if the artifact encryption is configured - the storage would serve the encrypted binaries
+         */
+        @Bean
+        @ConditionalOnMissingBean(ArtifactUrlResolver.class)
+        S3PresignedArtifactUrlResolver s3PresignedArtifactUrlResolver(
+                final PropertyBasedArtifactUrlResolverProperties urlHandlerProperties,
+                @Value("${hawkbit.server.servlet.context-path:}") final String contextPath,
+                final S3Presigner s3Presigner, final S3ArtifactProperties properties,
+                final ObjectProvider<ArtifactEncryption> artifactEncryption,
+                final ObjectProvider<ArtifactEncryptionSecretsStorage> artifactEncryptionSecretsStorage) {
+            if (artifactEncryption.getIfAvailable() != null && artifactEncryptionSecretsStorage.getIfAvailable() != null) {
+                throw new IllegalStateException(
+                        "Presigned artifact URLs (org.eclipse.hawkbit.artifact.s3.presign.enabled) are not supported with artifact encryption");
+            }
+            return new S3PresignedArtifactUrlResolver(
+                    new PropertyBasedArtifactUrlResolver(urlHandlerProperties, contextPath), s3Presigner, properties);
+        }
+    }
+
+    private static AwsCredentialsProvider credentialsProvider(final S3ArtifactProperties properties) {
+        return ObjectUtils.isEmpty(properties.getAccessKey())
+                ? DefaultCredentialsProvider.builder().build()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()));
+    }
+}
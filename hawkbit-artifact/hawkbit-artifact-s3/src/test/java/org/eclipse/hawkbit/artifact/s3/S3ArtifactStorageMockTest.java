@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.model.Seekable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Feature: Unit Tests - Artifact S3 Repository<br/>
+ * Story: Test the requests of the S3 artifact storage to a mocked S3 client, without an S3 compatible storage
+ */
+class S3ArtifactStorageMockTest {
+
+    private static final String TENANT = "test_tenant";
+    private static final String UPLOAD_ID = "upload-id";
+    @SuppressWarnings("java:S2245") // used for tests only, no need of secure random
+    private static final Random RND = new Random();
+
+    private S3Client s3Client;
+    private S3ArtifactStorage artifactStorage;
+
+    @BeforeEach
+    void setup() {
+        // the consumer builder variants of the client delegate to the (mocked) request variants
+        s3Client = mock(S3Client.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        final S3ArtifactProperties properties = new S3ArtifactProperties();
+        properties.getUpload().setPartSize(DataSize.ofMegabytes(5));
+        artifactStorage = new S3ArtifactStorage(s3Client, properties);
+        doThrow(S3Exception.builder().statusCode(404).build()).when(s3Client).headObject(any(HeadObjectRequest.class));
+    }
+
+    @AfterEach
+    void teardown() {
+        artifactStorage.destroy();
+    }
+
+    /**
+     * Verifies that a binary larger than the part size is uploaded with a multipart upload, the parts in order and complete
+     */
+    @Test
+    void storeMultipart() {
+        final Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+        doReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build())
+                .when(s3Client).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        doAnswer(invocation -> {
+            final UploadPartRequest request = invocation.getArgument(0);
+            try (final InputStream body = invocation.<RequestBody> getArgument(1).contentStreamProvider().newStream()) {
+                parts.put(request.partNumber(), body.readAllBytes());
+            }
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }).when(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        doReturn(CompleteMultipartUploadResponse.builder().build())
+                .when(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+
+        final byte[] content = randomBytes(12 * 1024 * 1024 + 1);
+        artifactStorage.store(TENANT, new ByteArrayInputStream(content), "filename.tmp", "application/txt", null);
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(complete.getValue().multipartUpload().parts()).extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+        assertThat(parts).hasSize(3);
+        assertThat(parts.get(1)).hasSize(5 * 1024 * 1024);
+        assertThat(concat(parts.get(1), parts.get(2), parts.get(3))).isEqualTo(content);
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    /**
+     * Verifies that the multipart upload is aborted (and not completed) if a part upload fails
+     */
+    @Test
+    void abortMultipartOnPartFailure() {
+        doReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build())
+                .when(s3Client).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        doThrow(S3Exception.builder().statusCode(500).message("part failed").build())
+                .when(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        doReturn(AbortMultipartUploadResponse.builder().build()).when(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+        final ByteArrayInputStream content = new ByteArrayInputStream(randomBytes(6 * 1024 * 1024));
+        assertThatExceptionOfType(ArtifactStoreException.class)
+                .isThrownBy(() -> artifactStorage.store(TENANT, content, "filename.tmp", "application/txt", null));
+
+        final ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    /**
+     * Verifies that the garbage collection deletes (in batches of up to 1000 keys) just the not referenced objects of the tenant which
+     * are older than the given time
+     */
+    @Test
+    void collectGarbage() {
+        final Instant olderThan = Instant.now().minus(1, ChronoUnit.HOURS);
+        final Instant old = olderThan.minus(1, ChronoUnit.HOURS);
+        // 1001 old and not referenced, a referenced and an old one and a new not referenced one
+        final S3Object[] objects = IntStream.range(0, 1004)
+                .mapToObj(i -> S3Object.builder()
+                        .key("TEST_TENANT/sha1-" + i).size(10L).lastModified(i == 1003 ? Instant.now() : old).build())
+                .toArray(S3Object[]::new);
+        doReturn(ListObjectsV2Response.builder().contents(objects).isTruncated(false).build())
+                .when(s3Client).listObjectsV2(any(ListObjectsV2Request.class));
+        doReturn(DeleteObjectsResponse.builder().build()).when(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+
+        assertThat(artifactStorage.collectGarbage(TENANT, Set.of("sha1-1002"), olderThan)).isEqualTo(1002 * 10L);
+
+        final ArgumentCaptor<ListObjectsV2Request> list = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(s3Client).listObjectsV2(list.capture());
+        assertThat(list.getValue().prefix()).isEqualTo("TEST_TENANT/");
+        final ArgumentCaptor<DeleteObjectsRequest> delete = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(2)).deleteObjects(delete.capture());
+        assertThat(delete.getAllValues()).extracting(request -> request.delete().objects().size()).containsExactly(1000, 2);
+        assertThat(delete.getAllValues().stream().flatMap(request -> request.delete().objects().stream()).map(ObjectIdentifier::key))
+                .doesNotContain("TEST_TENANT/sha1-1002", "TEST_TENANT/sha1-1003")
+                .contains("TEST_TENANT/sha1-0", "TEST_TENANT/sha1-1001");
+    }
+
+    /**
+     * Verifies that the binaries are seekable - the positional reads are served with ranged requests, continued while sequential
+     */
+    @Test
+    void positionalReads() throws IOException {
+        final byte[] content = randomBytes(1024);
+        doAnswer(invocation -> {
+            final GetObjectRequest request = invocation.getArgument(0);
+            final int from = request.range() == null
+                    ? 0 : Integer.parseInt(request.range().substring("bytes=".length(), request.range().length() - 1));
+            return new ResponseInputStream<>(
+                    GetObjectResponse.builder().contentLength((long) content.length - from).build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(content, from, content.length - from)));
+        }).when(s3Client).getObject(any(GetObjectRequest.class));
+
+        try (final InputStream is = artifactStorage.getBySha1(TENANT, "sha1")) {
+            assertThat(is).isInstanceOf(Seekable.class);
+            final Seekable seekable = (Seekable) is;
+            assertThat(seekable.size()).isEqualTo(content.length);
+
+            final ByteBuffer buffer = ByteBuffer.allocate(100);
+            assertThat(seekable.read(buffer, 500)).isEqualTo(100);
+            buffer.clear();
+            assertThat(seekable.read(buffer, 600)).isEqualTo(100);
+            assertThat(buffer.array()).isEqualTo(Arrays.copyOfRange(content, 600, 700));
+            buffer.clear();
+            assertThat(seekable.read(buffer, 1000)).isEqualTo(24);
+            assertThat(seekable.read(buffer, 1024)).isEqualTo(-1);
+
+            // positional reads don't change the position of the stream
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+
+        final ArgumentCaptor<GetObjectRequest> get = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(3)).getObject(get.capture());
+        assertThat(get.getAllValues()).extracting(GetObjectRequest::range).containsExactly(null, "bytes=500-", "bytes=1000-");
+    }
+
+    /**
+     * Verifies that a missing binary is reported on get
+     */
+    @Test
+    void getMissing() {
+        doThrow(NoSuchKeyException.builder().build()).when(s3Client).getObject(any(GetObjectRequest.class));
+        assertThatExceptionOfType(ArtifactBinaryNotFoundException.class).isThrownBy(() -> artifactStorage.getBySha1(TENANT, "sha1"));
+    }
+
+    private static byte[] concat(final byte[]... arrays) {
+        final ByteBuffer buffer = ByteBuffer.allocate(Arrays.stream(arrays).mapToInt(array -> array.length).sum());
+        Arrays.stream(arrays).forEach(buffer::put);
+        return buffer.array();
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] randomBytes = new byte[size];
+        RND.nextBytes(randomBytes);
+        return randomBytes;
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+/**
+ * Feature: Unit Tests - Artifact S3 Repository<br/>
+ * Story: Test storing artifact binaries in an S3 compatible storage, e.g. a local MinIO server
+ * (<code>docker run -p 9000:9000 minio/minio server /data</code>, and <code>HAWKBIT_S3_TEST_ENDPOINT=http://localhost:9000</code>)
+ */
+@EnabledIfEnvironmentVariable(named = "HAWKBIT_S3_TEST_ENDPOINT", matches = ".+")
+class S3ArtifactStorageTest {
+
+    private static final String TENANT = "test_tenant";
+    @SuppressWarnings("java:S2245") // used for tests only, no need of secure random
+    private static final Random RND = new Random();
+
+    private static S3Client s3Client;
+    private static S3ArtifactStorage artifactStorage;
+
+    @BeforeAll
+    static void setup() {
+        final S3ArtifactProperties properties = new S3ArtifactProperties();
+        properties.setBucket("hawkbit-test-" + System.currentTimeMillis());
+        properties.getUpload().setPartSize(DataSize.ofMegabytes(5));
+        s3Client = S3Client.builder()
+                .region(Region.of(properties.getRegion()))
+                .endpointOverride(URI.create(System.getenv("HAWKBIT_S3_TEST_ENDPOINT")))
+                .forcePathStyle(true)
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                        System.getenv().getOrDefault("HAWKBIT_S3_TEST_ACCESS_KEY", "minioadmin"),
+                        System.getenv().getOrDefault("HAWKBIT_S3_TEST_SECRET_KEY", "minioadmin"))))
+                .build();
+        try {
+            s3Client.createBucket(request -> request.bucket(properties.getBucket()));
+        } catch (final BucketAlreadyOwnedByYouException e) {
+            // reuse
+        }
+        artifactStorage = new S3ArtifactStorage(s3Client, properties);
+    }
+
+    @AfterAll
+    static void afterClass() {
+        artifactStorage.destroy();
+        s3Client.close();
+    }
+
+    /**
+     * Verifies that small and large (multipart uploaded) artifacts are stored and read back
+     */
+    @Test
+    void storeSuccessfully() throws IOException {
+        for (final byte[] content : new byte[][] { randomBytes(1024), randomBytes(12 * 1024 * 1024 + 1) }) {
+            final String sha1;
+            try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(content)) {
+                sha1 = artifactStorage.store(TENANT, inputStream, "filename.tmp", "application/txt", null).getHashes().sha1();
+            }
+            assertThat(artifactStorage.existsBySha1(TENANT, sha1)).isTrue();
+            try (final InputStream is = artifactStorage.getBySha1(TENANT, sha1)) {
+                assertThat(is.readAllBytes()).isEqualTo(content);
+            }
+        }
+    }
+
+    /**
+     * Verifies that artifacts are deleted, by SHA-1 hash, by the garbage collection and with the tenant
+     */
+    @Test
+    void deleteArtifacts() throws IOException {
+        final String tenant = "delete_tenant";
+        final String[] sha1 = new String[3];
+        for (int i = 0; i < sha1.length; i++) {
+            try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(randomBytes(20))) {
+                sha1[i] = artifactStorage.store(tenant, inputStream, "filename.tmp", "application/txt", null).getHashes().sha1();
+            }
+        }
+
+        artifactStorage.deleteBySha1(tenant, sha1[0]);
+        assertThat(artifactStorage.existsBySha1(tenant, sha1[0])).isFalse();
+        assertThatExceptionOfType(ArtifactBinaryNotFoundException.class).isThrownBy(() -> artifactStorage.getBySha1(tenant, sha1[0]));
+
+        assertThat(artifactStorage.collectGarbage(tenant, Set.of(sha1[2]), Instant.now().minus(1, ChronoUnit.HOURS))).isZero();
+        assertThat(artifactStorage.collectGarbage(tenant, Set.of(sha1[2]), Instant.now().plus(1, ChronoUnit.MINUTES))).isEqualTo(20);
+        assertThat(artifactStorage.existsBySha1(tenant, sha1[1])).isFalse();
+        assertThat(artifactStorage.existsBySha1(tenant, sha1[2])).isTrue();
+
+        artifactStorage.deleteByTenant(tenant);
+        assertThat(artifactStorage.existsBySha1(tenant, sha1[2])).isFalse();
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] randomBytes = new byte[size];
+        RND.nextBytes(randomBytes);
+        return randomBytes;
+    }
+}
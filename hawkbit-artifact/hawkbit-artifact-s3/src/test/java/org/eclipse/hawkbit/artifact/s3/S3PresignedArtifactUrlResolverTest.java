@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryption;
+import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionSecretsStorage;
+import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionService;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrl;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.ApiType;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties.UrlProtocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Feature: Unit Tests - Artifact S3 Repository<br/>
+ * Story: Presigned artifact download URLs
+ */
+class S3PresignedArtifactUrlResolverTest {
+
+    private static final String SHA1 = "2d86c2a659e364e9abba49ea6ffcd53dd5559f05";
+
+    /**
+     * Verifies that the download URLs are replaced with presigned URLs of the artifact objects and the other URLs are kept
+     */
+    @Test
+    void replaceDownloadUrlsWithPresignedUrls() {
+        final PropertyBasedArtifactUrlResolverProperties urlProperties = new PropertyBasedArtifactUrlResolverProperties();
+        urlProperties.getProtocols().put("download-http", new UrlProtocol());
+        final UrlProtocol md5sum = new UrlProtocol();
+        md5sum.setRel("md5sum-http");
+        md5sum.setRef("{protocol}://{hostname}:{port}/{tenant}/{artifactFileName}.MD5SUM");
+        urlProperties.getProtocols().put("md5sum-http", md5sum);
+
+        final S3ArtifactProperties properties = properties();
+        try (final S3Presigner presigner = presigner(properties)) {
+            final S3PresignedArtifactUrlResolver resolver = new S3PresignedArtifactUrlResolver(
+                    new PropertyBasedArtifactUrlResolver(urlProperties, ""), presigner, properties);
+
+            final List<ArtifactUrl> urls = resolver.getUrls(
+                    new DownloadDescriptor("test_tenant", "controller", 1L, "my artifact.bin", SHA1), ApiType.DDI);
+
+            assertThat(urls).hasSize(2);
+            assertThat(urls).filteredOn(url -> "download-http".equals(url.rel())).singleElement().satisfies(url -> {
+                assertThat(url.protocol()).isEqualTo("HTTP");
+                assertThat(url.ref())
+                        .startsWith("http://localhost:9000/hawkbit-artifacts/TEST_TENANT/" + SHA1 + "?")
+                        .contains("X-Amz-Signature=", "X-Amz-Expires=3600", "my%2520artifact.bin");
+            });
+            assertThat(urls).filteredOn(url -> "md5sum-http".equals(url.rel())).singleElement()
+                    .satisfies(url -> assertThat(url.ref()).startsWith("http://localhost:8080/test_tenant/"));
+        }
+    }
+
+    /**
+     * Verifies that the download URLs are not replaced if the artifact encryption is supported - the storage has the encrypted binaries
+     */
+    @Test
+    void keepDownloadUrlsIfEncryptionIsSupported() {
+        final PropertyBasedArtifactUrlResolverProperties urlProperties = new PropertyBasedArtifactUrlResolverProperties();
+        urlProperties.getProtocols().put("download-http", new UrlProtocol());
+
+        final S3ArtifactProperties properties = properties();
+        final ArtifactEncryptionService encryptionService = ArtifactEncryptionService.getInstance();
+        try (final S3Presigner presigner = presigner(properties)) {
+            encryptionService.setArtifactEncryption(mock(ArtifactEncryption.class));
+            encryptionService.setArtifactEncryptionSecretsStore(mock(ArtifactEncryptionSecretsStorage.class));
+            final S3PresignedArtifactUrlResolver resolver = new S3PresignedArtifactUrlResolver(
+                    new PropertyBasedArtifactUrlResolver(urlProperties, ""), presigner, properties);
+
+            assertThat(resolver.getUrls(new DownloadDescriptor("test_tenant", "controller", 1L, "artifact.bin", SHA1), ApiType.DDI))
+                    .singleElement()
+                    .satisfies(url -> assertThat(url.ref()).startsWith("http://localhost:8080/test_tenant/").doesNotContain("X-Amz"));
+        } finally {
+            encryptionService.setArtifactEncryption(null);
+            encryptionService.setArtifactEncryptionSecretsStore(null);
+        }
+    }
+
+    /**
+     * Verifies that the epoch of the URLs is changed with the presign window (half of the expiration), and is not supported if not
+     * supported by the delegate
+     */
+    @Test
+    void epochChangedWithPresignWindow() {
+        final PropertyBasedArtifactUrlResolverProperties urlProperties = new PropertyBasedArtifactUrlResolverProperties();
+        urlProperties.getProtocols().put("download-http", new UrlProtocol());
+
+        final S3ArtifactProperties properties = properties();
+        try (final S3Presigner presigner = presigner(properties)) {
+            final S3PresignedArtifactUrlResolver resolver = new S3PresignedArtifactUrlResolver(
+                    new PropertyBasedArtifactUrlResolver(urlProperties, ""), presigner, properties);
+            assertThat(resolver.getEpoch()).isNotNull();
+
+            properties.getPresign().setExpiration(Duration.ofMillis(20));
+            final String epoch = resolver.getEpoch();
+            await().atMost(Duration.ofSeconds(10)).until(() -> !epoch.equals(resolver.getEpoch()));
+
+            assertThat(new S3PresignedArtifactUrlResolver(mock(ArtifactUrlResolver.class), presigner, properties).getEpoch()).isNull();
+        }
+    }
+
+    /**
+     * Verifies that the delegate is destroyed with the resolver - e.g. so that its mirror health checks are stopped
+     */
+    @Test
+    void destroyDelegate() throws Exception {
+        final ArtifactUrlResolver delegate = mock(ArtifactUrlResolver.class, withSettings().extraInterfaces(DisposableBean.class));
+        final S3ArtifactProperties properties = properties();
+        try (final S3Presigner presigner = presigner(properties)) {
+            new S3PresignedArtifactUrlResolver(delegate, presigner, properties).destroy();
+        }
+        verify((DisposableBean) delegate).destroy();
+    }
+
+    private static S3ArtifactProperties properties() {
+        final S3ArtifactProperties properties = new S3ArtifactProperties();
+        properties.setEndpoint(URI.create("http://localhost:9000"));
+        properties.setPathStyleAccess(true);
+        return properties;
+    }
+
+    private static S3Presigner presigner(final S3ArtifactProperties properties) {
+        return S3Presigner.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .endpointOverride(properties.getEndpoint())
+                .build();
+    }
+}
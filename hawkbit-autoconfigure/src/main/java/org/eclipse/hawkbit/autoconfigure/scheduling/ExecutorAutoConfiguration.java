@@ -53,7 +53,8 @@ public class ExecutorAutoConfiguration {
     @Bean(name = "asyncExecutor", destroyMethod = "shutdown")
     @ConditionalOnMissingBean
     public ExecutorService asyncExecutor() {
-        return new DelegatingSecurityContextExecutorService(threadPoolExecutor());
+        return new DelegatingSecurityContextExecutorService(
+                executorProperties.isVirtualThreads() ? virtualThreadExecutor() : threadPoolExecutor());
     }
 
     /**
@@ -93,6 +94,15 @@ public class ExecutorAutoConfiguration {
         };
     }
 
+    /**
+     * @return central executor starting a new virtual thread for every task. Virtual threads are cheap and not to be pooled, and the
+     *         security context is set per task (by the {@link DelegatingSecurityContextExecutorService}) and dropped with the thread.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        log.info("Central executor runs the tasks in virtual threads");
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("central-executor-virtual-", 0).factory());
+    }
+
     /**
      * @return central ThreadPoolExecutor for general purpose multithreaded operations. Tries an orderly shutdown when destroyed.
      */
@@ -44,4 +44,10 @@ public class ExecutorProperties {
      * time that excess idle threads will wait for new tasks before terminating.
      */
     private Long idleTimeout = 10000L;
+
+    /**
+     * If enabled, the central event executor runs every task in a new virtual thread, instead of in the bounded thread pool. Then,
+     * queue size, core / max threads and idle timeout are not applicable.
+     */
+    private boolean virtualThreads = false;
 }
\ No newline at end of file
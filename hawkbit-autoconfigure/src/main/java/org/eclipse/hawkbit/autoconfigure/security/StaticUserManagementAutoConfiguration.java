@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.autoconfigure.security;
 
+import java.util.Optional;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.hawkbit.auth.StaticAuthenticationProvider;
 import org.eclipse.hawkbit.tenancy.TenantAwareUserProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -31,8 +34,10 @@ public class StaticUserManagementAutoConfiguration extends GlobalAuthenticationC
 
     StaticUserManagementAutoConfiguration(
             final SecurityProperties securityProperties,
-            final TenantAwareUserProperties tenantAwareUserProperties) {
+            final TenantAwareUserProperties tenantAwareUserProperties,
+            final Optional<MeterRegistry> meterRegistry) {
         authenticationProvider = new StaticAuthenticationProvider(tenantAwareUserProperties, securityProperties);
+        meterRegistry.ifPresent(authenticationProvider::bindMetrics);
     }
 
     @Override
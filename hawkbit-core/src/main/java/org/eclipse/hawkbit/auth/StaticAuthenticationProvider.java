@@ -9,7 +9,11 @@
  */
 package org.eclipse.hawkbit.auth;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,10 +21,19 @@ import java.util.List;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Data;
 import org.eclipse.hawkbit.context.Principal;
 import org.eclipse.hawkbit.tenancy.TenantAwareUserProperties;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.boot.security.autoconfigure.SecurityProperties;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -36,12 +49,84 @@ import org.springframework.util.ObjectUtils;
 /**
  * Authentication provider for configured via spring application properties users.
  * The users could be tenant scoped ({@link TenantAwareUserProperties}) or global ({@link SecurityProperties}).
+ * <p/>
+ * Successful authentications are cached for a short time (see {@link TenantAwareUserProperties.AuthenticationCache}), so the
+ * (potentially expensive, e.g. bcrypt or argon2) password check is not done on every request. The cache key is a salted digest (HMAC
+ * with a random, per provider, key) of the presented credentials, so no plain passwords are kept in memory. A cached authentication is
+ * bound to the stored (encoded) password it has been verified against and the user is always read (cheap, in memory) on a cache hit, so a
+ * cached authentication is never used for a user who is not (or differently) configured. The users are read from the properties on
+ * construction, changing them requires a restart (and so a new, empty, cache).
  */
 public class StaticAuthenticationProvider extends DaoAuthenticationProvider {
 
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    // digest of the credentials -> the stored (encoded) password they have been verified against
+    private final @Nullable Cache<String, String> authenticationCache;
+    private final SecretKeySpec digestKey;
+
     public StaticAuthenticationProvider(
             final TenantAwareUserProperties tenantAwareUserProperties, final SecurityProperties securityProperties) {
         super(userDetailsService(tenantAwareUserProperties, securityProperties));
+        final TenantAwareUserProperties.AuthenticationCache cacheProperties = tenantAwareUserProperties.getAuthenticationCache();
+        authenticationCache = cacheProperties.getTtl().isPositive() && cacheProperties.getMaxSize() > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(cacheProperties.getTtl())
+                        .maximumSize(cacheProperties.getMaxSize())
+                        .recordStats()
+                        .build()
+                : null;
+        final byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(final Authentication authentication) {
+        if (authenticationCache != null && authentication instanceof UsernamePasswordAuthenticationToken
+                && authentication.getCredentials() instanceof String password) {
+            final String key = digest(authentication.getName(), password);
+            final String verifiedPassword = authenticationCache.getIfPresent(key);
+            if (verifiedPassword != null) {
+                final UserDetails user = findUser(authentication.getName());
+                if (user != null && verifiedPassword.equals(user.getPassword()) && isValid(user)) {
+                    return createSuccessAuthentication(user, authentication, user);
+                }
+                // changed or removed meanwhile
+                authenticationCache.invalidate(key);
+            }
+        }
+        return super.authenticate(authentication);
+    }
+
+    /**
+     * Registers the authentication cache metrics - hits, misses and size.
+     *
+     * @param meterRegistry the meter registry
+     */
+    public void bindMetrics(final MeterRegistry meterRegistry) {
+        if (authenticationCache == null) {
+            return;
+        }
+        FunctionCounter.builder("hawkbit.security.authentication.cache.hits", authenticationCache, cache -> cache.stats().hitCount())
+                .description("Authentications of static users without password check")
+                .register(meterRegistry);
+        FunctionCounter.builder("hawkbit.security.authentication.cache.misses", authenticationCache, cache -> cache.stats().missCount())
+                .description("Authentications of static users not found in the cache")
+                .register(meterRegistry);
+        Gauge.builder("hawkbit.security.authentication.cache.size", authenticationCache, Cache::estimatedSize)
+                .description("Number of cached authentications of static users")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(
+            final UserDetails userDetails, final UsernamePasswordAuthenticationToken authentication) {
+        // password check - throws BadCredentialsException if not matching
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        if (authenticationCache != null && authentication.getCredentials() instanceof String password) {
+            authenticationCache.put(digest(authentication.getName(), password), userDetails.getPassword());
+        }
     }
 
     @Override
@@ -54,6 +139,31 @@ public class StaticAuthenticationProvider extends DaoAuthenticationProvider {
                 authentication.getCredentials(), user.getAuthorities());
     }
 
+    private @Nullable UserDetails findUser(final String username) {
+        try {
+            return getUserDetailsService().loadUserByUsername(username);
+        } catch (final UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    // the post authentication (credentials expiration) check of the regular authentication is done after the cache put
+    private static boolean isValid(final UserDetails user) {
+        return user.isEnabled() && user.isAccountNonLocked() && user.isAccountNonExpired() && user.isCredentialsNonExpired();
+    }
+
+    private String digest(final String username, final String password) {
+        try {
+            final Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+
     private static UserDetailsService userDetailsService(
             final TenantAwareUserProperties tenantAwareUserProperties, final SecurityProperties securityProperties) {
         final List<User> userPrincipals = new ArrayList<>();
@@ -74,7 +74,8 @@ public class AccessContext {
         return null;
     }
 
-    // Sometimes 'system' need to override the auditor when do create/modify actions in context of an actor
+    // Sometimes 'system' need to override the auditor when do create/modify actions in context of an actor.
+    // Thread confined (not inherited by the child, e.g. virtual, threads) and always removed after the override
     private static final ThreadLocal<String> ACTOR_OVERRIDE = new ThreadLocal<>();
 
     // Return the current actor / auditor / principal name. It could be a user (person), technical user, device, etc.
@@ -131,7 +132,12 @@ public class AccessContext {
             try {
                 return Mdc.withAuthRe(supplier::get);
             } finally {
-                SecurityContextHolder.setContext(originalContext);
+                if (originalContext.getAuthentication() == null) {
+                    // there was no context - don't leave an (empty) one in the thread, e.g. (virtual) thread per task or a pooled thread
+                    SecurityContextHolder.clearContext();
+                } else {
+                    SecurityContextHolder.setContext(originalContext);
+                }
             }
         }
     }
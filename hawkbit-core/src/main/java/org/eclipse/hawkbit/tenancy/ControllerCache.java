@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.tenancy;
+
+import static org.eclipse.hawkbit.context.AccessContext.asTenant;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.hawkbit.context.AccessContext;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+
+/**
+ * Node local, tenant aware (see {@link TenantAwareCacheManager}), cache of values read from the database per controller (target), which
+ * are evicted by the (remote) events changing them. The values are keyed by the controller id and indexed by the target id, since some
+ * events contain only the target id.
+ * <p/>
+ * In order to not cache a value that has been read from the database concurrently with an eviction, the time of the last eviction is
+ * tracked per target (striped by controller id and by target id, per tenant). A value is put into the cache only if its target hasn't
+ * been evicted since the value has started to be read (see {@link #startRead()}) - so the evictions of the other targets don't prevent
+ * caching.
+ *
+ * @param <V> the type of the cached values
+ */
+public class ControllerCache<V> {
+
+    private static final TenantAwareCacheManager CACHE_MANAGER = TenantAwareCacheManager.getInstance();
+
+    // eviction times are tracked per stripe - a power of 2
+    private static final int STRIPES = 1024;
+    // so that the eviction times are positive, 0 for never evicted
+    private static final long ORIGIN = System.nanoTime() - 1;
+
+    private final String cacheName;
+    private final String targetIdCacheName;
+    private final Class<V> valueType;
+    private final Map<String, Evictions> tenantEvictions = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheName the name of the cache controllerId -> value
+     * @param targetIdCacheName the name of the cache targetId -> controllerId
+     * @param valueType the type of the cached values
+     */
+    public ControllerCache(final String cacheName, final String targetIdCacheName, final Class<V> valueType) {
+        this.cacheName = cacheName;
+        this.targetIdCacheName = targetIdCacheName;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Returns the start time of a read. Shall be called before the value is read from the database.
+     *
+     * @return the start time of the read
+     */
+    public long startRead() {
+        return now();
+    }
+
+    /**
+     * Returns the cached value of the controller for the current tenant.
+     *
+     * @param controllerId the controller id
+     * @return the cached value or {@code null} if not cached
+     */
+    public @Nullable V get(final String controllerId) {
+        return CACHE_MANAGER.getCache(cacheName).get(controllerId, valueType);
+    }
+
+    /**
+     * Returns the cached value of the target for the current tenant.
+     *
+     * @param targetId the target id
+     * @return the cached value or {@code null} if not cached
+     */
+    public @Nullable V getByTargetId(final long targetId) {
+        final String controllerId = CACHE_MANAGER.getCache(targetIdCacheName).get(targetId, String.class);
+        return controllerId == null ? null : get(controllerId);
+    }
+
+    /**
+     * Caches the value for the current tenant if the target has not been evicted since the value has started to be read.
+     *
+     * @param controllerId the controller id of the target
+     * @param targetId the id of the target
+     * @param value the value to cache
+     * @param readStart the start time of the read, see {@link #startRead()}
+     */
+    public void put(final String controllerId, final long targetId, final V value, final long readStart) {
+        final Evictions evictions = evictions(AccessContext.tenant());
+        if (evictions.evictedSince(controllerId, targetId, readStart)) {
+            return;
+        }
+
+        final Cache cache = CACHE_MANAGER.getCache(cacheName);
+        CACHE_MANAGER.getCache(targetIdCacheName).put(targetId, controllerId);
+        cache.put(controllerId, value);
+        if (evictions.evictedSince(controllerId, targetId, readStart)) {
+            // evicted concurrently, the eviction could have been processed before the put
+            cache.evict(controllerId);
+        }
+    }
+
+    /**
+     * Evicts the value of the controller.
+     *
+     * @param tenant the tenant
+     * @param controllerId the controller id
+     */
+    public void evict(final String tenant, final String controllerId) {
+        // the eviction time is set before the eviction, so a concurrent put either sees it or is evicted afterward
+        evictions(tenant).evictController(controllerId);
+        asTenant(tenant, () -> CACHE_MANAGER.getCache(cacheName).evict(controllerId));
+    }
+
+    /**
+     * Evicts the value of the target.
+     *
+     * @param tenant the tenant
+     * @param targetId the target id
+     */
+    public void evictByTargetId(final String tenant, final long targetId) {
+        evictions(tenant).evictTarget(targetId);
+        asTenant(tenant, () -> {
+            final String controllerId = CACHE_MANAGER.getCache(targetIdCacheName).get(targetId, String.class);
+            if (controllerId != null) {
+                CACHE_MANAGER.getCache(cacheName).evict(controllerId);
+            }
+        });
+    }
+
+    /**
+     * Evicts the value and the index entry of a deleted target.
+     *
+     * @param tenant the tenant
+     * @param controllerId the controller id of the target
+     * @param targetId the target id
+     */
+    public void evictDeleted(final String tenant, final String controllerId, final long targetId) {
+        final Evictions evictions = evictions(tenant);
+        evictions.evictController(controllerId);
+        evictions.evictTarget(targetId);
+        asTenant(tenant, () -> {
+            CACHE_MANAGER.getCache(cacheName).evict(controllerId);
+            CACHE_MANAGER.getCache(targetIdCacheName).evict(targetId);
+        });
+    }
+
+    /**
+     * Evicts all values of the tenant.
+     *
+     * @param tenant the tenant
+     */
+    public void evictAll(final String tenant) {
+        evictions(tenant).evictTenant();
+        asTenant(tenant, () -> CACHE_MANAGER.getCache(cacheName).clear());
+    }
+
+    private Evictions evictions(final String tenant) {
+        return tenantEvictions.computeIfAbsent(tenant == null ? "" : tenant, t -> new Evictions());
+    }
+
+    private static long now() {
+        return System.nanoTime() - ORIGIN;
+    }
+
+    // last eviction times of a tenant - of the whole tenant and per stripe of controller ids and target ids
+    private static final class Evictions {
+
+        private final AtomicLong tenant = new AtomicLong();
+        private final AtomicLongArray controllers = new AtomicLongArray(STRIPES);
+        private final AtomicLongArray targets = new AtomicLongArray(STRIPES);
+
+        private void evictTenant() {
+            tenant.accumulateAndGet(now(), Math::max);
+        }
+
+        private void evictController(final String controllerId) {
+            controllers.accumulateAndGet(stripe(controllerId.hashCode()), now(), Math::max);
+        }
+
+        private void evictTarget(final long targetId) {
+            targets.accumulateAndGet(stripe(Long.hashCode(targetId)), now(), Math::max);
+        }
+
+        private boolean evictedSince(final String controllerId, final long targetId, final long time) {
+            return tenant.get() >= time
+                    || controllers.get(stripe(controllerId.hashCode())) >= time
+                    || targets.get(stripe(Long.hashCode(targetId))) >= time;
+        }
+
+        private static int stripe(final int hash) {
+            return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+        }
+    }
+}
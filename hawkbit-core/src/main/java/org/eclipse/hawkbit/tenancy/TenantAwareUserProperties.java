@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.tenancy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class TenantAwareUserProperties {
 
     private Map<String, User> user = new HashMap<>();
+    private AuthenticationCache authenticationCache = new AuthenticationCache();
 
     @Data
     @ToString
@@ -38,4 +40,22 @@ public class TenantAwareUserProperties {
         private List<String> roles = new ArrayList<>();
         private List<String> permissions = new ArrayList<>();
     }
+
+    /**
+     * Cache of the successful static user authentications, so the (potentially expensive, e.g. bcrypt) password check is not done on
+     * every request.
+     */
+    @Data
+    @ToString
+    public static class AuthenticationCache {
+
+        /**
+         * Time to live of a cached authentication. Zero disables the cache.
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+        /**
+         * Maximum number of cached authentications.
+         */
+        private long maxSize = 10_000;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.context.Principal;
+import org.eclipse.hawkbit.tenancy.TenantAwareUserProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Feature: Unit Tests - Security<br/>
+ * Story: Static user authentication
+ */
+class StaticAuthenticationProviderTest {
+
+    /**
+     * Verifies that the password of a successfully authenticated user is not checked again, while bad credentials are always checked.
+     */
+    @Test
+    void passwordIsNotCheckedForCachedAuthentication() {
+        final TenantAwareUserProperties.User user = new TenantAwareUserProperties.User();
+        user.setTenant("DEFAULT");
+        user.setPassword("secret");
+        final TenantAwareUserProperties userProperties = new TenantAwareUserProperties();
+        userProperties.getUser().put("test", user);
+
+        final StaticAuthenticationProvider authenticationProvider = new StaticAuthenticationProvider(userProperties, null);
+        final AtomicInteger passwordChecks = new AtomicInteger();
+        authenticationProvider.setPasswordEncoder(countingPasswordEncoder(passwordChecks));
+
+        for (int i = 0; i < 3; i++) {
+            final UsernamePasswordAuthenticationToken credentials = UsernamePasswordAuthenticationToken.unauthenticated("test", "secret");
+            assertThat(authenticationProvider.authenticate(credentials).getPrincipal()).isEqualTo(new Principal("DEFAULT", "test"));
+        }
+        assertThat(passwordChecks).hasValue(1);
+
+        // bad credentials are always checked
+        for (int i = 0; i < 2; i++) {
+            final UsernamePasswordAuthenticationToken badCredentials = UsernamePasswordAuthenticationToken.unauthenticated("test", "bad");
+            assertThatExceptionOfType(BadCredentialsException.class).isThrownBy(() -> authenticationProvider.authenticate(badCredentials));
+        }
+        assertThat(passwordChecks).hasValue(3);
+    }
+
+    private static PasswordEncoder countingPasswordEncoder(final AtomicInteger passwordChecks) {
+        final PasswordEncoder delegate = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        return new PasswordEncoder() {
+
+            @Override
+            public String encode(final CharSequence rawPassword) {
+                return delegate.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+                passwordChecks.incrementAndGet();
+                return delegate.matches(rawPassword, encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.tenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.hawkbit.context.AccessContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Feature: Unit Tests - Tenancy<br/>
+ * Story: Controller cache
+ */
+class ControllerCacheTest {
+
+    private static final String TENANT = "CONTROLLER_CACHE_TEST";
+
+    private ControllerCache<String> cache;
+
+    @BeforeEach
+    void before() {
+        TenantAwareCacheManager.getInstance().init(new StandardEnvironment());
+        AccessContext.asTenant(TENANT, () -> {
+            TenantAwareCacheManager.getInstance().getCache("ControllerCacheTest").clear();
+            TenantAwareCacheManager.getInstance().getCache("ControllerCacheTestTargetId").clear();
+        });
+        cache = new ControllerCache<>("ControllerCacheTest", "ControllerCacheTestTargetId", String.class);
+    }
+
+    /**
+     * Verifies that the values are cached by controller id, indexed by target id, and evicted by both.
+     */
+    @Test
+    void putGetAndEvict() {
+        put("controller1", 1, "value1", cache.startRead());
+        put("controller2", 2, "value2", cache.startRead());
+        assertThat(get("controller1")).isEqualTo("value1");
+        assertThat(AccessContext.asTenant(TENANT, () -> cache.getByTargetId(2))).isEqualTo("value2");
+
+        cache.evict(TENANT, "controller1");
+        assertThat(get("controller1")).isNull();
+        cache.evictByTargetId(TENANT, 2);
+        assertThat(get("controller2")).isNull();
+
+        put("controller1", 1, "value1", cache.startRead());
+        put("controller2", 2, "value2", cache.startRead());
+        cache.evictAll(TENANT);
+        assertThat(get("controller1")).isNull();
+        assertThat(get("controller2")).isNull();
+    }
+
+    /**
+     * Verifies that a value read concurrently with an eviction of its target is not cached, while the evictions of the other targets
+     * don't prevent caching.
+     */
+    @Test
+    void valueEvictedWhileReadIsNotCached() {
+        // other targets evicted - the stripes of controller ids and target ids are not hit by the ones of the other target
+        long readStart = cache.startRead();
+        cache.evict(TENANT, "controller2");
+        cache.evictByTargetId(TENANT, 2);
+        put("controller1", 1, "value1", readStart);
+        assertThat(get("controller1")).isEqualTo("value1");
+
+        readStart = cache.startRead();
+        cache.evict(TENANT, "controller1");
+        put("controller1", 1, "value1", readStart);
+        assertThat(get("controller1")).isNull();
+
+        readStart = cache.startRead();
+        cache.evictByTargetId(TENANT, 1);
+        put("controller1", 1, "value1", readStart);
+        assertThat(get("controller1")).isNull();
+
+        readStart = cache.startRead();
+        cache.evictAll(TENANT);
+        put("controller1", 1, "value1", readStart);
+        assertThat(get("controller1")).isNull();
+
+        // evictions of other tenants don't prevent caching
+        readStart = cache.startRead();
+        cache.evictAll("OTHER_TENANT");
+        put("controller1", 1, "value1", readStart);
+        assertThat(get("controller1")).isEqualTo("value1");
+    }
+
+    private void put(final String controllerId, final long targetId, final String value, final long readStart) {
+        AccessContext.asTenant(TENANT, () -> cache.put(controllerId, targetId, value, readStart));
+    }
+
+    private String get(final String controllerId) {
+        return AccessContext.asTenant(TENANT, () -> cache.get(controllerId));
+    }
+}
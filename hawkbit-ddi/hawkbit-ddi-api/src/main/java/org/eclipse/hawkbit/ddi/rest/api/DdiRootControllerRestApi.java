@@ -54,6 +54,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * REST resource handling for root controller CRUD operations.
@@ -135,6 +136,27 @@ public interface DdiRootControllerRestApi {
             @PathVariable("tenant") String tenant,
             @PathVariable("controllerId") String controllerId);
 
+    /**
+     * Long polling variant of the root resource for an individual {@link Target}.
+     *
+     * @param tenant of the request
+     * @param controllerId of the target that matches to controller id
+     * @param wait maximal time, in seconds, to wait for a change of the resource
+     * @return the (deferred) response
+     */
+    @Operation(summary = "Long poll the root resource for an individual Target", description = """
+            Long polling variant of the root resource. If the resource has not changed compared to the Etag sent in the If-None-Match
+            header, the request is held open until an assignment, cancellation or attributes request for the target happens or the
+            given wait time (in seconds, capped by the server) elapses. So the controller gets changes immediately without polling
+            with a high frequency.""")
+    @GetResponses
+    @GetMapping(value = CONTROLLER_V1 + "/{controllerId}", params = "wait",
+            produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE, MEDIA_TYPE_APPLICATION_CBOR })
+    DeferredResult<ResponseEntity<DdiControllerBase>> getControllerBaseLongPoll(
+            @PathVariable("tenant") String tenant,
+            @PathVariable("controllerId") String controllerId,
+            @RequestParam("wait") long wait);
+
     /**
      * Returns all artifacts of a given software module and target.
      *
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import org.eclipse.hawkbit.repository.event.remote.AbstractAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.tenancy.ControllerCache;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local cache of the controller poll state, used to answer polls of unchanged targets from memory.
+ * <p/>
+ * Every entry is evicted when an event that could change the controller base of the target is received - assignment, cancellation,
+ * attributes request, action or target update, and target deletion. Since the remote events are received by all nodes, the cache is
+ * kept in sync in the cluster. Polling time changes (tenant configuration) evict all entries of the tenant. A state read concurrently
+ * with an eviction of its target is not cached (see {@link ControllerCache}).
+ */
+@Component
+public class ControllerPollStateCache {
+
+    static final String CACHE_NAME = "ControllerPollState";
+    // targetId -> controllerId, action and target events contain only the target id
+    static final String CACHE_TARGET_ID_NAME = "ControllerPollStateTargetId";
+
+    private final ControllerCache<PollState> cache = new ControllerCache<>(CACHE_NAME, CACHE_TARGET_ID_NAME, PollState.class);
+
+    /**
+     * Returns the start time of a state read. Shall be called before the state is read from the database.
+     *
+     * @return the start time of the read
+     */
+    public long startRead() {
+        return cache.startRead();
+    }
+
+    /**
+     * Returns the cached poll state of the controller for the current tenant.
+     *
+     * @param controllerId the controller id
+     * @return the cached poll state or {@code null} if not cached
+     */
+    public @Nullable PollState get(final String controllerId) {
+        return cache.get(controllerId);
+    }
+
+    /**
+     * Caches the poll state if it is cacheable and the target has not been invalidated since the state has started to be read.
+     *
+     * @param snapshot the poll snapshot of the polling target
+     * @param pollState the poll state to cache
+     * @param readStart the start time of the read, see {@link #startRead()}
+     */
+    public void put(final ControllerPollSnapshot snapshot, final PollState pollState, final long readStart) {
+        if (isCacheable(snapshot)) {
+            cache.put(snapshot.controllerId(), snapshot.targetId(), pollState, readStart);
+        }
+    }
+
+    @EventListener(classes = AbstractAssignmentEvent.class)
+    public void onAssignmentEvent(final AbstractAssignmentEvent event) {
+        event.getActions().keySet().forEach(controllerId -> cache.evict(event.getTenant(), controllerId));
+    }
+
+    @EventListener(classes = TargetAttributesRequestedEvent.class)
+    public void onTargetAttributesRequestedEvent(final TargetAttributesRequestedEvent event) {
+        cache.evict(event.getTenant(), event.getControllerId());
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void onTargetDeletedEvent(final TargetDeletedEvent event) {
+        cache.evictDeleted(event.getTenant(), event.getControllerId(), event.getEntityId());
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void onTargetUpdatedEvent(final TargetUpdatedEvent event) {
+        cache.evictByTargetId(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void onActionEvent(final AbstractActionEvent event) {
+        if (event.getTargetId() != null) {
+            cache.evictByTargetId(event.getTenant(), event.getTargetId());
+        }
+    }
+
+    @EventListener(classes = { TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class,
+            TenantConfigurationDeletedEvent.class })
+    public void onTenantConfigurationEvent(final RemoteTenantAwareEvent event) {
+        // polling time could have been changed
+        cache.evictAll(event.getTenant());
+    }
+
+    // time dependent states (maintenance window, time forced) and states that are to be changed on next poll are not cached
+    private static boolean isCacheable(final ControllerPollSnapshot snapshot) {
+        final ActiveAction activeAction = snapshot.activeAction();
+        return snapshot.updateStatus() != TargetUpdateStatus.UNKNOWN
+                && (activeAction == null
+                || (!activeAction.maintenanceSchedule() && activeAction.actionType() != Action.ActionType.TIMEFORCED));
+    }
+
+    /**
+     * The cached poll state - everything needed in order to build the controller base without loading target or actions.
+     *
+     * @param targetId the id of the target
+     * @param address the address the target has polled from
+     * @param activeActionId the id of the active action or {@code null} if there is no active action
+     * @param activeActionLink the type of the link to the active action
+     * @param activeActionEtag the etag of the active action
+     * @param installedActionId the id of the installed action or {@code null} if there is no installed action
+     * @param requestControllerAttributes whether the controller attributes are requested
+     * @param pollingTime the polling time
+     */
+    public record PollState(
+            long targetId,
+            String address,
+            Long activeActionId, ActiveActionLink activeActionLink, int activeActionEtag,
+            Long installedActionId,
+            boolean requestControllerAttributes,
+            String pollingTime) {}
+
+    public enum ActiveActionLink {
+        CONFIRMATION_BASE,
+        CANCEL_ACTION,
+        DEPLOYMENT_BASE
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.event.remote.AbstractAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Node local registry of the long polling controllers. A long poll is answered immediately if the controller base has changed (i.e. it
+ * doesn't match the <code>If-None-Match</code> ETag of the request). Otherwise, the request is parked (async servlet processing, no
+ * thread is blocked) until an event that could change the controller base of the target is received or the wait time elapses. These
+ * are the events the poll state cache is evicted on (see {@link ControllerPollStateCache}) - assignment, cancellation, attributes
+ * request, action or target update, target deletion and, for all polls of the tenant, tenant configuration (polling time) change.
+ * <p/>
+ * On wake up the controller base is re-evaluated (bypassing the poll state cache, which could be not yet invalidated) in the security
+ * context of the request, out of the request thread. If it is still not modified, the request stays parked until the wait time
+ * elapses. Since the remote events are received by all nodes, a poll is woken up regardless of the node it is parked on.
+ */
+@Slf4j
+@Component
+public class ControllerPollWaiters {
+
+    // target event times are tracked per stripe of target ids - a power of 2
+    private static final int STRIPES = 1024;
+    // so that the event times are positive, 0 for no event
+    private static final long ORIGIN = System.nanoTime() - 1;
+
+    private final Map<String, TenantPolls> parkedPolls = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final long maxWait;
+
+    public ControllerPollWaiters(
+            @Qualifier("asyncExecutor") final Executor executor,
+            @Value("${hawkbit.ddi.long-poll.max-wait:60000}") final long maxWait) {
+        this.executor = executor;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Polls the controller base and, if it is not modified, parks the request until it could be changed or the wait time elapses.
+     * Shall be called in the request thread, in the security context of the controller.
+     * <p/>
+     * The poll function is applied in the request thread first, and out of it on wake up (in the captured tenant and security context). So,
+     * it must not use the servlet request or response - the request data it needs shall be captured before calling this method.
+     *
+     * @param controllerId the id of the polling controller
+     * @param wait the requested wait time in milliseconds, capped to the configured maximal wait time
+     * @param poll polls the controller base, the argument specifies if the poll state cache could be used
+     * @param <T> the type of the controller base
+     * @return the (deferred) response
+     */
+    public <T> DeferredResult<ResponseEntity<T>> await(
+            final String controllerId, final long wait, final Function<Boolean, PollResult<T>> poll) {
+        final long timeout = Math.min(Math.max(wait, 0), maxWait);
+        final ParkedPoll<T> parkedPoll = new ParkedPoll<>(AccessContext.tenant(), controllerId, poll, timeout);
+        if (timeout == 0) {
+            parkedPoll.result.setResult(poll.apply(true).response());
+        } else {
+            parkedPoll.start();
+        }
+        return parkedPoll.result;
+    }
+
+    /**
+     * @return the number of currently parked polls
+     */
+    public int size() {
+        return parkedPolls.values().stream().flatMap(tenantPolls -> tenantPolls.polls.values().stream()).mapToInt(Set::size).sum();
+    }
+
+    @EventListener(classes = AbstractAssignmentEvent.class)
+    public void onAssignmentEvent(final AbstractAssignmentEvent event) {
+        final TenantPolls tenantPolls = parkedPolls.get(event.getTenant());
+        if (tenantPolls != null) {
+            event.getActions().keySet().forEach(tenantPolls::wakeUp);
+        }
+    }
+
+    @EventListener(classes = TargetAttributesRequestedEvent.class)
+    public void onTargetAttributesRequestedEvent(final TargetAttributesRequestedEvent event) {
+        final TenantPolls tenantPolls = parkedPolls.get(event.getTenant());
+        if (tenantPolls != null) {
+            tenantPolls.wakeUp(event.getControllerId());
+        }
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void onTargetDeletedEvent(final TargetDeletedEvent event) {
+        final TenantPolls tenantPolls = parkedPolls.get(event.getTenant());
+        if (tenantPolls != null) {
+            tenantPolls.wakeUp(event.getControllerId());
+        }
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void onTargetUpdatedEvent(final TargetUpdatedEvent event) {
+        wakeUpByTargetId(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void onActionEvent(final AbstractActionEvent event) {
+        if (event.getTargetId() != null) {
+            wakeUpByTargetId(event.getTenant(), event.getTargetId());
+        }
+    }
+
+    @EventListener(classes = { TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class,
+            TenantConfigurationDeletedEvent.class })
+    public void onTenantConfigurationEvent(final RemoteTenantAwareEvent event) {
+        // polling time could have been changed
+        final TenantPolls tenantPolls = parkedPolls.get(event.getTenant());
+        if (tenantPolls != null) {
+            tenantPolls.polls.keySet().forEach(tenantPolls::wakeUp);
+        }
+    }
+
+    private void wakeUpByTargetId(final String tenant, final long targetId) {
+        // the event is tracked even if no poll is parked - the target id of a poll is known (indexed) after its poll only
+        final TenantPolls tenantPolls = parkedPolls.computeIfAbsent(tenant, k -> new TenantPolls());
+        tenantPolls.targetEvents.accumulateAndGet(stripe(targetId), now(), Math::max);
+        final String controllerId = tenantPolls.controllerIds.get(targetId);
+        if (controllerId != null) {
+            tenantPolls.wakeUp(controllerId);
+        }
+    }
+
+    private static long now() {
+        return System.nanoTime() - ORIGIN;
+    }
+
+    private static int stripe(final long targetId) {
+        final int hash = Long.hashCode(targetId);
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * The result of a poll of the controller base.
+     *
+     * @param targetId the id of the polled target, used to wake up the poll on events that contain only the target id
+     * @param response the response
+     * @param <T> the type of the controller base
+     */
+    public record PollResult<T>(long targetId, ResponseEntity<T> response) {}
+
+    // parked polls of a tenant, indexed by the target id since the action and target update events contain only the target id
+    private final class TenantPolls {
+
+        // controllerId -> parked polls
+        private final Map<String, Set<ParkedPoll<?>>> polls = new ConcurrentHashMap<>();
+        // targetId -> controllerId of the parked polls
+        private final Map<Long, String> controllerIds = new ConcurrentHashMap<>();
+        // last target event times per stripe of target ids, in order to detect events received before the target id is indexed
+        private final AtomicLongArray targetEvents = new AtomicLongArray(STRIPES);
+
+        private void register(final ParkedPoll<?> parkedPoll) {
+            polls.compute(parkedPoll.controllerId, (k, controllerPolls) -> {
+                final Set<ParkedPoll<?>> result = controllerPolls == null ? ConcurrentHashMap.newKeySet() : controllerPolls;
+                result.add(parkedPoll);
+                return result;
+            });
+        }
+
+        // the index is updated under the lock of the controller entry, so it is consistent with the (un)registration of its polls
+        private void index(final ParkedPoll<?> parkedPoll, final long targetId) {
+            polls.computeIfPresent(parkedPoll.controllerId, (k, controllerPolls) -> {
+                if (controllerPolls.contains(parkedPoll)) {
+                    controllerIds.put(targetId, k);
+                }
+                return controllerPolls;
+            });
+        }
+
+        private void unregister(final ParkedPoll<?> parkedPoll) {
+            polls.computeIfPresent(parkedPoll.controllerId, (k, controllerPolls) -> {
+                controllerPolls.remove(parkedPoll);
+                if (controllerPolls.isEmpty()) {
+                    removeIndex(k, parkedPoll);
+                    return null;
+                }
+                return controllerPolls;
+            });
+        }
+
+        private void wakeUp(final String controllerId) {
+            final Set<ParkedPoll<?>> woken = ConcurrentHashMap.newKeySet();
+            polls.computeIfPresent(controllerId, (k, controllerPolls) -> {
+                woken.addAll(controllerPolls);
+                controllerPolls.forEach(parkedPoll -> removeIndex(k, parkedPoll));
+                return null;
+            });
+            woken.forEach(parkedPoll -> executor.execute(parkedPoll::wakeUp));
+        }
+
+        private void removeIndex(final String controllerId, final ParkedPoll<?> parkedPoll) {
+            final Long targetId = parkedPoll.targetId;
+            if (targetId != null) {
+                controllerIds.remove(targetId, controllerId);
+            }
+        }
+    }
+
+    private final class ParkedPoll<T> {
+
+        private final String tenant;
+        private final String controllerId;
+        private final Function<Boolean, PollResult<T>> poll;
+        private final long deadline;
+        private final DeferredResult<ResponseEntity<T>> result;
+        private final SecurityContext securityContext;
+        private final TenantPolls tenantPolls;
+        private volatile ResponseEntity<T> lastResponse;
+        private volatile Long targetId;
+
+        private ParkedPoll(
+                final String tenant, final String controllerId, final Function<Boolean, PollResult<T>> poll, final long timeout) {
+            this.tenant = tenant;
+            this.controllerId = controllerId;
+            this.poll = poll;
+            deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            result = new DeferredResult<>(timeout);
+            securityContext = SecurityContextHolder.getContext();
+            tenantPolls = parkedPolls.computeIfAbsent(tenant, k -> new TenantPolls());
+        }
+
+        private void start() {
+            result.onTimeout(() -> {
+                tenantPolls.unregister(this);
+                result.setResult(lastResponse);
+            });
+            result.onCompletion(() -> tenantPolls.unregister(this));
+            // register before the first poll, so no change after the poll is missed
+            tenantPolls.register(this);
+            try {
+                poll(true);
+            } catch (final RuntimeException e) {
+                tenantPolls.unregister(this);
+                throw e;
+            }
+        }
+
+        private void wakeUp() {
+            if (result.isSetOrExpired()) {
+                return;
+            }
+            // register again before the poll - the change could still be not visible
+            tenantPolls.register(this);
+            if (result.isSetOrExpired()) {
+                // completed meanwhile, its completion callback could have already unregistered it
+                tenantPolls.unregister(this);
+                return;
+            }
+            try {
+                AccessContext.withSecurityContext(securityContext, () -> {
+                    poll(false);
+                    return null;
+                });
+            } catch (final RuntimeException e) {
+                log.debug("Failed to poll controller {} of tenant {} on wake up", controllerId, tenant, e);
+                tenantPolls.unregister(this);
+                result.setErrorResult(e);
+            }
+        }
+
+        private void poll(final boolean useCache) {
+            final long pollStart = now();
+            final PollResult<T> pollResult = poll.apply(useCache);
+            targetId = pollResult.targetId();
+            tenantPolls.index(this, pollResult.targetId());
+            complete(pollResult.response());
+            // an event by target id could have been received after the poll has started but before the target id has been indexed
+            if (!result.isSetOrExpired() && tenantPolls.targetEvents.get(stripe(pollResult.targetId())) >= pollStart) {
+                executor.execute(this::wakeUp);
+            }
+        }
+
+        // the result could be concurrently set (on time out or by another wake up) - the first one wins
+        private void complete(final ResponseEntity<T> pollResponse) {
+            lastResponse = pollResponse;
+            if (pollResponse.getStatusCode().value() != HttpStatus.NOT_MODIFIED.value() || System.nanoTime() - deadline >= 0) {
+                tenantPolls.unregister(this);
+                if (!result.setResult(pollResponse)) {
+                    log.trace("Poll of controller {} of tenant {} has already been answered", controllerId, tenant);
+                }
+            }
+        }
+    }
+}
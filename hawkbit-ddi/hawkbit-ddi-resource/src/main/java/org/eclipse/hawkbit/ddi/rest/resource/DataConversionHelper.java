@@ -9,11 +9,16 @@
  */
 package org.eclipse.hawkbit.ddi.rest.resource;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrl;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
 import org.eclipse.hawkbit.context.AccessContext;
@@ -27,10 +32,14 @@ import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiMetadata;
 import org.eclipse.hawkbit.ddi.json.model.DdiPolling;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
+import org.eclipse.hawkbit.ddi.rest.resource.ControllerPollStateCache.ActiveActionLink;
+import org.eclipse.hawkbit.ddi.rest.resource.ControllerPollStateCache.PollState;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
@@ -75,51 +84,101 @@ public final class DataConversionHelper {
     public static DdiControllerBase fromTarget(
             final Target target, final Action installedAction,
             final Action activeAction, final String defaultControllerPollTime) {
+        return fromPollState(
+                target.getControllerId(),
+                toPollState(
+                        target.getId(), target.getAddress(), target.isRequestControllerAttributes(),
+                        installedAction != null && !installedAction.isActive() ? installedAction.getId() : null,
+                        activeAction,
+                        defaultControllerPollTime));
+    }
+
+    /**
+     * Builds the poll state from the poll snapshot and the (loaded) active action, e.g. an action with maintenance schedule.
+     */
+    static PollState toPollState(final ControllerPollSnapshot snapshot, final Action activeAction, final String defaultControllerPollTime) {
+        return toPollState(
+                snapshot.targetId(), snapshot.address(), snapshot.requestControllerAttributes(), snapshot.installedActionId(), activeAction,
+                defaultControllerPollTime);
+    }
+
+    /**
+     * Builds the poll state from the poll snapshot. Note: the maintenance window of the active action is not considered, so actions
+     * with maintenance schedule shall be resolved via {@link #toPollState(ControllerPollSnapshot, Action, String)}.
+     */
+    static PollState toPollState(final ControllerPollSnapshot snapshot, final String defaultControllerPollTime) {
+        final ActiveAction activeAction = snapshot.activeAction();
+        return new PollState(
+                snapshot.targetId(),
+                snapshot.address(),
+                activeAction == null ? null : activeAction.id(),
+                activeAction == null ? null : activeActionLink(activeAction.isWaitingConfirmation(), activeAction.isCancelingOrCanceled()),
+                activeAction == null
+                        ? 0
+                        : calculateEtag(activeAction.id(), activeAction.optLockRevision(),
+                                activeAction.isHitAutoForceTime(System.currentTimeMillis()), false),
+                snapshot.installedActionId(),
+                snapshot.requestControllerAttributes(),
+                defaultControllerPollTime);
+    }
+
+    private static PollState toPollState(
+            final long targetId, final String address, final boolean requestControllerAttributes, final Long installedActionId, final Action activeAction,
+            final String defaultControllerPollTime) {
+        return new PollState(
+                targetId,
+                address,
+                activeAction == null ? null : activeAction.getId(),
+                activeAction == null ? null : activeActionLink(activeAction.isWaitingConfirmation(), activeAction.isCancelingOrCanceled()),
+                activeAction == null ? 0 : calculateEtag(activeAction),
+                installedActionId,
+                requestControllerAttributes,
+                defaultControllerPollTime);
+    }
+
+    static DdiControllerBase fromPollState(final String controllerId, final PollState pollState) {
         final DdiControllerBase result = new DdiControllerBase(
-                new DdiConfig(new DdiPolling(defaultControllerPollTime)));
+                new DdiConfig(new DdiPolling(pollState.pollingTime())));
 
-        if (activeAction != null) {
-            if (activeAction.isWaitingConfirmation()) {
-                result.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder
+        final Long activeActionId = pollState.activeActionId();
+        if (activeActionId != null) {
+            switch (pollState.activeActionLink()) {
+                case CONFIRMATION_BASE -> result.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder
                                 .methodOn(DdiRootController.class, AccessContext.tenant())
-                                .getConfirmationBaseAction(AccessContext.tenant(), target.getControllerId(),
-                                        activeAction.getId(), calculateEtag(activeAction), null))
+                                .getConfirmationBaseAction(AccessContext.tenant(), controllerId,
+                                        activeActionId, pollState.activeActionEtag(), null))
                         .withRel(DdiRootControllerRestApi.CONFIRMATION_BASE).expand());
-
-            } else if (activeAction.isCancelingOrCanceled()) {
-                result.add(WebMvcLinkBuilder
+                case CANCEL_ACTION -> result.add(WebMvcLinkBuilder
                         .linkTo(WebMvcLinkBuilder.methodOn(DdiRootController.class, AccessContext.tenant())
-                                .getControllerCancelAction(AccessContext.tenant(), target.getControllerId(),
-                                        activeAction.getId()))
+                                .getControllerCancelAction(AccessContext.tenant(), controllerId, activeActionId))
                         .withRel(DdiRootControllerRestApi.CANCEL_ACTION).expand());
-            } else {
                 // we need to add the hashcode here of the actionWithStatus because the action might
                 // have changed from 'soft' to 'forced' type, and we need to change the payload of the
                 // response because of eTags.
-                result.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder
+                case DEPLOYMENT_BASE -> result.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder
                                 .methodOn(DdiRootController.class, AccessContext.tenant())
                                 .getControllerDeploymentBaseAction(
-                                        AccessContext.tenant(), target.getControllerId(),
-                                        activeAction.getId(), calculateEtag(activeAction), null))
+                                        AccessContext.tenant(), controllerId,
+                                        activeActionId, pollState.activeActionEtag(), null))
                         .withRel(DdiRootControllerRestApi.DEPLOYMENT_BASE).expand());
             }
         }
 
-        if (installedAction != null && !installedAction.isActive()) {
+        if (pollState.installedActionId() != null) {
             result.add(
                     WebMvcLinkBuilder
                             .linkTo(WebMvcLinkBuilder.methodOn(DdiRootController.class, AccessContext.tenant())
                                     .getControllerInstalledAction(AccessContext.tenant(),
-                                            target.getControllerId(), installedAction.getId(), null))
+                                            controllerId, pollState.installedActionId(), null))
                             .withRel(DdiRootControllerRestApi.INSTALLED_BASE).expand());
         }
 
-        if (target.isRequestControllerAttributes()) {
+        if (pollState.requestControllerAttributes()) {
             result.add(WebMvcLinkBuilder
                     .linkTo(WebMvcLinkBuilder
                             .methodOn(DdiRootController.class, AccessContext.tenant())
                             // doesn't really call the putConfigData with null, just create the link
-                            .putConfigData(null, AccessContext.tenant(), target.getControllerId()))
+                            .putConfigData(null, AccessContext.tenant(), controllerId))
                     .withRel(DdiRootControllerRestApi.CONFIG_DATA).expand());
         }
 
@@ -176,17 +235,50 @@ public final class DataConversionHelper {
                 new DdiArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash(), artifact.getSha256Hash()),
                 artifact.getSize());
 
-        final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
-        artifactUrlHandler
-                .getUrls(new DownloadDescriptor(
-                                tenantMetadata.getTenant(), target.getControllerId(),
-                                artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash()),
-                        ArtifactUrlResolver.ApiType.DDI, request.getURI())
+        getUrls(target, artifactUrlHandler, artifact, systemManagement, request)
                 .forEach(entry -> file.add(Link.of(entry.ref()).withRel(entry.rel()).expand()));
 
         return file;
     }
 
+    /**
+     * Returns the entity tag part of the download links of the artifacts of the given software modules, as they are added to the
+     * artifacts by {@link #createArtifacts(Target, SoftwareModule, ArtifactUrlResolver, SystemManagement, HttpRequest)}. The links
+     * are not necessarily determined by the artifacts - resolvers could, for instance, sign them or select the host. So, if supported,
+     * the artifacts are combined with the epoch of the resolver (see {@link ArtifactUrlResolver#getEpoch()}) - without resolving the
+     * links. Otherwise, the links are resolved, in a stable order.
+     *
+     * @return the (joined) entity tag part of the links
+     */
+    static String artifactLinksETag(final Target target, final Collection<? extends SoftwareModule> modules,
+            final ArtifactUrlResolver artifactUrlHandler, final SystemManagement systemManagement,
+            final HttpRequest request) {
+        final String epoch = artifactUrlHandler.getEpoch();
+        final Stream<Artifact> artifacts = modules.stream()
+                .sorted(Comparator.comparing(SoftwareModule::getId))
+                .flatMap(module -> module.getArtifacts().stream().sorted(Comparator.comparing(Artifact::getId)));
+        if (epoch != null) {
+            return epoch + "|" + artifacts
+                    .map(artifact -> artifact.getId() + ":" + artifact.getFilename() + ":" + artifact.getSha1Hash())
+                    .collect(Collectors.joining(","));
+        }
+        return artifacts
+                .flatMap(artifact -> getUrls(target, artifactUrlHandler, artifact, systemManagement, request).stream())
+                .map(url -> url.rel() + "=" + url.ref())
+                .collect(Collectors.joining(","));
+    }
+
+    private static List<ArtifactUrl> getUrls(
+            final Target target, final ArtifactUrlResolver artifactUrlHandler,
+            final Artifact artifact, final SystemManagement systemManagement, final HttpRequest request) {
+        final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
+        return artifactUrlHandler.getUrls(
+                new DownloadDescriptor(
+                        tenantMetadata.getTenant(), target.getControllerId(),
+                        artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash()),
+                ArtifactUrlResolver.ApiType.DDI, request.getURI());
+    }
+
     /**
      * Calculates an etag for the given {@link Action} based on the entities hashcode and the {@link Action#isHitAutoForceTime(long)}
      * to reflect a force switch.
@@ -194,13 +286,35 @@ public final class DataConversionHelper {
      * @param action to calculate the etag for
      * @return the etag
      */
+    private static ActiveActionLink activeActionLink(final boolean waitingConfirmation, final boolean cancelingOrCanceled) {
+        if (waitingConfirmation) {
+            return ActiveActionLink.CONFIRMATION_BASE;
+        } else if (cancelingOrCanceled) {
+            return ActiveActionLink.CANCEL_ACTION;
+        } else {
+            return ActiveActionLink.DEPLOYMENT_BASE;
+        }
+    }
+
     private static int calculateEtag(final Action action) {
-        final int prime = 31;
-        int result = action.hashCode();
-        int offsetPrime = action.isHitAutoForceTime(System.currentTimeMillis()) ? 1231 : 1237;
-        offsetPrime = action.hasMaintenanceSchedule() && action.isMaintenanceWindowAvailable() ? 1249 : offsetPrime;
+        return calculateEtag(
+                action.getId(), action.getOptLockRevision(),
+                action.isHitAutoForceTime(System.currentTimeMillis()),
+                action.hasMaintenanceSchedule() && action.isMaintenanceWindowAvailable());
+    }
 
-        result = prime * result + offsetPrime;
-        return result;
+    // changes with the action (revision) and when the action switches from 'soft' to 'forced' or the maintenance window opens
+    private static int calculateEtag(
+            final long actionId, final int optLockRevision, final boolean hitAutoForceTime, final boolean maintenanceWindowAvailable) {
+        final int prime = 31;
+        int result = prime + Long.hashCode(actionId);
+        result = prime * result + optLockRevision;
+        final int offsetPrime;
+        if (maintenanceWindowAvailable) {
+            offsetPrime = 1249;
+        } else {
+            offsetPrime = hitAutoForceTime ? 1231 : 1237;
+        }
+        return prime * result + offsetPrime;
     }
 }
\ No newline at end of file
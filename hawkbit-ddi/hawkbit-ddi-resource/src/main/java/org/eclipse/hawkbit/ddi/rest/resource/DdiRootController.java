@@ -13,21 +13,32 @@ import static org.eclipse.hawkbit.ddi.rest.resource.DataConversionHelper.createA
 import static org.eclipse.hawkbit.repository.RepositoryConstants.SERVER_MESSAGE_PREFIX;
 import static org.eclipse.hawkbit.rest.util.RequestResponseContextHolder.getHttpServletRequest;
 import static org.eclipse.hawkbit.rest.util.RequestResponseContextHolder.getHttpServletResponse;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
 import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.extern.slf4j.Slf4j;
@@ -56,12 +67,13 @@ import org.eclipse.hawkbit.ddi.json.model.DdiDeploymentBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiResult.FinalResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiUpdateMode;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
+import org.eclipse.hawkbit.ddi.rest.resource.ControllerPollStateCache.PollState;
+import org.eclipse.hawkbit.ddi.rest.resource.ControllerPollWaiters.PollResult;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.UpdateMode;
-import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidConfirmationFeedbackException;
@@ -72,6 +84,9 @@ import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate.ActionStat
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
@@ -80,16 +95,20 @@ import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.utils.IpUtil;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * The {@link DdiRootController} of the hawkBit server DDI API that is queried by the hawkBit controller in order to pull {@link Action}s that
@@ -104,14 +123,18 @@ public class DdiRootController implements DdiRootControllerRestApi {
 
     private static final String GIVEN_ACTION_IS_NOT_ASSIGNED_TO_GIVEN_TARGET = "given action ({}) is not assigned to given target ({}).";
     private static final String FALLBACK_REMARK = "Initiated using the Device Direct Integration API without providing a remark.";
+    private static final String GZIP = "gzip";
 
     private final ControllerManagement controllerManagement;
     private final ConfirmationManagement confirmationManagement;
     private final ArtifactManagement artifactManagement;
     private final ArtifactUrlResolver artifactUrlHandler;
     private final SystemManagement systemManagement;
-    private final ApplicationEventPublisher eventPublisher;
     private final HawkbitSecurityProperties securityProperties;
+    private final ControllerPollStateCache pollStateCache;
+    private final DownloadProgressAggregator downloadProgressAggregator;
+    private final DownloadBandwidthScheduler downloadBandwidthScheduler;
+    private final ControllerPollWaiters pollWaiters;
     private final Set<String> skipArtifactAccessCheckTenants;
     private final boolean skipArtifactAccessCheck; // disable check for all tenants
 
@@ -119,16 +142,20 @@ public class DdiRootController implements DdiRootControllerRestApi {
     public DdiRootController(
             final ControllerManagement controllerManagement, final ConfirmationManagement confirmationManagement,
             final ArtifactManagement artifactManagement, final ArtifactUrlResolver artifactUrlHandler,
-            final SystemManagement systemManagement, final ApplicationEventPublisher eventPublisher,
-            final HawkbitSecurityProperties securityProperties,
+            final SystemManagement systemManagement, final HawkbitSecurityProperties securityProperties,
+            final ControllerPollStateCache pollStateCache, final DownloadProgressAggregator downloadProgressAggregator,
+            final DownloadBandwidthScheduler downloadBandwidthScheduler, final ControllerPollWaiters pollWaiters,
             @Value("${hawkbit.ddi.skip-artifact-access-check.tenants:}") final String skipArtifactAccessCheckTenants) {
         this.controllerManagement = controllerManagement;
         this.confirmationManagement = confirmationManagement;
         this.artifactManagement = artifactManagement;
         this.artifactUrlHandler = artifactUrlHandler;
         this.systemManagement = systemManagement;
-        this.eventPublisher = eventPublisher;
         this.securityProperties = securityProperties;
+        this.pollStateCache = pollStateCache;
+        this.downloadProgressAggregator = downloadProgressAggregator;
+        this.downloadBandwidthScheduler = downloadBandwidthScheduler;
+        this.pollWaiters = pollWaiters;
         skipArtifactAccessCheck = "*".equals(skipArtifactAccessCheckTenants);
         this.skipArtifactAccessCheckTenants = skipArtifactAccessCheck || ObjectUtils.isEmpty(skipArtifactAccessCheckTenants)
                 ? Set.of()
@@ -142,21 +169,17 @@ public class DdiRootController implements DdiRootControllerRestApi {
     @Override
     public ResponseEntity<DdiControllerBase> getControllerBase(final String tenant, final String controllerId) {
         log.debug("getControllerBase({})", controllerId);
-        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(
-                controllerId, IpUtil.getClientIpFromRequest(getHttpServletRequest(), securityProperties));
-        final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
-        final Action installedAction = controllerManagement.findInstalledActionByTarget(target).orElse(null);
-
-        checkAndCancelExpiredAction(activeAction);
+        return getControllerBase(controllerId, true, PollRequest.of(getHttpServletRequest(), securityProperties)).response();
+    }
 
-        // activeAction
-        return new ResponseEntity<>(DataConversionHelper.fromTarget(
-                target,
-                installedAction, activeAction,
-                activeAction == null
-                        ? controllerManagement.getPollingTime(target)
-                        : controllerManagement.getPollingTimeForAction(target, activeAction)),
-                HttpStatus.OK);
+    @Override
+    public DeferredResult<ResponseEntity<DdiControllerBase>> getControllerBaseLongPoll(
+            final String tenant, final String controllerId, final long wait) {
+        log.debug("getControllerBaseLongPoll({}, {})", controllerId, wait);
+        // on wake up the poll is evaluated out of the request thread - so just with the request data captured here
+        final PollRequest pollRequest = PollRequest.of(getHttpServletRequest(), securityProperties);
+        return pollWaiters.await(
+                controllerId, TimeUnit.SECONDS.toMillis(wait), useCache -> getControllerBase(controllerId, useCache, pollRequest));
     }
 
     @Override
@@ -189,10 +212,12 @@ public class DdiRootController implements DdiRootControllerRestApi {
             }
         }
 
-        return new ResponseEntity<>(
-                createArtifacts(
-                        target, softwareModule, artifactUrlHandler, systemManagement, new ServletServerHttpRequest(getHttpServletRequest())),
-                HttpStatus.OK);
+        final ServletServerHttpRequest request = new ServletServerHttpRequest(getHttpServletRequest());
+        return okOrNotModified(
+                eTag(softwareModule.getId(), softwareModule.getOptLockRevision(),
+                        DataConversionHelper.artifactLinksETag(
+                                target, List.of(softwareModule), artifactUrlHandler, systemManagement, request)),
+                () -> createArtifacts(target, softwareModule, artifactUrlHandler, systemManagement, request));
     }
 
     @Override
@@ -211,22 +236,50 @@ public class DdiRootController implements DdiRootControllerRestApi {
                 return new ResponseEntity<>(PRECONDITION_FAILED);
             } else {
                 final Action action = getAction(tenant, target, module);
-                final ArtifactStream file = artifactManagement.getArtifactStream(artifact.getSha1Hash(), module.getId(), module.isEncrypted());
-                final ActionStatus actionStatus = action != null && getHttpServletRequest().getHeader("Range") == null
+                final ArtifactStream file = getArtifactStream(artifact, module);
+                final ActionStatus actionStatus = action != null && getHttpServletRequest().getHeader(RANGE) == null
                         ? logDownload(action)
                         : null; // range request - could have too many - so doesn't check action, don't log action status, and don't publish events
-                return FileStreamingUtil.writeFileResponse(file, artifact.getFilename(), artifact.getCreatedAt(),
-                        getHttpServletRequest(), getHttpServletResponse(),
-                        (length, shippedSinceLastEvent, total) -> {
-                            if (actionStatus != null) {
-                                eventPublisher.publishEvent(
-                                        new DownloadProgressEvent(AccessContext.tenant(), actionStatus.getId(), shippedSinceLastEvent));
-                            }
-                        });
+                final DownloadBandwidthScheduler.Download download = downloadBandwidthScheduler.open(AccessContext.tenant(), controllerId);
+                try {
+                    return FileStreamingUtil.writeFileResponse(file, artifact.getFilename(), artifact.getCreatedAt(),
+                            getHttpServletRequest(), getHttpServletResponse(),
+                            (length, shippedSinceLastEvent, total) -> {
+                                if (actionStatus != null) {
+                                    downloadProgressAggregator.progress(AccessContext.tenant(), actionStatus.getId(), shippedSinceLastEvent);
+                                }
+                            },
+                            download);
+                } finally {
+                    if (download != null) {
+                        download.close();
+                    }
+                    if (actionStatus != null) {
+                        downloadProgressAggregator.complete(actionStatus.getId());
+                    }
+                }
             }
         }
     }
 
+    // serves the pre-compressed (gzip) variant, if available, to full (not range) requests of clients accepting it - range requests
+    // (e.g. resumed downloads) and other clients get the artifact binary unchanged
+    private ArtifactStream getArtifactStream(final Artifact artifact, final SoftwareModule module) {
+        if (!module.isEncrypted()) {
+            getHttpServletResponse().setHeader(VARY, ACCEPT_ENCODING);
+            if (getHttpServletRequest().getHeader(RANGE) == null &&
+                    HttpUtil.acceptsEncoding(getHttpServletRequest().getHeader(ACCEPT_ENCODING), GZIP)) {
+                final Optional<ArtifactStream> variant = artifactManagement.getEncodedArtifactStream(
+                        artifact.getSha1Hash(), module.getId(), GZIP);
+                if (variant.isPresent()) {
+                    getHttpServletResponse().setHeader(CONTENT_ENCODING, GZIP);
+                    return variant.get();
+                }
+            }
+        }
+        return artifactManagement.getArtifactStream(artifact.getSha1Hash(), module.getId(), module.isEncrypted());
+    }
+
     // Exception squid:S3655 - Optional access is checked in checkModule subroutine
     @SuppressWarnings("squid:S3655")
     @Override
@@ -267,11 +320,13 @@ public class DdiRootController implements DdiRootControllerRestApi {
         checkAndCancelExpiredAction(action);
 
         if (!action.isCancelingOrCanceled() && !action.isWaitingConfirmation()) {
-            final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, actionHistoryMessageCount);
-            log.debug("Found an active UpdateAction for target {}. returning deployment: {}", controllerId, base);
+            final ResponseEntity<DdiDeploymentBase> response = okOrNotModified(
+                    deploymentETag(target, action, actionHistoryMessageCount),
+                    () -> generateDdiDeploymentBase(target, action, actionHistoryMessageCount));
+            log.debug("Found an active UpdateAction for target {}. returning deployment: {}", controllerId, response.getBody());
             controllerManagement.registerRetrieved(
                     action.getId(), SERVER_MESSAGE_PREFIX + "Target retrieved update action and should start now the download.");
-            return new ResponseEntity<>(base, HttpStatus.OK);
+            return response;
         }
 
         return ResponseEntity.notFound().build();
@@ -294,7 +349,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             return new ResponseEntity<>(HttpStatus.GONE);
         }
 
-        controllerManagement.addUpdateActionStatus(generateUpdateStatus(feedback, controllerId, actionId));
+        controllerManagement.ingestUpdateActionStatus(generateUpdateStatus(feedback, controllerId, actionId));
 
         return ResponseEntity.ok().build();
     }
@@ -377,9 +432,11 @@ public class DdiRootController implements DdiRootControllerRestApi {
         checkAndCancelExpiredAction(action);
 
         if (!action.isCancelingOrCanceled() && action.isWaitingConfirmation()) {
-            final DdiConfirmationBaseAction base = generateDdiConfirmationBase(target, action, actionHistoryMessageCount);
-            log.debug("Found an active UpdateAction for target {}. Returning confirmation: {}", controllerId, base);
-            return new ResponseEntity<>(base, HttpStatus.OK);
+            final ResponseEntity<DdiConfirmationBaseAction> response = okOrNotModified(
+                    deploymentETag(target, action, actionHistoryMessageCount),
+                    () -> generateDdiConfirmationBase(target, action, actionHistoryMessageCount));
+            log.debug("Found an active UpdateAction for target {}. Returning confirmation: {}", controllerId, response.getBody());
+            return response;
         }
 
         return ResponseEntity.notFound().build();
@@ -449,6 +506,117 @@ public class DdiRootController implements DdiRootControllerRestApi {
         }
     }
 
+    // doesn't use the servlet request, could be called out of the request thread
+    private PollResult<DdiControllerBase> getControllerBase(
+            final String controllerId, final boolean useCache, final PollRequest pollRequest) {
+        final URI address = pollRequest.address();
+
+        // fast path - nothing has changed since the last poll, only the last poll time shall be (write-behind) updated
+        final PollState cachedPollState = useCache ? pollStateCache.get(controllerId) : null;
+        if (cachedPollState != null && address.toString().equals(cachedPollState.address())
+                && controllerManagement.registerPoll(controllerId)) {
+            return new PollResult<>(cachedPollState.targetId(), okOrNotModified(
+                    eTag(pollRequest, cachedPollState), pollRequest.ifNoneMatch(),
+                    () -> pollRequest.resolveLinks(DataConversionHelper.fromPollState(controllerId, cachedPollState))));
+        }
+
+        // single query if the target exists and is not to be updated - the target is read as projection with the actions
+        final long pollStateReadStart = pollStateCache.startRead();
+        final ControllerPollSnapshot snapshot = controllerManagement.findOrRegisterPollSnapshot(controllerId, address);
+
+        final ActiveAction activeAction = snapshot.activeAction();
+        final PollState pollState;
+        if (activeAction != null && activeAction.maintenanceSchedule()) {
+            // maintenance window dependent state - resolved using the action entity (with its target)
+            final Action action = controllerManagement.findActionWithDetails(activeAction.id())
+                    .orElseThrow(() -> new EntityNotFoundException(Action.class, activeAction.id()));
+            checkAndCancelExpiredAction(action);
+            pollState = DataConversionHelper.toPollState(
+                    snapshot, action, controllerManagement.getPollingTimeForAction(action.getTarget(), action));
+        } else {
+            pollState = DataConversionHelper.toPollState(snapshot, controllerManagement.getPollingTime(snapshot));
+        }
+        pollStateCache.put(snapshot, pollState, pollStateReadStart);
+        return new PollResult<>(snapshot.targetId(), okOrNotModified(
+                eTag(pollRequest, pollState), pollRequest.ifNoneMatch(),
+                () -> pollRequest.resolveLinks(DataConversionHelper.fromPollState(controllerId, pollState))));
+    }
+
+    /**
+     * Returns {@link HttpStatus#NOT_MODIFIED} if the entity tag matches the <code>If-None-Match</code> header of the request. Otherwise,
+     * returns the body, with the entity tag if available. So, on match the body is neither built nor serialized.
+     *
+     * @param eTag the strong entity tag of the response or <code>null</code> if not supported
+     * @param body supplier of the response body
+     * @return the response
+     */
+    private static <T> ResponseEntity<T> okOrNotModified(@Nullable final String eTag, final Supplier<T> body) {
+        return okOrNotModified(eTag, eTag == null ? null : getHttpServletRequest().getHeader(IF_NONE_MATCH), body);
+    }
+
+    private static <T> ResponseEntity<T> okOrNotModified(
+            @Nullable final String eTag, @Nullable final String ifNoneMatch, final Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (ifNoneMatch != null && HttpUtil.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+
+    private static String eTag(final PollRequest pollRequest, final PollState pollState) {
+        // the address is not part of the controller base
+        return eTag(
+                pollRequest.eTagBase(),
+                pollState.activeActionId(), pollState.activeActionLink(), pollState.activeActionEtag(),
+                pollState.installedActionId(), pollState.requestControllerAttributes(), pollState.pollingTime());
+    }
+
+    // deployment and confirmation base are defined by the action, its (locked) distribution set and software modules and the artifact
+    // links (which could change, e.g. if signed, without modification of the software modules)
+    private @Nullable String deploymentETag(final Target target, final Action action, final Integer actionHistoryMessageCount) {
+        if (actionHistoryMessageCount == null || actionHistoryMessageCount != 0) {
+            // the action status history could be extended without modification of the action
+            return null;
+        }
+        final DistributionSet distributionSet = action.getDistributionSet();
+        final HandlingType downloadType = calculateDownloadType(action);
+        return eTag(
+                action.getId(), action.getOptLockRevision(),
+                downloadType, calculateUpdateType(action, downloadType), calculateMaintenanceWindow(action),
+                distributionSet.getId(), distributionSet.getOptLockRevision(),
+                distributionSet.getModules().stream()
+                        .sorted(Comparator.comparing(SoftwareModule::getId))
+                        .map(module -> module.getId() + ":" + module.getOptLockRevision())
+                        .collect(Collectors.joining(",")),
+                DataConversionHelper.artifactLinksETag(
+                        target, distributionSet.getModules(), artifactUrlHandler, systemManagement,
+                        new ServletServerHttpRequest(getHttpServletRequest())));
+    }
+
+    /**
+     * Calculates strong entity tag from the given parts - entity ids, optimistic lock revisions and artifact links. The request URL
+     * (links are built from it) and the requested serialization format are always included.
+     */
+    private static String eTag(final Object... parts) {
+        return eTag(eTagBase(getHttpServletRequest()), parts);
+    }
+
+    private static String eTag(final String eTagBase, final Object... parts) {
+        final StringBuilder eTag = new StringBuilder(eTagBase);
+        for (final Object part : parts) {
+            eTag.append('|').append(part);
+        }
+        return '"' + DigestUtils.md5DigestAsHex(eTag.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+
+    // the request URL (links are built from it) and the requested serialization format
+    private static String eTagBase(final HttpServletRequest request) {
+        final String accept = request.getHeader(ACCEPT);
+        return request.getRequestURL() + "|" + (accept != null && accept.contains(MEDIA_TYPE_APPLICATION_CBOR));
+    }
+
     private static boolean checkModule(final String fileName, final SoftwareModule module) {
         return module == null || module.getArtifactByFilename(fileName).isEmpty();
     }
@@ -765,4 +933,34 @@ public class DdiRootController implements DdiRootControllerRestApi {
             return new DdiAutoConfirmationState(false, null, null, 0L);
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * The data of a controller base poll request - captured in the request thread, so the poll could be evaluated out of it (when a long
+     * poll is woken up), without access to the servlet request which could be already recycled.
+     *
+     * @param address the client address
+     * @param eTagBase the request dependent part of the entity tag
+     * @param ifNoneMatch the <code>If-None-Match</code> header
+     * @param baseUri the base URI of the links
+     */
+    private record PollRequest(URI address, String eTagBase, @Nullable String ifNoneMatch, String baseUri) {
+
+        private static PollRequest of(final HttpServletRequest request, final HawkbitSecurityProperties securityProperties) {
+            return new PollRequest(
+                    IpUtil.getClientIpFromRequest(request, securityProperties), DdiRootController.eTagBase(request),
+                    request.getHeader(IF_NONE_MATCH),
+                    ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString());
+        }
+
+        // out of the request thread the links are built relative to the root - they are resolved against the base URI of the request
+        private DdiControllerBase resolveLinks(final DdiControllerBase controllerBase) {
+            if (RequestContextHolder.getRequestAttributes() != null) {
+                return controllerBase;
+            }
+            final List<Link> links = controllerBase.getLinks().toList();
+            controllerBase.removeLinks();
+            links.forEach(link -> controllerBase.add(link.withHref(baseUri + link.getHref())));
+            return controllerBase;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DOWNLOAD_BANDWIDTH_CONTROLLER;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DOWNLOAD_BANDWIDTH_TENANT;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DOWNLOAD_BANDWIDTH_WEIGHT;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
+import org.eclipse.hawkbit.rest.util.FileStreamingUtil.BandwidthThrottle;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local scheduler of the artifact download bandwidth. Token buckets limit the bandwidth of each tenant and of each controller, as
+ * configured per tenant (see {@link TenantConfigurationKey#DOWNLOAD_BANDWIDTH_TENANT} and
+ * {@link TenantConfigurationKey#DOWNLOAD_BANDWIDTH_CONTROLLER}).
+ * <p/>
+ * The global limit of the node (<code>hawkbit.ddi.download-bandwidth.global</code>) is shared by the currently downloading tenants,
+ * weighted by their {@link TenantConfigurationKey#DOWNLOAD_BANDWIDTH_WEIGHT}. The part of its share a tenant can't use because of its own
+ * limit is shared by the other ones (weighted max-min fairness). So, a single tenant's rollout can't saturate the uplink of the node,
+ * while the bandwidth is fully available if just one tenant downloads.
+ * <p/>
+ * The time the downloads are throttled is recorded per tenant (<code>hawkbit.download.throttled</code>).
+ */
+@Component
+public class DownloadBandwidthScheduler {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long globalLimit;
+    private final MeterRegistry meterRegistry;
+    private final Supplier<Limits> limitsResolver;
+    // the tenant configuration is read at most every 10 seconds per tenant, not with every download
+    private final Cache<String, Limits> limits = Caffeine.newBuilder().expireAfterWrite(10, TimeUnit.SECONDS).build();
+
+    // downloading tenants and controllers (key: tenant/controllerId) - guarded by this
+    private final Map<String, TenantBandwidth> tenants = new HashMap<>();
+    private final Map<String, ControllerBandwidth> controllers = new HashMap<>();
+
+    @Autowired
+    public DownloadBandwidthScheduler(
+            @Value("${hawkbit.ddi.download-bandwidth.global:0}") final long globalLimit, final Optional<MeterRegistry> meterRegistry) {
+        this(globalLimit, meterRegistry.orElse(null), () -> new Limits(
+                TenantConfigHelper.getAsSystem(DOWNLOAD_BANDWIDTH_TENANT, Long.class),
+                TenantConfigHelper.getAsSystem(DOWNLOAD_BANDWIDTH_CONTROLLER, Long.class),
+                TenantConfigHelper.getAsSystem(DOWNLOAD_BANDWIDTH_WEIGHT, Integer.class)));
+    }
+
+    DownloadBandwidthScheduler(final long globalLimit, final MeterRegistry meterRegistry, final Supplier<Limits> limitsResolver) {
+        this.globalLimit = globalLimit;
+        this.meterRegistry = meterRegistry;
+        this.limitsResolver = limitsResolver;
+    }
+
+    /**
+     * Registers a download. Shall be called in the context of the tenant, and the returned download shall be closed when completed
+     * (or aborted).
+     *
+     * @param tenant the tenant
+     * @param controllerId the id of the downloading controller
+     * @return the download, throttling the writes, or <code>null</code> if the download is not limited at all
+     */
+    public @Nullable Download open(final String tenant, final String controllerId) {
+        final Limits tenantLimits = limits.get(tenant, key -> limitsResolver.get());
+        if (globalLimit <= 0 && tenantLimits.tenant() <= 0 && tenantLimits.controller() <= 0) {
+            return null;
+        }
+
+        final Timer throttled = meterRegistry == null
+                ? null
+                : Timer.builder("hawkbit.download.throttled")
+                        .description("Time the artifact downloads have been throttled")
+                        .tag("tenant", tenant)
+                        .register(meterRegistry);
+        synchronized (this) {
+            final TenantBandwidth tenantBandwidth = tenants.computeIfAbsent(tenant, key -> new TenantBandwidth());
+            tenantBandwidth.downloads++;
+            tenantBandwidth.limit = tenantLimits.tenant();
+            tenantBandwidth.weight = Math.max(1, tenantLimits.weight());
+            final String controllerKey = tenant + '/' + controllerId;
+            final ControllerBandwidth controllerBandwidth;
+            if (tenantLimits.controller() > 0) {
+                // parallel (e.g. range) downloads of a controller share its limit
+                controllerBandwidth = controllers.computeIfAbsent(controllerKey, key -> new ControllerBandwidth());
+                controllerBandwidth.downloads++;
+                controllerBandwidth.bucket.setRate(tenantLimits.controller());
+            } else {
+                controllerBandwidth = null;
+            }
+            share();
+            return new Download(tenant, tenantBandwidth, controllerKey, controllerBandwidth, throttled);
+        }
+    }
+
+    // the current rate of the tenant bucket, 0 if unlimited or not downloading
+    synchronized long rate(final String tenant) {
+        final TenantBandwidth tenantBandwidth = tenants.get(tenant);
+        return tenantBandwidth == null ? 0 : tenantBandwidth.bucket.rate;
+    }
+
+    private synchronized void close(final Download download) {
+        if (--download.tenantBandwidth.downloads == 0) {
+            tenants.remove(download.tenant);
+        }
+        if (download.controllerBandwidth != null && --download.controllerBandwidth.downloads == 0) {
+            controllers.remove(download.controllerKey);
+        }
+        share();
+    }
+
+    // (re-)assigns the rates of the tenants - the global limit is shared weighted, the tenants limited below their share get their limit
+    // and the rest is shared by the other tenants
+    private void share() {
+        if (globalLimit <= 0) {
+            tenants.values().forEach(tenantBandwidth -> tenantBandwidth.bucket.setRate(tenantBandwidth.limit));
+            return;
+        }
+
+        final List<TenantBandwidth> unassigned = new ArrayList<>(tenants.values());
+        long remaining = globalLimit;
+        boolean capped = true;
+        while (capped && !unassigned.isEmpty()) {
+            capped = false;
+            // the share per weight only grows when capped tenants are removed, so all tenants capped in a pass stay capped
+            final double sharePerWeight = (double) remaining / unassigned.stream().mapToLong(t -> t.weight).sum();
+            for (final Iterator<TenantBandwidth> iterator = unassigned.iterator(); iterator.hasNext(); ) {
+                final TenantBandwidth tenantBandwidth = iterator.next();
+                if (tenantBandwidth.limit > 0 && tenantBandwidth.limit <= sharePerWeight * tenantBandwidth.weight) {
+                    tenantBandwidth.bucket.setRate(tenantBandwidth.limit);
+                    remaining -= tenantBandwidth.limit;
+                    iterator.remove();
+                    capped = true;
+                }
+            }
+        }
+        if (!unassigned.isEmpty()) {
+            final double sharePerWeight = (double) remaining / unassigned.stream().mapToLong(t -> t.weight).sum();
+            unassigned.forEach(tenantBandwidth ->
+                    tenantBandwidth.bucket.setRate(Math.max(1, (long) (sharePerWeight * tenantBandwidth.weight))));
+        }
+    }
+
+    /**
+     * Download registered with {@link #open(String, String)} - throttles its writes to the bandwidth of its tenant and controller.
+     */
+    public final class Download implements BandwidthThrottle, AutoCloseable {
+
+        private final String tenant;
+        private final TenantBandwidth tenantBandwidth;
+        private final String controllerKey;
+        private final ControllerBandwidth controllerBandwidth;
+        private final Timer throttled;
+        private boolean closed;
+
+        private Download(
+                final String tenant, final TenantBandwidth tenantBandwidth,
+                final String controllerKey, final ControllerBandwidth controllerBandwidth, final Timer throttled) {
+            this.tenant = tenant;
+            this.tenantBandwidth = tenantBandwidth;
+            this.controllerKey = controllerKey;
+            this.controllerBandwidth = controllerBandwidth;
+            this.throttled = throttled;
+        }
+
+        @Override
+        public void acquire(final long bytes) throws InterruptedIOException {
+            long waitNanos = tenantBandwidth.bucket.reserve(bytes);
+            if (controllerBandwidth != null) {
+                waitNanos = Math.max(waitNanos, controllerBandwidth.bucket.reserve(bytes));
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while throttled");
+                }
+                if (throttled != null) {
+                    throttled.record(waitNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        // a download is streamed by a single thread
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                DownloadBandwidthScheduler.this.close(this);
+            }
+        }
+    }
+
+    // bandwidth limits of a tenant, in bytes per second (0 for unlimited)
+    record Limits(long tenant, long controller, int weight) {}
+
+    private static final class TenantBandwidth {
+
+        private final Bucket bucket = new Bucket();
+        private int downloads;
+        private long limit;
+        private int weight;
+    }
+
+    private static final class ControllerBandwidth {
+
+        private final Bucket bucket = new Bucket();
+        private int downloads;
+    }
+
+    // token bucket with a burst of a second - the tokens could be reserved in advance (become negative), so each write waits just for its
+    // own bytes and the writes are served in the order of their reservations
+    private static final class Bucket {
+
+        private volatile long rate; // bytes per second, 0 for unlimited - written only with the lock
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        private synchronized void setRate(final long rate) {
+            refill(System.nanoTime());
+            this.rate = rate;
+            tokens = Math.min(tokens, rate);
+        }
+
+        // returns the nanos to wait until the bytes are available
+        private synchronized long reserve(final long bytes) {
+            if (rate <= 0) {
+                return 0;
+            }
+            refill(System.nanoTime());
+            tokens -= bytes;
+            return tokens >= 0 ? 0 : (long) (-tokens * NANOS_PER_SECOND / rate);
+        }
+
+        private void refill(final long now) {
+            if (rate > 0) {
+                tokens = Math.min(rate, tokens + (double) (now - lastRefill) * rate / NANOS_PER_SECOND);
+            }
+            lastRefill = now;
+        }
+    }
+}
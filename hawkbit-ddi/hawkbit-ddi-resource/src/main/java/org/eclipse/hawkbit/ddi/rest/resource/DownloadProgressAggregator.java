@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local aggregator of the download progress. Instead of publishing a (remote) {@link DownloadProgressEvent} for every progress
+ * tick of a download, the shipped bytes are summed up per download action status and published at most once per configured interval,
+ * or when the configured number of bytes is reached, and finally when the download is completed (or aborted).
+ * <p/>
+ * Interval 0 publishes every progress tick, byte threshold 0 disables the threshold.
+ */
+@Component
+public class DownloadProgressAggregator {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long intervalNanos;
+    private final long bytesThreshold;
+    private final LongSupplier nanoTime;
+
+    // actionStatusId -> progress, action status ids are unique across tenants
+    private final Map<Long, Progress> downloads = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DownloadProgressAggregator(
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${hawkbit.ddi.download-progress.interval:1000}") final long intervalMillis,
+            @Value("${hawkbit.ddi.download-progress.bytes:0}") final long bytesThreshold) {
+        this(eventPublisher, intervalMillis, bytesThreshold, System::nanoTime);
+    }
+
+    DownloadProgressAggregator(
+            final ApplicationEventPublisher eventPublisher, final long intervalMillis, final long bytesThreshold,
+            final LongSupplier nanoTime) {
+        this.eventPublisher = eventPublisher;
+        intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.bytesThreshold = bytesThreshold;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Registers a progress of a download.
+     *
+     * @param tenant the tenant
+     * @param actionStatusId the id of the download action status
+     * @param shippedSinceLast bytes shipped since the last progress
+     */
+    public void progress(final String tenant, final long actionStatusId, final long shippedSinceLast) {
+        final long now = nanoTime.getAsLong();
+        final Progress progress = downloads.computeIfAbsent(actionStatusId, id -> new Progress(tenant, now));
+        progress.pending += shippedSinceLast;
+        if (now - progress.lastPublished >= intervalNanos || (bytesThreshold > 0 && progress.pending >= bytesThreshold)) {
+            publish(actionStatusId, progress, now);
+        }
+    }
+
+    /**
+     * Publishes the not yet published progress of a download and stops its tracking. Shall be called when the download is completed or
+     * aborted.
+     *
+     * @param actionStatusId the id of the download action status
+     */
+    public void complete(final long actionStatusId) {
+        final Progress progress = downloads.remove(actionStatusId);
+        if (progress != null) {
+            publish(actionStatusId, progress, nanoTime.getAsLong());
+        }
+    }
+
+    private void publish(final long actionStatusId, final Progress progress, final long now) {
+        progress.lastPublished = now;
+        if (progress.pending > 0) {
+            eventPublisher.publishEvent(new DownloadProgressEvent(progress.tenant, actionStatusId, progress.pending));
+            progress.pending = 0;
+        }
+    }
+
+    // a download is streamed by a single thread, so no synchronization is needed
+    private static final class Progress {
+
+        private final String tenant;
+        private long pending;
+        private long lastPublished;
+
+        private Progress(final String tenant, final long now) {
+            this.tenant = tenant;
+            lastPublished = now;
+        }
+    }
+}
@@ -70,7 +70,10 @@ import org.springframework.test.web.servlet.MvcResult;
  * Story: Artifact Download Resource
  */
 @SpringBootTest(classes = { DownloadTestConfiguration.class })
-@TestPropertySource(properties = "hawkbit.ddi.skip-artifact-access-check.tenants=" + DdiArtifactDownloadTest.SKIP_ARTIFACT_CHECK_TENANT)
+@TestPropertySource(properties = {
+        "hawkbit.ddi.skip-artifact-access-check.tenants=" + DdiArtifactDownloadTest.SKIP_ARTIFACT_CHECK_TENANT,
+        // every download progress is published, not aggregated
+        "hawkbit.ddi.download-progress.interval=0" })
 class DdiArtifactDownloadTest extends AbstractDDiApiIntegrationTest {
 
     static final String SKIP_ARTIFACT_CHECK_TENANT = "SKIP_ARTIFACT_CHECK_TENANT";
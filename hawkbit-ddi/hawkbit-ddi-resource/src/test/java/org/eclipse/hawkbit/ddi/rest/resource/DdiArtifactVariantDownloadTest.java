@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.hawkbit.context.AccessContext.tenant;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpHeaders.VARY;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test downloads of the pre-compressed artifact variants.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Artifact Download Resource
+ */
+@TestPropertySource(properties = "org.eclipse.hawkbit.artifact.fs.variants.enabled=true")
+class DdiArtifactVariantDownloadTest extends AbstractDDiApiIntegrationTest {
+
+    private static final String DOWNLOAD_FN = "/{tenant}/controller/v1/{controllerId}/softwaremodules/{smId}/artifacts/{filename}";
+    private static final String GZIP = "gzip";
+
+    /**
+     * Verifies that the gzip variant is served (with Content-Encoding) to full downloads of clients accepting gzip, while range
+     * requests and the other clients get the artifact binary unchanged - the responses vary by Accept-Encoding.
+     */
+    @Test
+    void downloadGzipVariant() throws Exception {
+        // compressible, larger than the minimal size of the variants
+        final byte[] content = "hawkBit artifact variant ".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        final Target target = testdataFactory.createTarget();
+        final DistributionSet ds = testdataFactory.createDistributionSet("");
+        final Long moduleId = ds.getModules().iterator().next().getId();
+        final Artifact artifact = artifactManagement.create(
+                new ArtifactUpload(new ByteArrayInputStream(content), null, content.length, null, moduleId, "file1", false));
+        assignDistributionSet(ds, target);
+
+        // produced in the background
+        await().atMost(Duration.ofSeconds(10)).pollInSameThread().until(() -> {
+            final Optional<ArtifactStream> variant = artifactManagement.getEncodedArtifactStream(artifact.getSha1Hash(), moduleId, GZIP);
+            if (variant.isPresent()) {
+                variant.get().close();
+                return true;
+            }
+            return false;
+        });
+
+        final byte[] compressed = mvc.perform(get(DOWNLOAD_FN, tenant(), target.getControllerId(), moduleId, "file1")
+                        .header(ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_ENCODING, GZIP))
+                .andExpect(header().string(VARY, ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(compressed.length).isLessThan(content.length);
+        assertThat(gunzip(compressed)).isEqualTo(content);
+
+        // not accepted
+        assertThat(mvc.perform(get(DOWNLOAD_FN, tenant(), target.getControllerId(), moduleId, "file1")
+                        .header(ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_ENCODING))
+                .andExpect(header().string(VARY, ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray()).isEqualTo(content);
+        // range requests get the binary
+        mvc.perform(get(DOWNLOAD_FN, tenant(), target.getControllerId(), moduleId, "file1")
+                        .header(ACCEPT_ENCODING, GZIP).header(RANGE, "bytes=0-99"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().doesNotExist(CONTENT_ENCODING))
+                .andExpect(header().string(VARY, ACCEPT_ENCODING));
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -288,6 +288,42 @@ class DdiConfirmationBaseTest extends AbstractDDiApiIntegrationTest {
         verifyActionInDeploymentBaseState(controllerId, savedAction.getId());
     }
 
+    /**
+     * Ensures that the confirmation base results in not modified response if the etag provided by the client matches, and it is
+     * not found anymore (the deployment base is provided instead) when the action is confirmed.
+     */
+    @Test
+    void confirmationResourceNotModified() throws Exception {
+        enableConfirmationFlow();
+        final Target target = testdataFactory.createTarget();
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("");
+        testdataFactory.createArtifacts(distributionSet.getModules().stream().findAny().orElseThrow().getId());
+        assignDistributionSet(distributionSet.getId(), target.getControllerId());
+        final Action action = deploymentManagement.findActiveActionsByTarget(target.getControllerId(), PAGE).getContent().get(0);
+
+        final String confirmationEtag = mvc
+                .perform(get(CONFIRMATION_BASE_ACTION, AccessContext.tenant(), target.getControllerId(), action.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(confirmationEtag).isNotNull();
+        mvc.perform(get(CONFIRMATION_BASE_ACTION, AccessContext.tenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", confirmationEtag))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified());
+
+        sendConfirmationFeedback(target, action, DdiConfirmationFeedback.Confirmation.CONFIRMED, 10, "Action confirmed message.")
+                .andExpect(status().isOk());
+        mvc.perform(get(CONFIRMATION_BASE_ACTION, AccessContext.tenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", confirmationEtag))
+                .andExpect(status().isNotFound());
+        final String deploymentEtag = mvc
+                .perform(get(DEPLOYMENT_BASE, AccessContext.tenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", confirmationEtag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(deploymentEtag).isNotNull().isNotEqualTo(confirmationEtag);
+    }
+
     /**
      * Confirmation base provides right values if auto-confirm not active.
      */
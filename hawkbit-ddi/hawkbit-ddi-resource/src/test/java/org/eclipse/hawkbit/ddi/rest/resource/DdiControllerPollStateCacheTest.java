@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.ddi.rest.resource.ControllerPollStateCache.PollState;
+import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.util.QueryCount;
+import org.eclipse.hawkbit.repository.test.util.QueryCountConfiguration;
+import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Test the DDI poll state cache - the test defaults disable the cache (maximumSize=0) and the write-behind poll persistence.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Poll State Cache
+ */
+@Import(QueryCountConfiguration.class)
+@TestPropertySource(properties = {
+        "hawkbit.cache.ControllerPollState.spec=maximumSize=1000,expireAfterWrite=60s",
+        "hawkbit.cache.ControllerPollStateTargetId.spec=maximumSize=1000,expireAfterWrite=60s",
+        "hawkbit.server.repository.eagerPollPersistence=false" })
+class DdiControllerPollStateCacheTest extends AbstractDDiApiIntegrationTest {
+
+    private static final Duration EVICTION_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ControllerPollStateCache pollStateCache;
+    @Autowired
+    private QueryCount queryCount;
+
+    /**
+     * Verifies that the polls of an unchanged target are answered from the cache, without reading the actions.
+     */
+    @Test
+    void pollOfUnchangedTargetIsAnsweredFromCache() throws Exception {
+        final Target target = testdataFactory.createTarget();
+        // the first poll registers the target - the target update invalidates the state read concurrently
+        poll(target);
+        assertThat(pollStateCache.get(target.getControllerId())).isNull();
+        poll(target).andExpect(jsonPath("$._links.deploymentBase.href").doesNotExist());
+        final PollState cached = pollStateCache.get(target.getControllerId());
+        assertThat(cached).isNotNull();
+
+        queryCount.reset();
+        poll(target).andExpect(jsonPath("$._links.deploymentBase.href").doesNotExist());
+        assertThat(queryCount.matching("sp_action")).isZero();
+        assertThat(pollStateCache.get(target.getControllerId())).isEqualTo(cached);
+    }
+
+    /**
+     * Verifies that the cached poll state is evicted on assignment, and the next poll gets (and caches) the assigned action.
+     */
+    @Test
+    void pollStateIsEvictedOnAssignment() throws Exception {
+        final Target target = testdataFactory.createTarget();
+        poll(target);
+        poll(target);
+        assertThat(pollStateCache.get(target.getControllerId())).isNotNull();
+
+        final Action action = getFirstAssignedAction(assignDistributionSet(testdataFactory.createDistributionSet(), target));
+        await().atMost(EVICTION_TIMEOUT).pollInSameThread().until(() -> pollStateCache.get(target.getControllerId()) == null);
+
+        poll(target).andExpect(jsonPath("$._links.deploymentBase.href", containsString("/deploymentBase/" + action.getId())));
+        assertThat(pollStateCache.get(target.getControllerId())).isNotNull()
+                .extracting(PollState::activeActionId).isEqualTo(action.getId());
+    }
+
+    /**
+     * Verifies that a poll state read concurrently with an invalidation of its target is not cached, while the invalidations of the
+     * other targets don't prevent caching.
+     */
+    @Test
+    void pollStateInvalidatedWhileReadIsNotCached() throws Exception {
+        final Target target = testdataFactory.createTarget("target");
+        final Target other = testdataFactory.createTarget("other");
+        poll(target);
+        poll(other);
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+
+        // the other target is invalidated by controller id (assignment) and by target id (target update)
+        long readStart = pollStateCache.startRead();
+        final ControllerPollSnapshot polled = controllerManagement.getPollSnapshot(target.getControllerId()).orElseThrow();
+        assignDistributionSet(ds, other);
+        targetManagement.update(TargetManagement.Update.builder().id(other.getId()).description("updated").build());
+        awaitEvicted(other);
+        pollStateCache.put(polled, pollState(), readStart);
+        assertThat(pollStateCache.get(target.getControllerId())).isEqualTo(pollState());
+
+        // invalidated by target id
+        readStart = pollStateCache.startRead();
+        targetManagement.update(TargetManagement.Update.builder().id(target.getId()).description("updated").build());
+        awaitEvicted(target);
+        pollStateCache.put(polled, pollState(), readStart);
+        assertThat(pollStateCache.get(target.getControllerId())).isNull();
+
+        // invalidated by controller id - cached before, so that the processing of the invalidation could be awaited
+        pollStateCache.put(polled, pollState(), pollStateCache.startRead());
+        assertThat(pollStateCache.get(target.getControllerId())).isNotNull();
+        readStart = pollStateCache.startRead();
+        assignDistributionSet(ds, target);
+        awaitEvicted(target);
+        pollStateCache.put(polled, pollState(), readStart);
+        assertThat(pollStateCache.get(target.getControllerId())).isNull();
+    }
+
+    private ResultActions poll(final Target target) throws Exception {
+        return mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), target.getControllerId()))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk());
+    }
+
+    // evicted (if cached) when the invalidation has been processed
+    private void awaitEvicted(final Target target) {
+        await().atMost(EVICTION_TIMEOUT).pollInSameThread().until(() -> pollStateCache.get(target.getControllerId()) == null);
+    }
+
+    private static PollState pollState() {
+        return new PollState(1L, "http://127.0.0.1", null, null, 0, null, false, "00:05:00");
+    }
+}
@@ -14,12 +14,15 @@ import static org.eclipse.hawkbit.context.AccessContext.tenant;
 import static org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi.MEDIA_TYPE_APPLICATION_CBOR;
 import static org.eclipse.hawkbit.repository.model.Action.ActionType.DOWNLOAD_ONLY;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +34,8 @@ import java.util.concurrent.TimeUnit;
 
 import com.jayway.jsonpath.JsonPath;
 import org.assertj.core.api.Condition;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties;
+import org.eclipse.hawkbit.artifact.urlresolver.PropertyBasedArtifactUrlResolverProperties.UrlProtocol;
 import org.eclipse.hawkbit.ddi.json.model.DdiResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiStatus;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
@@ -112,6 +117,94 @@ class DdiDeploymentBaseTest extends AbstractDDiApiIntegrationTest {
                 status().isOk());
     }
 
+    /**
+     * Ensures that deployment base and artifacts result in not modified response if the etag provided by the client matches.
+     */
+    @Test
+    void deploymentResourceNotModified() throws Exception {
+        final Target target = testdataFactory.createTarget();
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("");
+
+        final Long softwareModuleId = distributionSet.getModules().stream().findAny().orElseThrow().getId();
+        testdataFactory.createArtifacts(softwareModuleId);
+
+        assignDistributionSet(distributionSet.getId(), target.getName());
+        final Action action = deploymentManagement.findActiveActionsByTarget(target.getControllerId(), PAGE).getContent().get(0);
+
+        // first retrieval switches the action to retrieved, so the etag is stable since the second one
+        mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenant(), target.getControllerId(), action.getId()))
+                .andExpect(status().isOk());
+        final String deploymentEtag = mvc
+                .perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenant(), target.getControllerId(), action.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(deploymentEtag).isNotNull();
+        mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", deploymentEtag))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified());
+        // action history could change without action modification - no etag
+        mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE + "?actionHistory=-1", tenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", deploymentEtag))
+                .andExpect(status().isOk());
+
+        final String artifactsEtag = mvc
+                .perform(MockMvcRequestBuilders.get(SOFTWARE_MODULE_ARTIFACTS, tenant(), target.getControllerId(), softwareModuleId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(artifactsEtag).isNotNull().isNotEqualTo(deploymentEtag);
+        mvc.perform(MockMvcRequestBuilders.get(SOFTWARE_MODULE_ARTIFACTS, tenant(), target.getControllerId(), softwareModuleId)
+                        .header("If-None-Match", "W/" + artifactsEtag))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * Ensures that the etags of the deployment base and artifacts change with the resolved artifact links, while the action and
+     * the software modules are not modified.
+     */
+    @Test
+    void deploymentResourceModifiedWithArtifactLinks(@Autowired final PropertyBasedArtifactUrlResolverProperties urlProperties)
+            throws Exception {
+        final Target target = testdataFactory.createTarget();
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("");
+        final Long softwareModuleId = distributionSet.getModules().stream().findAny().orElseThrow().getId();
+        testdataFactory.createArtifacts(softwareModuleId);
+        assignDistributionSet(distributionSet.getId(), target.getName());
+        final Action action = deploymentManagement.findActiveActionsByTarget(target.getControllerId(), PAGE).getContent().get(0);
+
+        // first retrieval switches the action to retrieved, so the etag is stable since the second one
+        mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenant(), target.getControllerId(), action.getId()))
+                .andExpect(status().isOk());
+        final String deploymentEtag = mvc
+                .perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenant(), target.getControllerId(), action.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        final String artifactsEtag = mvc
+                .perform(MockMvcRequestBuilders.get(SOFTWARE_MODULE_ARTIFACTS, tenant(), target.getControllerId(), softwareModuleId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        final UrlProtocol downloadHttp = urlProperties.getProtocols().get("download-http");
+        final String ref = downloadHttp.getRef();
+        downloadHttp.setRef("https://mirror.example.com/{tenant}/{artifactSHA1}");
+        try {
+            mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenant(), target.getControllerId(), action.getId())
+                            .header("If-None-Match", deploymentEtag))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(deploymentEtag)))
+                    .andExpect(jsonPath("$.deployment.chunks[*].artifacts[*]._links.download-http.href",
+                            everyItem(startsWith("https://mirror.example.com/"))));
+            mvc.perform(MockMvcRequestBuilders.get(SOFTWARE_MODULE_ARTIFACTS, tenant(), target.getControllerId(), softwareModuleId)
+                            .header("If-None-Match", artifactsEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(artifactsEtag)));
+        } finally {
+            downloadHttp.setRef(ref);
+        }
+    }
+
     /**
      * Ensures that artifacts are not found, when software module does not exists.
      */
@@ -23,12 +23,14 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
@@ -36,6 +38,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
 import org.eclipse.hawkbit.auth.SpPermission;
 import org.eclipse.hawkbit.context.AccessContext;
 import org.eclipse.hawkbit.ddi.json.model.DdiResult;
@@ -70,8 +75,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 
 /**
  * Test the root controller resources.
@@ -87,6 +94,8 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
 
     @Autowired
     private HawkbitSecurityProperties securityProperties;
+    @Autowired
+    private ControllerPollWaiters pollWaiters;
 
     /**
      * Ensure that the root poll resource is available as CBOR
@@ -337,6 +346,147 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
                 .andReturn().getResponse().getHeader("ETag");
     }
 
+    /**
+     * Ensures that the etag of the root resource changes with the polling time, while the target is not modified.
+     */
+    @Test
+    void rootRsModifiedWithPollingTime() throws Exception {
+        final String controllerId = "4711";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotNull();
+        mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        withPollingTime("00:02:00", () -> {
+            final String etagWithPollingTime = mvc
+                    .perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId).header("If-None-Match", etag))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.config.polling.sleep", equalTo("00:02:00")))
+                    .andReturn().getResponse().getHeader("ETag");
+            assertThat(etagWithPollingTime).isNotNull().isNotEqualTo(etag);
+            mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId).header("If-None-Match", etagWithPollingTime))
+                    .andExpect(status().isNotModified());
+            return null;
+        });
+    }
+
+    /**
+     * Ensures that a long poll of a not modified root resource is parked until a distribution set is assigned to the target.
+     */
+    @Test
+    void rootRsLongPollWokenUpByAssignment() throws Exception {
+        final String controllerId = "4711";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        final MvcResult longPoll = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .param("wait", "30")
+                        .header("If-None-Match", etag)
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(WebAsyncUtils.getAsyncManager(longPoll.getRequest()).hasConcurrentResult()).isFalse();
+
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(testdataFactory.createDistributionSet("").getId(), controllerId));
+        mvc.perform(asyncDispatch(longPoll))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.deploymentBase.href", startsWith(deploymentBaseLink(controllerId, actionId.toString()))));
+    }
+
+    /**
+     * Ensures that a long poll of a not modified root resource is woken up by an action update, which refers the target by its id only.
+     */
+    @Test
+    void rootRsLongPollWokenUpByActionUpdate() throws Exception {
+        final String controllerId = "4711";
+        final Target target = testdataFactory.createTarget(controllerId);
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(testdataFactory.createDistributionSet("").getId(), controllerId));
+        final Action action = deploymentManagement.findAction(actionId).orElseThrow();
+        final String etag = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        final MvcResult longPoll = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .param("wait", "30")
+                        .header("If-None-Match", etag)
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(WebAsyncUtils.getAsyncManager(longPoll.getRequest()).hasConcurrentResult()).isFalse();
+
+        sendDeploymentActionFeedback(target, action, "closed", null).andExpect(status().isOk());
+        mvc.perform(asyncDispatch(longPoll))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.deploymentBase.href").doesNotExist())
+                .andExpect(jsonPath("$._links.installedBase.href", startsWith(installedBaseLink(controllerId, actionId.toString()))));
+    }
+
+    /**
+     * Ensures that a long poll of a not modified root resource is woken up by a change of the polling time.
+     */
+    @Test
+    void rootRsLongPollWokenUpByPollingTimeChange() throws Exception {
+        final String controllerId = "4711";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        final MvcResult longPoll = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .param("wait", "30")
+                        .header("If-None-Match", etag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(WebAsyncUtils.getAsyncManager(longPoll.getRequest()).hasConcurrentResult()).isFalse();
+
+        withPollingTime("00:02:00", () -> {
+            mvc.perform(asyncDispatch(longPoll))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.config.polling.sleep", equalTo("00:02:00")));
+            return null;
+        });
+    }
+
+    /**
+     * Ensures that a long poll of a not modified root resource is answered with not modified when the wait time elapses.
+     */
+    @Test
+    void rootRsLongPollNotModifiedAfterWait() throws Exception {
+        final String controllerId = "4711";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        final MvcResult longPoll = mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .param("wait", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // the async timeout is signaled by the servlet container - simulate it
+        final MockAsyncContext asyncContext = (MockAsyncContext) longPoll.getRequest().getAsyncContext();
+        for (final AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        assertThat(pollWaiters.size()).isZero();
+        mvc.perform(asyncDispatch(longPoll))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified());
+
+        // without If-None-Match there is nothing to wait for
+        mvc.perform(asyncDispatch(mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId).param("wait", "30"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn()))
+                .andExpect(status().isOk());
+    }
+
     /**
      * Ensures that the target state machine of a precomissioned target switches from
      * UNKNOWN to REGISTERED when the target polls for the first time.
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.ddi.rest.resource.DownloadBandwidthScheduler.Download;
+import org.eclipse.hawkbit.ddi.rest.resource.DownloadBandwidthScheduler.Limits;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Direct Device Integration API<br/>
+ * Story: Download bandwidth scheduling
+ */
+class DownloadBandwidthSchedulerTest {
+
+    private static final String TENANT_A = "TENANT_A";
+    private static final String TENANT_B = "TENANT_B";
+    private static final String TENANT_C = "TENANT_C";
+
+    /**
+     * Verifies that nothing is throttled if no limit is configured.
+     */
+    @Test
+    void unlimited() {
+        final DownloadBandwidthScheduler scheduler = new DownloadBandwidthScheduler(0, null, () -> new Limits(0, 0, 1));
+        assertThat(scheduler.open(TENANT_A, "controller")).isNull();
+    }
+
+    /**
+     * Verifies that the global limit is shared weighted by the downloading tenants, and the share a tenant can't use because of its own
+     * limit is shared by the other ones.
+     */
+    @Test
+    void globalLimitIsSharedWeighted() {
+        final Map<String, Limits> limits = Map.of(
+                TENANT_A, new Limits(0, 0, 1),
+                TENANT_B, new Limits(0, 0, 3),
+                TENANT_C, new Limits(100, 0, 4));
+        final String[] current = new String[1];
+        final DownloadBandwidthScheduler scheduler = new DownloadBandwidthScheduler(8000, null, () -> limits.get(current[0]));
+
+        current[0] = TENANT_A;
+        final Download downloadA = scheduler.open(TENANT_A, "controller");
+        // just one tenant - the whole bandwidth is available
+        assertThat(scheduler.rate(TENANT_A)).isEqualTo(8000);
+
+        current[0] = TENANT_B;
+        final Download downloadB = scheduler.open(TENANT_B, "controller");
+        assertThat(scheduler.rate(TENANT_A)).isEqualTo(2000);
+        assertThat(scheduler.rate(TENANT_B)).isEqualTo(6000);
+
+        // tenant C is limited below its share (4000) - the rest is shared by A and B
+        current[0] = TENANT_C;
+        final Download downloadC = scheduler.open(TENANT_C, "controller");
+        assertThat(scheduler.rate(TENANT_C)).isEqualTo(100);
+        assertThat(scheduler.rate(TENANT_A)).isEqualTo(1975);
+        assertThat(scheduler.rate(TENANT_B)).isEqualTo(5925);
+
+        downloadB.close();
+        downloadC.close();
+        assertThat(scheduler.rate(TENANT_A)).isEqualTo(8000);
+        assertThat(scheduler.rate(TENANT_B)).isZero();
+        downloadA.close();
+        assertThat(scheduler.rate(TENANT_A)).isZero();
+    }
+
+    /**
+     * Verifies that the downloads of a controller are throttled to its limit and the throttled time is recorded.
+     */
+    @Test
+    void controllerIsThrottled() throws IOException {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final DownloadBandwidthScheduler scheduler = new DownloadBandwidthScheduler(0, meterRegistry, () -> new Limits(0, 10_000, 1));
+
+        final long start = System.nanoTime();
+        try (final Download download = scheduler.open(TENANT_A, "controller")) {
+            // 2 KB at 10 KB/s
+            for (int i = 0; i < 4; i++) {
+                download.acquire(500);
+            }
+        }
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+        assertThat(meterRegistry.get("hawkbit.download.throttled").tag("tenant", TENANT_A).timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThan(100);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Feature: Unit Tests - Direct Device Integration API<br/>
+ * Story: Download progress aggregation
+ */
+class DownloadProgressAggregatorTest {
+
+    private static final String TENANT = "TENANT";
+
+    private final List<DownloadProgressEvent> events = new ArrayList<>();
+    private final ApplicationEventPublisher publisher = event -> events.add((DownloadProgressEvent) event);
+    private long now;
+
+    /**
+     * Verifies that the progress is published at most once per interval, with the bytes shipped since the last publishing.
+     */
+    @Test
+    void publishedOncePerInterval() {
+        final DownloadProgressAggregator aggregator = new DownloadProgressAggregator(publisher, 1000, 0, () -> now);
+
+        aggregator.progress(TENANT, 1, 100);
+        aggregator.progress(TENANT, 1, 100);
+        now += TimeUnit.MILLISECONDS.toNanos(999);
+        aggregator.progress(TENANT, 1, 100);
+        assertThat(events).isEmpty();
+
+        now += TimeUnit.MILLISECONDS.toNanos(1);
+        aggregator.progress(TENANT, 1, 100);
+        assertThat(events).extracting(DownloadProgressEvent::getShippedBytesSinceLast).containsExactly(400L);
+
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        aggregator.progress(TENANT, 1, 100);
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        aggregator.progress(TENANT, 1, 100);
+        assertThat(events).extracting(DownloadProgressEvent::getShippedBytesSinceLast).containsExactly(400L, 200L);
+    }
+
+    /**
+     * Verifies that interval 0 publishes every progress.
+     */
+    @Test
+    void zeroIntervalPublishesEveryProgress() {
+        final DownloadProgressAggregator aggregator = new DownloadProgressAggregator(publisher, 0, 0, () -> now);
+
+        aggregator.progress(TENANT, 1, 100);
+        aggregator.progress(TENANT, 1, 200);
+        aggregator.complete(1);
+        assertThat(events).extracting(DownloadProgressEvent::getShippedBytesSinceLast).containsExactly(100L, 200L);
+    }
+
+    /**
+     * Verifies that the progress is published when the byte threshold is reached, even within the interval.
+     */
+    @Test
+    void publishedWhenThresholdReached() {
+        final DownloadProgressAggregator aggregator = new DownloadProgressAggregator(publisher, 1000, 250, () -> now);
+
+        aggregator.progress(TENANT, 1, 100);
+        aggregator.progress(TENANT, 1, 100);
+        assertThat(events).isEmpty();
+        aggregator.progress(TENANT, 1, 100);
+        assertThat(events).extracting(DownloadProgressEvent::getShippedBytesSinceLast).containsExactly(300L);
+        aggregator.progress(TENANT, 1, 100);
+        assertThat(events).hasSize(1);
+    }
+
+    /**
+     * Verifies that the completion publishes the remaining progress of the download only, and stops its tracking.
+     */
+    @Test
+    void completionPublishesRemainingProgress() {
+        final DownloadProgressAggregator aggregator = new DownloadProgressAggregator(publisher, 1000, 0, () -> now);
+
+        aggregator.progress(TENANT, 1, 100);
+        aggregator.progress(TENANT, 2, 50);
+        aggregator.complete(1);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getTenant()).isEqualTo(TENANT);
+            assertThat(event.getSource()).isEqualTo(1L);
+            assertThat(event.getShippedBytesSinceLast()).isEqualTo(100L);
+        });
+
+        // nothing left
+        aggregator.complete(1);
+        assertThat(events).hasSize(1);
+
+        aggregator.complete(2);
+        assertThat(events).extracting(DownloadProgressEvent::getSource).containsExactly(1L, 2L);
+        assertThat(events).extracting(DownloadProgressEvent::getShippedBytesSinceLast).containsExactly(100L, 50L);
+    }
+}
@@ -10,11 +10,22 @@
 package org.eclipse.hawkbit.security.controller;
 
 import static org.eclipse.hawkbit.context.AccessContext.asSystemAsTenant;
+import static org.eclipse.hawkbit.context.AccessContext.asTenant;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.tenancy.ControllerCache;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.Authentication;
 
 /**
@@ -22,6 +33,11 @@ import org.springframework.security.core.Authentication;
  * its target security-token with the {@code Authorization} HTTP header.
  * <p>
  * {@code Example Header: Authorization: TargetToken 5d8fSD54fdsFG98DDsa.}
+ * <p>
+ * The (hashes of the) security tokens of the authenticated targets are cached per tenant, so the polls and the (range) requests of the
+ * downloads are authenticated without database access. A cached token is evicted when a target update or deletion event is received.
+ * A token that doesn't match the cached one is validated against the database, so a changed token is accepted immediately. A token read
+ * concurrently with an eviction of its target is not cached (see {@link ControllerCache}).
  */
 @Slf4j
 public class SecurityTokenAuthenticator extends Authenticator.AbstractAuthenticator {
@@ -29,7 +45,12 @@ public class SecurityTokenAuthenticator extends Authenticator.AbstractAuthentica
     public static final String TARGET_SECURITY_TOKEN_AUTH_SCHEME = "TargetToken ";
     private static final int OFFSET_TARGET_TOKEN = TARGET_SECURITY_TOKEN_AUTH_SCHEME.length();
 
+    static final String CACHE_NAME = "TargetSecurityToken";
+    // targetId -> controllerId, the target update events contain only the target id
+    static final String CACHE_TARGET_ID_NAME = "TargetSecurityTokenTargetId";
+
     private final ControllerManagement controllerManagement;
+    private final ControllerCache<CachedToken> cache = new ControllerCache<>(CACHE_NAME, CACHE_TARGET_ID_NAME, CachedToken.class);
 
     public SecurityTokenAuthenticator(final ControllerManagement controllerManagement) {
         this.controllerManagement = controllerManagement;
@@ -52,16 +73,36 @@ public class SecurityTokenAuthenticator extends Authenticator.AbstractAuthentica
         }
 
         log.debug("Found 'authorization' header starting with '{}'", TARGET_SECURITY_TOKEN_AUTH_SCHEME);
-        final String presentedToken = authHeader.substring(OFFSET_TARGET_TOKEN);
+        final byte[] presentedTokenHash = hash(authHeader.substring(OFFSET_TARGET_TOKEN));
 
         final String tenant = controllerSecurityToken.getTenant();
-        return asSystemAsTenant(tenant, () -> controllerSecurityToken.getTargetId() != null
-                ? controllerManagement.find(controllerSecurityToken.getTargetId())
-                : controllerManagement.findByControllerId(controllerSecurityToken.getControllerId()))
-                // validate if the presented token is the same as the one set for the target
-                .filter(target -> presentedToken.equals(asSystemAsTenant(tenant, target::getSecurityToken)))
-                .map(target -> authenticatedController(tenant, target.getControllerId()))
-                .orElse(null);
+        return asTenant(tenant, () -> {
+            final CachedToken cachedToken = getCached(controllerSecurityToken);
+            if (cachedToken != null && cachedToken.matches(presentedTokenHash)) {
+                return authenticatedController(tenant, cachedToken.controllerId());
+            }
+
+            // not cached or (potentially) changed token - validate against the stored one
+            final long readStart = cache.startRead();
+            return asSystemAsTenant(tenant, () -> controllerSecurityToken.getTargetId() != null
+                    ? controllerManagement.find(controllerSecurityToken.getTargetId())
+                    : controllerManagement.findByControllerId(controllerSecurityToken.getControllerId()))
+                    .map(target -> cache(tenant, target, readStart))
+                    // validate if the presented token is the same as the one set for the target
+                    .filter(loadedToken -> loadedToken.matches(presentedTokenHash))
+                    .map(loadedToken -> authenticatedController(tenant, loadedToken.controllerId()))
+                    .orElse(null);
+        });
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void onTargetUpdatedEvent(final TargetUpdatedEvent event) {
+        cache.evictByTargetId(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void onTargetDeletedEvent(final TargetDeletedEvent event) {
+        cache.evictDeleted(event.getTenant(), event.getControllerId(), event.getEntityId());
     }
 
     @Override
@@ -73,4 +114,37 @@ public class SecurityTokenAuthenticator extends Authenticator.AbstractAuthentica
     protected String getTenantConfigurationKey() {
         return TenantConfigurationKey.AUTHENTICATION_TARGET_SECURITY_TOKEN_ENABLED;
     }
-}
\ No newline at end of file
+
+    private @Nullable CachedToken getCached(final ControllerSecurityToken controllerSecurityToken) {
+        return controllerSecurityToken.getTargetId() != null
+                ? cache.getByTargetId(controllerSecurityToken.getTargetId())
+                : cache.get(controllerSecurityToken.getControllerId());
+    }
+
+    private CachedToken cache(final String tenant, final Target target, final long readStart) {
+        final CachedToken loadedToken = new CachedToken(
+                target.getControllerId(), hash(asSystemAsTenant(tenant, target::getSecurityToken)));
+        cache.put(target.getControllerId(), target.getId(), loadedToken, readStart);
+        return loadedToken;
+    }
+
+    // only hashes of the tokens are kept in memory
+    private static byte @Nullable [] hash(@Nullable final String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    // a target without security token doesn't match any token
+    private record CachedToken(String controllerId, byte @Nullable [] tokenHash) {
+
+        private boolean matches(final byte[] presentedTokenHash) {
+            return tokenHash != null && MessageDigest.isEqual(presentedTokenHash, tokenHash);
+        }
+    }
+}
@@ -11,22 +11,28 @@ package org.eclipse.hawkbit.security.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.AUTHENTICATION_TARGET_SECURITY_TOKEN_ENABLED;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 
+import org.eclipse.hawkbit.context.AccessContext;
 import org.eclipse.hawkbit.context.Principal;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.eclipse.hawkbit.tenancy.TenantAwareCacheManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.StandardEnvironment;
 
 /**
  * Feature: Unit Tests - Security<br/>
@@ -54,6 +60,11 @@ class SecurityTokenAuthenticatorTest {
     @BeforeEach
     void before() {
         TenantConfigHelper.setTenantConfigurationManagement(tenantConfigurationManagementMock);
+        TenantAwareCacheManager.getInstance().init(new StandardEnvironment());
+        AccessContext.asTenant("DEFAULT", () -> {
+            TenantAwareCacheManager.getInstance().getCache(SecurityTokenAuthenticator.CACHE_NAME).clear();
+            TenantAwareCacheManager.getInstance().getCache(SecurityTokenAuthenticator.CACHE_TARGET_ID_NAME).clear();
+        });
         authenticator = new SecurityTokenAuthenticator(controllerManagementMock);
     }
 
@@ -67,6 +78,7 @@ class SecurityTokenAuthenticatorTest {
                 .thenReturn(CONFIG_VALUE_ENABLED);
 
         final Target target = Mockito.mock(Target.class);
+        when(target.getId()).thenReturn(1L);
         when(target.getControllerId()).thenReturn(CONTROLLER_ID);
         when(target.getSecurityToken()).thenReturn(SECURITY_TOKEN);
         when(controllerManagementMock.findByControllerId(CONTROLLER_ID)).thenReturn(Optional.of(target));
@@ -76,6 +88,35 @@ class SecurityTokenAuthenticatorTest {
                 .hasFieldOrPropertyWithValue("principal", new Principal("DEFAULT", CONTROLLER_ID));
     }
 
+    /**
+     * Tests that the security token is validated against the database only once, until the target is updated
+     */
+    @Test
+    void testSecTokenIsCachedUntilTargetUpdated() {
+        final ControllerSecurityToken securityToken = prepareSecurityToken(SECURITY_TOKEN);
+        when(tenantConfigurationManagementMock.getConfigurationValue(AUTHENTICATION_TARGET_SECURITY_TOKEN_ENABLED, Boolean.class))
+                .thenReturn(CONFIG_VALUE_ENABLED);
+
+        final Target target = Mockito.mock(Target.class);
+        when(target.getTenant()).thenReturn("DEFAULT");
+        when(target.getId()).thenReturn(1L);
+        when(target.getControllerId()).thenReturn(CONTROLLER_ID);
+        when(target.getSecurityToken()).thenReturn(SECURITY_TOKEN);
+        when(controllerManagementMock.findByControllerId(CONTROLLER_ID)).thenReturn(Optional.of(target));
+
+        assertThat(authenticator.authenticate(securityToken)).isNotNull();
+        assertThat(authenticator.authenticate(securityToken)).isNotNull();
+        verify(controllerManagementMock, times(1)).findByControllerId(CONTROLLER_ID);
+
+        // a not matching token is validated against the database
+        assertThat(authenticator.authenticate(prepareSecurityToken(UNKNOWN_TOKEN))).isNull();
+        verify(controllerManagementMock, times(2)).findByControllerId(CONTROLLER_ID);
+
+        ((SecurityTokenAuthenticator) authenticator).onTargetUpdatedEvent(new TargetUpdatedEvent(target));
+        assertThat(authenticator.authenticate(securityToken)).isNotNull();
+        verify(controllerManagementMock, times(3)).findByControllerId(CONTROLLER_ID);
+    }
+
     /**
      * Tests that if gateway token doesn't match, the authentication fails
      */
@@ -14,7 +14,6 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.context.Mdc;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
-import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.rest.SecurityManagedConfiguration;
 import org.eclipse.hawkbit.rest.security.DosFilter;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
@@ -46,14 +45,14 @@ class ControllerDownloadSecurityConfiguration {
     private static final String DDI_DL_ANT_MATCHER =
             DdiRootControllerRestApi.CONTROLLER_V1 + "/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/*";
 
-    private final ControllerManagement controllerManagement;
+    private final SecurityTokenAuthenticator securityTokenAuthenticator;
     private final DdiSecurityProperties ddiSecurityConfiguration;
     private final HawkbitSecurityProperties securityProperties;
 
     ControllerDownloadSecurityConfiguration(
-            final ControllerManagement controllerManagement,
+            final SecurityTokenAuthenticator securityTokenAuthenticator,
             final DdiSecurityProperties ddiSecurityConfiguration, final HawkbitSecurityProperties securityProperties) {
-        this.controllerManagement = controllerManagement;
+        this.securityTokenAuthenticator = securityTokenAuthenticator;
         this.ddiSecurityConfiguration = ddiSecurityConfiguration;
         this.securityProperties = securityProperties;
     }
@@ -86,7 +85,7 @@ class ControllerDownloadSecurityConfiguration {
                         new SecurityHeaderAuthenticator(ddiSecurityConfiguration.getRp()),
                         ddiSecurityConfiguration), AuthorizationFilter.class)
                 .addFilterBefore(new AuthenticationFilters.SecurityTokenAuthenticationFilter(
-                        new SecurityTokenAuthenticator(controllerManagement),
+                        securityTokenAuthenticator,
                         ddiSecurityConfiguration), AuthorizationFilter.class)
                 .addFilterBefore(new AuthenticationFilters.GatewayTokenAuthenticationFilter(
                         new GatewayTokenAuthenticator(),
@@ -11,10 +11,11 @@ package org.eclipse.hawkbit.autoconfigure.ddi;
 
 import java.util.List;
 
+import jakarta.servlet.DispatcherType;
+
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.context.Mdc;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
-import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.rest.SecurityManagedConfiguration;
 import org.eclipse.hawkbit.rest.security.DosFilter;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
@@ -49,15 +50,15 @@ class ControllerSecurityConfiguration {
 
     private static final String[] DDI_ANT_MATCHERS = { DdiRootControllerRestApi.CONTROLLER_V1 + "/**" };
 
-    private final ControllerManagement controllerManagement;
+    private final SecurityTokenAuthenticator securityTokenAuthenticator;
     private final DdiSecurityProperties ddiSecurityConfiguration;
     private final HawkbitSecurityProperties securityProperties;
 
     @Autowired
     ControllerSecurityConfiguration(
-            final ControllerManagement controllerManagement, final DdiSecurityProperties ddiSecurityConfiguration,
+            final SecurityTokenAuthenticator securityTokenAuthenticator, final DdiSecurityProperties ddiSecurityConfiguration,
             final HawkbitSecurityProperties securityProperties) {
-        this.controllerManagement = controllerManagement;
+        this.securityTokenAuthenticator = securityTokenAuthenticator;
         this.ddiSecurityConfiguration = ddiSecurityConfiguration;
         this.securityProperties = securityProperties;
     }
@@ -87,7 +88,10 @@ class ControllerSecurityConfiguration {
             @Value("${hawkbit.server.security.cors.disable-for-ddi-api:false}") final boolean disableCorsForDdiApi) {
         http
                 .securityMatcher(DDI_ANT_MATCHERS)
-                .authorizeHttpRequests(amrmRegistry -> amrmRegistry.anyRequest().authenticated())
+                .authorizeHttpRequests(amrmRegistry -> amrmRegistry
+                        // async dispatch of a (long poll) request that has already been authorized - just writes the result
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .anyRequest().authenticated())
                 .anonymous(AbstractHttpConfigurer::disable)
                 .csrf(AbstractHttpConfigurer::disable)
                 .addFilterBefore(
@@ -96,7 +100,7 @@ class ControllerSecurityConfiguration {
                         AuthorizationFilter.class)
                 .addFilterBefore(
                         new AuthenticationFilters.SecurityTokenAuthenticationFilter(
-                                new SecurityTokenAuthenticator(controllerManagement), ddiSecurityConfiguration),
+                                securityTokenAuthenticator, ddiSecurityConfiguration),
                         AuthorizationFilter.class)
                 .addFilterBefore(
                         new AuthenticationFilters.GatewayTokenAuthenticationFilter(new GatewayTokenAuthenticator(), ddiSecurityConfiguration),
@@ -10,8 +10,12 @@
 package org.eclipse.hawkbit.autoconfigure.ddi;
 
 import org.eclipse.hawkbit.ddi.rest.resource.DdiApiConfiguration;
+import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.security.controller.DdiSecurityProperties;
+import org.eclipse.hawkbit.security.controller.SecurityTokenAuthenticator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -23,4 +27,16 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 @EnableWebSecurity
 @ConditionalOnClass(DdiApiConfiguration.class)
 @Import({ DdiApiConfiguration.class, DdiSecurityProperties.class })
-public class DdiApiAutoConfiguration {}
\ No newline at end of file
+public class DdiApiAutoConfiguration {
+
+    /**
+     * @param controllerManagement the controller management
+     * @return the target security token authenticator shared by the DDI and the DDI download security filter chains, so they share
+     *         the security token cache eviction (by events)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    SecurityTokenAuthenticator securityTokenAuthenticator(final ControllerManagement controllerManagement) {
+        return new SecurityTokenAuthenticator(controllerManagement);
+    }
+}
\ No newline at end of file
@@ -45,6 +45,8 @@ import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate.ActionStatusCreateBuilder;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
@@ -308,19 +310,22 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
     }
 
     private void sendUpdateCommandToTarget(final Target target) {
-        // send oldest action to Target
-        final Optional<Action> actionOptional = controllerManagement.findActiveActionWithHighestWeight(target.getControllerId());
-        if (actionOptional.isEmpty()) {
+        // send the active action with the highest weight to Target
+        final ActiveAction activeAction = controllerManagement.getPollSnapshot(target.getControllerId())
+                .map(ControllerPollSnapshot::activeAction)
+                .orElse(null);
+        if (activeAction == null) {
             return;
         }
 
-        final Action action = actionOptional.get();
-        if (action.isCancelingOrCanceled()) {
+        if (activeAction.isCancelingOrCanceled()) {
             amqpMessageDispatcherService.sendCancelMessageToTarget(
-                    target.getTenant(), target.getControllerId(), action.getId(), IpUtil.addressToUri(target.getAddress()));
+                    target.getTenant(), target.getControllerId(), activeAction.id(), IpUtil.addressToUri(target.getAddress()));
         } else {
-            amqpMessageDispatcherService.sendUpdateMessageToTarget(
-                    new ActionProperties(action), action.getTarget(), getSoftwareModulesWithMetadata(action.getDistributionSet()));
+            // the update message needs the distribution set with its modules - loaded at once with the action
+            controllerManagement.findActionWithDetails(activeAction.id()).ifPresent(action ->
+                    amqpMessageDispatcherService.sendUpdateMessageToTarget(
+                            new ActionProperties(action), action.getTarget(), getSoftwareModulesWithMetadata(action.getDistributionSet())));
         }
     }
 
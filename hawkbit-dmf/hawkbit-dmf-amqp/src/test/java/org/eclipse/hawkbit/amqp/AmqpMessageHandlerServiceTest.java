@@ -42,8 +42,11 @@ import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException
 import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -433,7 +436,7 @@ class AmqpMessageHandlerServiceTest {
         when(controllerManagementMock.findActionWithDetails(anyLong())).thenReturn(Optional.of(action));
         when(controllerManagementMock.addUpdateActionStatus(any())).thenReturn(action);
         // for the test the same action can be used
-        when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
+        when(controllerManagementMock.getPollSnapshot(any())).thenReturn(Optional.of(pollSnapshot(action)));
 
         final MessageProperties messageProperties = createMessageProperties(MessageType.EVENT);
         messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
@@ -465,7 +468,7 @@ class AmqpMessageHandlerServiceTest {
         when(controllerManagementMock.findActionWithDetails(anyLong())).thenReturn(Optional.of(action));
         when(controllerManagementMock.addUpdateActionStatus(any())).thenReturn(action);
         // for the test the same action can be used
-        when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
+        when(controllerManagementMock.getPollSnapshot(any())).thenReturn(Optional.of(pollSnapshot(action)));
 
         final MessageProperties messageProperties = createMessageProperties(MessageType.EVENT);
         messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
@@ -577,7 +580,7 @@ class AmqpMessageHandlerServiceTest {
                         attributesCaptor.capture(), modeCaptor.capture())).thenReturn(null);
             }
         }
-        when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.empty());
+        when(controllerManagementMock.getPollSnapshot(any())).thenReturn(Optional.empty());
 
         amqpMessageHandlerService.onMessage(message, MessageType.THING_CREATED.name(), TENANT, VIRTUAL_HOST);
     }
@@ -652,6 +655,13 @@ class AmqpMessageHandlerServiceTest {
         return actionMock;
     }
 
+    private static ControllerPollSnapshot pollSnapshot(final Action action) {
+        return new ControllerPollSnapshot(
+                1L, "target1", null, TargetUpdateStatus.PENDING, false,
+                new ActiveAction(action.getId(), 1, Action.Status.RUNNING, action.getActionType(), 0, null, false),
+                null);
+    }
+
     private MessageProperties getThingCreatedMessageProperties(final String thingId) {
         final MessageProperties messageProperties = createMessageProperties(MessageType.THING_CREATED);
         messageProperties.setHeader(MessageHeaderKey.THING_ID, thingId);
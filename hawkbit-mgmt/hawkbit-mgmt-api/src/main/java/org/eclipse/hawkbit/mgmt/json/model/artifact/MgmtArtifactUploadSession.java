@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.artifact;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * A json annotated rest model for a resumable (chunked) artifact upload session.
+ */
+@Data
+@Accessors(chain = true)
+@ToString
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {
+          "id" : "0c7bd4b5-5b3a-4f5e-9f4c-0e0e7e4f4f2a",
+          "filename" : "image.bin",
+          "size" : 4294967296,
+          "received" : [ {
+            "start" : 0,
+            "end" : 67108864
+          }, {
+            "start" : 134217728,
+            "end" : 201326592
+          } ]
+        }""")
+public class MgmtArtifactUploadSession {
+
+    @Schema(description = "Id of the upload session", example = "0c7bd4b5-5b3a-4f5e-9f4c-0e0e7e4f4f2a")
+    private String id;
+
+    @Schema(description = "Filename of the artifact", example = "image.bin")
+    private String filename;
+
+    @Schema(description = "Size of the artifact in bytes", example = "4294967296")
+    private Long size;
+
+    @Schema(description = "Received ranges of the artifact, ordered by start - the missing ones shall be uploaded to complete the upload")
+    private List<Range> received;
+
+    /**
+     * Received range of the artifact.
+     */
+    @Data
+    @Accessors(chain = true)
+    @ToString
+    public static class Range {
+
+        @Schema(description = "Start offset of the range, inclusive", example = "0")
+        private long start;
+
+        @Schema(description = "End offset of the range, exclusive", example = "67108864")
+        private long end;
+    }
+}
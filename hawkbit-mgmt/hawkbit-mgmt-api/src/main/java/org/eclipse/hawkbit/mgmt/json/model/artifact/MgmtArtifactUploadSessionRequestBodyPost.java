@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.artifact;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * Request body for POST of a resumable (chunked) artifact upload session.
+ */
+@Data
+@Accessors(chain = true)
+@ToString
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MgmtArtifactUploadSessionRequestBodyPost {
+
+    @Schema(description = "Filename of the artifact", example = "image.bin")
+    @NotEmpty
+    private String filename;
+
+    @Schema(description = "Size of the artifact in bytes", example = "4294967296")
+    @NotNull
+    @PositiveOrZero
+    private Long size;
+
+    @Schema(description = "Content type of the artifact", example = "application/octet-stream")
+    private String contentType;
+
+    @Schema(description = "Hashes to check the uploaded artifact against, all optional")
+    private MgmtArtifactHash hashes;
+}
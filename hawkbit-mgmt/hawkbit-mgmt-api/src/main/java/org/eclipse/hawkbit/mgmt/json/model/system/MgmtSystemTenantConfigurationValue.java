@@ -49,6 +49,9 @@ import org.springframework.hateoas.RepresentationModel;
         * **multi.assignments.enabled** - Boolean, The configuration key 'multi.assignments.enabled' defines if multiple distribution sets can be assigned to the same targets.
         * **batch.assignments.enabled** - Boolean, The configuration key 'batch.assignments.enabled' defines if distribution set can be assigned to multiple targets in a single batch message.
         * **implicit.lock.enabled** - Boolean (true by default), The configuration key 'implicit.lock.enabled' defines if distribution set and their software modules shall be implicitly locked when assigned to target, rollout or target filter.
+        * **download.bandwidth.tenant** - Long (0 by default), The configuration key 'download.bandwidth.tenant' defines the maximal download bandwidth of the tenant (all its DDI artifact downloads on a server node) in bytes per second, 0 for unlimited.
+        * **download.bandwidth.controller** - Long (0 by default), The configuration key 'download.bandwidth.controller' defines the maximal download bandwidth of a single controller in bytes per second, 0 for unlimited.
+        * **download.bandwidth.weight** - Integer (1 by default), The configuration key 'download.bandwidth.weight' defines the share of the tenant, relative to the other downloading tenants, of the server node download bandwidth limit.
         """, example = """
         {
           "value" : "",
@@ -26,11 +26,16 @@ import static org.eclipse.hawkbit.rest.ApiResponsesConstants.PostCreateResponses
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.PutResponses;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
+import java.io.InputStream;
 import java.util.List;
 
+import jakarta.validation.Valid;
+
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.extensions.Extension;
 import io.swagger.v3.oas.annotations.extensions.ExtensionProperty;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -40,6 +45,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifact;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUploadSession;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUploadSessionRequestBodyPost;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModule;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadata;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadataBodyPut;
@@ -101,6 +108,110 @@ public interface MgmtSoftwareModuleRestApi {
             @RequestParam(value = "sha1sum", required = false) String sha1Sum,
             @RequestParam(value = "sha256sum", required = false) String sha256Sum);
 
+    /**
+     * Handles POST request to start a resumable (chunked) artifact upload.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadSession the upload information
+     * @return the new upload session with status code 201 - Created
+     */
+    @Operation(summary = "Start resumable artifact upload",
+            description = "Handles POST request to start a resumable artifact upload. The artifact is uploaded in chunks, which could be " +
+                    "uploaded in any order, in parallel and retried. Finally, the upload is completed. Not used upload sessions expire. " +
+                    "In a cluster, the requests of a session could be served by any server node. Required Permission: CREATE_REPOSITORY")
+    @PostCreateResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = NOT_FOUND_404, description = "Software Module not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = LOCKED_423, description = "Software module is locked",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads",
+            consumes = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE }, produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifactUploadSession> createArtifactUploadSession(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @Valid @RequestBody MgmtArtifactUploadSessionRequestBodyPost uploadSession);
+
+    /**
+     * Handles GET request of a resumable artifact upload, e.g. to resume it after a failure.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload session
+     * @return the upload session with the received ranges
+     */
+    @Operation(summary = "Return resumable artifact upload",
+            description = "Handles GET request of a resumable artifact upload, e.g. to resume it after a failure. " +
+                    "Required Permission: CREATE_REPOSITORY")
+    @GetResponses
+    @GetMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}",
+            produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifactUploadSession> getArtifactUploadSession(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId);
+
+    /**
+     * Handles PUT request of a chunk of a resumable artifact upload. The request body is the chunk content.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload session
+     * @param offset the offset of the chunk in the artifact
+     * @param chunk the chunk content
+     * @return the upload session with the received ranges
+     */
+    @Operation(summary = "Upload chunk of resumable artifact upload",
+            description = "Handles PUT request of a chunk of a resumable artifact upload, the request body is the chunk content. " +
+                    "Required Permission: CREATE_REPOSITORY")
+    @PutResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = INTERNAL_SERVER_ERROR_500, description = "Upload / store to staging failed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PutMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}",
+            consumes = APPLICATION_OCTET_STREAM_VALUE, produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifactUploadSession> uploadArtifactChunk(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId,
+            @RequestParam(value = "offset") long offset,
+            @Parameter(hidden = true) InputStream chunk);
+
+    /**
+     * Handles POST request to complete a resumable artifact upload - the artifact is stored and assigned to the software module.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload session
+     * @return the artifact with status code 201 - Created
+     */
+    @Operation(summary = "Complete resumable artifact upload",
+            description = "Handles POST request to complete a resumable artifact upload, all chunks shall be uploaded before. " +
+                    "Required Permission: CREATE_REPOSITORY")
+    @PostCreateResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = LOCKED_423, description = "Software module is locked",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = INTERNAL_SERVER_ERROR_500, description = "Store to storage or encryption failed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}/complete",
+            produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifact> completeArtifactUploadSession(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId);
+
+    /**
+     * Handles DELETE request to abort a resumable artifact upload.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload session
+     * @return status 204 - No Content if aborted
+     */
+    @Operation(summary = "Abort resumable artifact upload",
+            description = "Handles DELETE request to abort a resumable artifact upload. Required Permission: CREATE_REPOSITORY")
+    @DeleteResponses
+    @DeleteMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}")
+    ResponseEntity<Void> abortArtifactUploadSession(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId);
+
     /**
      * Handles the GET request of retrieving all metadata of artifacts assigned to a software module.
      *
@@ -27,6 +27,9 @@ import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
 import org.eclipse.hawkbit.audit.AuditLog;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifact;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactHash;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUploadSession;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUploadSessionRequestBodyPost;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModule;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadata;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadataBodyPut;
@@ -45,6 +48,7 @@ import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.ArtifactUploadSession;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValue;
 import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValueCreate;
@@ -117,6 +121,47 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
         }
     }
 
+    @Override
+    public ResponseEntity<MgmtArtifactUploadSession> createArtifactUploadSession(
+            final Long softwareModuleId, final MgmtArtifactUploadSessionRequestBodyPost uploadSession) {
+        final MgmtArtifactHash hashes = uploadSession.getHashes();
+        final ArtifactUploadSession session = artifactManagement.createUploadSession(new ArtifactUploadSession.Create(
+                uploadSession.getContentType(), uploadSession.getSize(),
+                hashes == null ? null : new ArtifactHashes(
+                        hashes.getSha1() == null ? null : hashes.getSha1().toLowerCase(),
+                        hashes.getMd5() == null ? null : hashes.getMd5().toLowerCase(),
+                        hashes.getSha256() == null ? null : hashes.getSha256().toLowerCase()),
+                softwareModuleId, uploadSession.getFilename(), false));
+        return ResponseEntity.status(HttpStatus.CREATED).body(MgmtSoftwareModuleMapper.toResponse(session));
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifactUploadSession> getArtifactUploadSession(final Long softwareModuleId, final String uploadId) {
+        return ResponseEntity.ok(MgmtSoftwareModuleMapper.toResponse(artifactManagement.getUploadSession(softwareModuleId, uploadId)));
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifactUploadSession> uploadArtifactChunk(
+            final Long softwareModuleId, final String uploadId, final long offset, final InputStream chunk) {
+        return ResponseEntity.ok(MgmtSoftwareModuleMapper.toResponse(
+                artifactManagement.uploadChunk(softwareModuleId, uploadId, offset, chunk)));
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifact> completeArtifactUploadSession(final Long softwareModuleId, final String uploadId) {
+        final Artifact result = artifactManagement.completeUploadSession(softwareModuleId, uploadId);
+
+        final MgmtArtifact response = MgmtSoftwareModuleMapper.toResponse(result);
+        MgmtSoftwareModuleMapper.addLinks(result, response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Override
+    public ResponseEntity<Void> abortArtifactUploadSession(final Long softwareModuleId, final String uploadId) {
+        artifactManagement.abortUploadSession(softwareModuleId, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
     @Override
     public ResponseEntity<List<MgmtArtifact>> getArtifacts(
             final Long softwareModuleId, final String representationModeParam, final Boolean useArtifactUrlHandler) {
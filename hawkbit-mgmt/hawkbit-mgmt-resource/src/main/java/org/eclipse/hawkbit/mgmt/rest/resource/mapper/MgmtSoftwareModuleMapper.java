@@ -25,6 +25,7 @@ import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifact;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactHash;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUploadSession;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModule;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadata;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleRequestBodyPost;
@@ -37,6 +38,7 @@ import org.eclipse.hawkbit.repository.SoftwareModuleTypeManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactUploadSession;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValue;
 import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValueCreate;
@@ -136,6 +138,16 @@ public final class MgmtSoftwareModuleMapper {
         return artifactRest;
     }
 
+    public static MgmtArtifactUploadSession toResponse(final ArtifactUploadSession uploadSession) {
+        return new MgmtArtifactUploadSession()
+                .setId(uploadSession.id())
+                .setFilename(uploadSession.filename())
+                .setSize(uploadSession.size())
+                .setReceived(uploadSession.received().stream()
+                        .map(range -> new MgmtArtifactUploadSession.Range().setStart(range.start()).setEnd(range.end()))
+                        .toList());
+    }
+
     public static void addLinks(final Artifact artifact, final MgmtArtifact response) {
         response.add(WebMvcLinkBuilder.linkTo(methodOn(MgmtDownloadArtifactResource.class)
                         .downloadArtifact(artifact.getSoftwareModule().getId(), artifact.getId())).withRel("download")
@@ -31,6 +31,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -53,6 +55,7 @@ import org.eclipse.hawkbit.mgmt.rest.resource.util.ResourceUtility;
 import org.eclipse.hawkbit.repository.Constants;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
+import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
@@ -678,6 +681,181 @@ class MgmtSoftwareModuleResourceTest extends AbstractManagementApiIntegrationTes
 
     }
 
+    /**
+     * Tests the resumable upload of an artifact binary - the session is created, the chunks are uploaded in any order (one retried),
+     * the status is returned and finally the upload is completed.
+     */
+    @Test
+    void resumableUploadArtifact() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(5 * 1024);
+        final String uploadsUri = "/rest/v1/softwaremodules/" + sm.getId() + "/artifacts/uploads";
+
+        final String uploadId = JsonPath.read(
+                mvc.perform(post(uploadsUri)
+                                .content(new JSONObject()
+                                        .put("filename", "origFilename")
+                                        .put("size", random.length)
+                                        .put("hashes", new JSONObject().put("sha1", HashGeneratorUtils.generateSHA1(random)))
+                                        .toString())
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andDo(MockMvcResultPrinter.print())
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$.filename", equalTo("origFilename")))
+                        .andExpect(jsonPath("$.size", equalTo(random.length)))
+                        .andExpect(jsonPath("$.received", hasSize(0)))
+                        .andReturn().getResponse().getContentAsString(),
+                "$.id");
+
+        // second chunk first
+        mvc.perform(put(uploadsUri + "/{uploadId}", uploadId).param("offset", "2048")
+                        .content(Arrays.copyOfRange(random, 2048, random.length))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", hasSize(1)))
+                .andExpect(jsonPath("$.received[0].start", equalTo(2048)))
+                .andExpect(jsonPath("$.received[0].end", equalTo(random.length)));
+        // not complete yet
+        mvc.perform(post(uploadsUri + "/{uploadId}/complete", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isBadRequest());
+        // first chunk, retried
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(put(uploadsUri + "/{uploadId}", uploadId).param("offset", "0")
+                            .content(Arrays.copyOfRange(random, 0, 2048))
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isOk());
+        }
+        mvc.perform(get(uploadsUri + "/{uploadId}", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(uploadId)))
+                .andExpect(jsonPath("$.received", hasSize(1)))
+                .andExpect(jsonPath("$.received[0].start", equalTo(0)))
+                .andExpect(jsonPath("$.received[0].end", equalTo(random.length)));
+
+        mvc.perform(post(uploadsUri + "/{uploadId}/complete", uploadId).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hashes.md5", equalTo(HashGeneratorUtils.generateMD5(random))))
+                .andExpect(jsonPath("$.hashes.sha1", equalTo(HashGeneratorUtils.generateSHA1(random))))
+                .andExpect(jsonPath("$.hashes.sha256", equalTo(HashGeneratorUtils.generateSHA256(random))))
+                .andExpect(jsonPath("$.size", equalTo(random.length)))
+                .andExpect(jsonPath("$.providedFilename", equalTo("origFilename")));
+        assertArtifact(sm, random);
+
+        // the completed session doesn't exist anymore
+        mvc.perform(get(uploadsUri + "/{uploadId}", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Verifies that an aborted resumable upload doesn't exist anymore and no artifact is created.
+     */
+    @Test
+    void abortResumableUploadArtifact() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(1024);
+        final String uploadsUri = "/rest/v1/softwaremodules/" + sm.getId() + "/artifacts/uploads";
+
+        final String uploadId = createUploadSession(uploadsUri, random.length);
+        mvc.perform(put(uploadsUri + "/{uploadId}", uploadId).param("offset", "0")
+                        .content(random)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk());
+
+        mvc.perform(delete(uploadsUri + "/{uploadId}", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNoContent());
+        mvc.perform(get(uploadsUri + "/{uploadId}", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotFound());
+        mvc.perform(post(uploadsUri + "/{uploadId}/complete", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotFound());
+        assertThat(softwareModuleManagement.find(sm.getId()).orElseThrow().getArtifacts()).isEmpty();
+    }
+
+    /**
+     * Verifies that a resumable upload which fails to complete keeps its received chunks - so it could be completed again.
+     */
+    @Test
+    void failedCompletionOfResumableUploadKeepsChunks() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(1024);
+        final String uploadsUri = "/rest/v1/softwaremodules/" + sm.getId() + "/artifacts/uploads";
+
+        final String uploadId = createUploadSession(uploadsUri, random.length);
+        mvc.perform(put(uploadsUri + "/{uploadId}", uploadId).param("offset", "0")
+                        .content(random)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk());
+        // uploaded meanwhile, with the same filename
+        final Artifact existing = artifactManagement.create(new ArtifactUpload(
+                new ByteArrayInputStream(randomBytes(512)), null, 512, null, sm.getId(), "origFilename", false));
+
+        mvc.perform(post(uploadsUri + "/{uploadId}/complete", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.exceptionClass", equalTo(EntityAlreadyExistsException.class.getName())));
+        mvc.perform(get(uploadsUri + "/{uploadId}", uploadId))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", hasSize(1)))
+                .andExpect(jsonPath("$.received[0].start", equalTo(0)))
+                .andExpect(jsonPath("$.received[0].end", equalTo(random.length)));
+
+        artifactManagement.delete(existing.getId());
+        mvc.perform(post(uploadsUri + "/{uploadId}/complete", uploadId).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hashes.sha1", equalTo(HashGeneratorUtils.generateSHA1(random))));
+        assertArtifact(sm, random);
+    }
+
+    /**
+     * Verifies that the open resumable uploads reserve the artifact storage quota for their whole file, until they are aborted.
+     */
+    @Test
+    void resumableUploadsReserveStorageQuota() throws Exception {
+        final long maxArtifactSize = quotaManagement.getMaxArtifactSize();
+        final long sessions = quotaManagement.getMaxArtifactStorage() / maxArtifactSize;
+
+        final List<String> uploadUris = new ArrayList<>();
+        try {
+            for (int i = 0; i < sessions; i++) {
+                final String uploadsUri = "/rest/v1/softwaremodules/" + testdataFactory.createSoftwareModuleOs("sm" + i).getId() +
+                        "/artifacts/uploads";
+                uploadUris.add(uploadsUri + "/" + createUploadSession(uploadsUri, maxArtifactSize));
+            }
+
+            final String uploadsUri = "/rest/v1/softwaremodules/" + testdataFactory.createSoftwareModuleOs("sm" + sessions).getId() +
+                    "/artifacts/uploads";
+            mvc.perform(post(uploadsUri)
+                            .content(new JSONObject().put("filename", "origFilename").put("size", maxArtifactSize).toString())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.exceptionClass", equalTo(StorageQuotaExceededException.class.getName())));
+
+            // the aborted session releases its reservation
+            mvc.perform(delete(uploadUris.remove(0)))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isNoContent());
+            uploadUris.add(uploadsUri + "/" + createUploadSession(uploadsUri, maxArtifactSize));
+        } finally {
+            // release the reservations
+            for (final String uploadUri : uploadUris) {
+                mvc.perform(delete(uploadUri)).andExpect(status().isNoContent());
+            }
+        }
+    }
+
     /**
      * Tests binary download of an artifact including verfication that the downloaded binary is consistent and that the etag header is as expected identical to the SHA1 hash of the file.
      */
@@ -1661,6 +1839,17 @@ class MgmtSoftwareModuleResourceTest extends AbstractManagementApiIntegrationTes
                 .as("wrong metadata of the filename").isEqualTo("origFilename");
     }
 
+    private String createUploadSession(final String uploadsUri, final long size) throws Exception {
+        return JsonPath.read(
+                mvc.perform(post(uploadsUri)
+                                .content(new JSONObject().put("filename", "origFilename").put("size", size).toString())
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andDo(MockMvcResultPrinter.print())
+                        .andExpect(status().isCreated())
+                        .andReturn().getResponse().getContentAsString(),
+                "$.id");
+    }
+
     private void downloadAndVerify(final SoftwareModule sm, final byte[] random, final Artifact artifact) throws Exception {
         final MvcResult result = mvc
                 .perform(get("/rest/v1/softwaremodules/{smId}/artifacts/{artId}/download", sm.getId(), artifact.getId()))
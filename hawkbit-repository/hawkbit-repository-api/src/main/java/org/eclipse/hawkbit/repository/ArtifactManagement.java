@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.io.InputStream;
+import java.util.Optional;
+
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -19,12 +22,14 @@ import org.eclipse.hawkbit.artifact.model.ArtifactStream;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.eclipse.hawkbit.auth.SpPermission;
 import org.eclipse.hawkbit.auth.SpringEvalExpressions;
+import org.eclipse.hawkbit.repository.exception.ConcurrentModificationException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidMd5HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSha1HashException;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.ArtifactUploadSession;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.springframework.security.access.prepost.PreAuthorize;
 
@@ -54,6 +59,75 @@ public interface ArtifactManagement extends PermissionSupport {
     @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
     Artifact create(@NotNull @Valid ArtifactUpload artifactUpload);
 
+    /**
+     * Starts a resumable upload of an artifact binary in chunks. The session expires if not used for a while, see
+     * {@link RepositoryProperties#getArtifactUploadSessionTimeout()}.
+     * <p/>
+     * The session is persisted and its chunks are staged in the artifact storage, so in a cluster the requests of a session could be
+     * served by any node (given the storage stages them in a shared location). The storage quota for the whole file is reserved until
+     * the session is completed, aborted or expired.
+     *
+     * @param create the upload information
+     * @return the new upload session
+     * @throws EntityNotFoundException if given software module does not exist
+     * @throws EntityAlreadyExistsException if File with that name already exists in the Software Module
+     * @throws ConstraintViolationException if {@link ArtifactUploadSession.Create} contains invalid values
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    ArtifactUploadSession createUploadSession(@NotNull @Valid ArtifactUploadSession.Create create);
+
+    /**
+     * Returns the state of an upload session, e.g. to resume it after a failure.
+     *
+     * @param moduleId the id of the software module
+     * @param sessionId the id of the session
+     * @return the upload session
+     * @throws EntityNotFoundException if the session doesn't exist (or has expired)
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    ArtifactUploadSession getUploadSession(long moduleId, @NotEmpty String sessionId);
+
+    /**
+     * Uploads a chunk of the artifact binary. The chunks of a session could be uploaded in any order and in parallel.
+     *
+     * @param moduleId the id of the software module
+     * @param sessionId the id of the session
+     * @param offset the offset of the chunk in the artifact binary
+     * @param chunk the chunk content
+     * @return the upload session
+     * @throws EntityNotFoundException if the session doesn't exist (or has expired)
+     * @throws ArtifactUploadFailedException if upload fails with internal server errors
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    ArtifactUploadSession uploadChunk(long moduleId, @NotEmpty String sessionId, long offset, @NotNull InputStream chunk);
+
+    /**
+     * Completes an upload session - the completely received binary is stored and assigned to the software module. If it fails, the
+     * session could be completed again (or aborted) - the received chunks are kept, unless already published by the storage.
+     *
+     * @param moduleId the id of the software module
+     * @param sessionId the id of the session
+     * @return uploaded {@link Artifact}
+     * @throws EntityNotFoundException if the session doesn't exist (or has expired)
+     * @throws EntityAlreadyExistsException if File with that name already exists in the Software Module
+     * @throws ArtifactUploadFailedException if upload fails with internal server errors
+     * @throws InvalidMd5HashException if check against provided MD5 checksum failed
+     * @throws InvalidSha1HashException if check against provided SHA1 checksum failed
+     * @throws ConcurrentModificationException if the session is being completed concurrently
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    Artifact completeUploadSession(long moduleId, @NotEmpty String sessionId);
+
+    /**
+     * Aborts an upload session and discards the received chunks.
+     *
+     * @param moduleId the id of the software module
+     * @param sessionId the id of the session
+     * @throws EntityNotFoundException if the session doesn't exist (or has expired)
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    void abortUploadSession(long moduleId, @NotEmpty String sessionId);
+
     /**
      * Loads {@link StoredArtifactInfo} from store for given {@link Artifact}.
      *
@@ -65,6 +139,18 @@ public interface ArtifactManagement extends PermissionSupport {
     @PreAuthorize("hasAuthority('" + SpPermission.READ_SOFTWARE_MODULE_ARTIFACT + "')" + " or " + SpringEvalExpressions.IS_CONTROLLER)
     ArtifactStream getArtifactStream(@NotEmpty String sha1Hash, long softwareModuleId, final boolean isEncrypted);
 
+    /**
+     * Loads a pre-compressed variant of the artifact binary from the store, if available. Variants are never available for encrypted
+     * artifacts.
+     *
+     * @param sha1Hash to search for
+     * @param softwareModuleId software module id.
+     * @param encoding the content coding of the variant, e.g. <code>gzip</code>
+     * @return the variant stream (with size and SHA-1 hash of the variant) or empty if not (yet) available
+     */
+    @PreAuthorize("hasAuthority('" + SpPermission.READ_SOFTWARE_MODULE_ARTIFACT + "')" + " or " + SpringEvalExpressions.IS_CONTROLLER)
+    Optional<ArtifactStream> getEncodedArtifactStream(@NotEmpty String sha1Hash, long softwareModuleId, @NotEmpty String encoding);
+
     /**
      * Deletes {@link Artifact} based on given id.
      *
@@ -31,6 +31,7 @@ import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
@@ -102,6 +103,22 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Action addUpdateActionStatus(@NotNull @Valid ActionStatusCreate create);
 
+    /**
+     * Same as {@link #addUpdateActionStatus(ActionStatusCreate)} but meant for the ingestion of the feedback of the devices. If action status
+     * batching is configured (see {@link RepositoryProperties#getActionStatusBatchWindow()}) the feedback of a tenant received within the
+     * batch window is applied together in a single transaction. The call blocks until the action status of the call is applied - so, it
+     * shall be used by callers that could wait for the batch window, e.g. request threads, but not by (bounded) message listener threads.
+     *
+     * @param create to be added
+     * @return the updated {@link Action}
+     * @throws EntityAlreadyExistsException if a given entity already exists
+     * @throws AssignmentQuotaExceededException if more than the allowed number of status entries or messages per entry are inserted
+     * @throws EntityNotFoundException if action status not exist
+     * @throws ConstraintViolationException if fields are not filled as specified. Check {@link ActionStatusCreate} for field constraints.
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    Action ingestUpdateActionStatus(@NotNull @Valid ActionStatusCreate create);
+
     /**
      * Retrieves active {@link Action} with the highest priority that is assigned to a {@link Target}.
      * <p/>
@@ -124,6 +141,30 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     List<Action> findActiveActionsWithHighestWeight(@NotEmpty String controllerId, int maxActionCount);
 
+    /**
+     * Retrieves the poll relevant state of a {@link Target} - the target, its active action with the highest weight (as
+     * {@link #findActiveActionWithHighestWeight(String)}) and its installed action (as {@link #findInstalledActionByTarget(Target)}),
+     * with a single query and as lightweight projection instead of entities.
+     *
+     * @param controllerId identifies the target
+     * @return the poll snapshot or {@link Optional#empty()} if the target does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    Optional<ControllerPollSnapshot> getPollSnapshot(@NotEmpty String controllerId);
+
+    /**
+     * Registers the poll of a {@link Target} and retrieves its poll snapshot (see {@link #getPollSnapshot(String)}). If the target
+     * exists and is not to be updated (address and update status unchanged, polls persisted write-behind), the poll is registered
+     * write-behind and the snapshot is read with a single query. Otherwise, the target is registered or updated as with
+     * {@link #findOrRegisterTargetIfItDoesNotExist(String, URI)} and the snapshot is read afterward.
+     *
+     * @param controllerId reference
+     * @param address the client IP address of the target, might be {@code null}
+     * @return the poll snapshot of the (registered) target
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    ControllerPollSnapshot findOrRegisterPollSnapshot(@NotEmpty String controllerId, URI address);
+
     /**
      * Get the {@link Action} entity for given actionId with all lazy attributes.
      *
@@ -172,6 +213,19 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Target findOrRegisterTargetIfItDoesNotExist(@NotEmpty String controllerId, @NotNull URI address, String name, String type);
 
+    /**
+     * Registers a poll of an already known target, which is known to be unchanged, for write-behind update of
+     * {@link Target#getLastTargetQuery()} without loading the target. This is the fast path for polls answered from a node local
+     * cache. If the poll can't be registered (i.e. eager poll persistence is configured) the caller shall fall back to
+     * {@link #findOrRegisterTargetIfItDoesNotExist(String, URI)}. This is the case as well if the write-behind buffer is full - then
+     * the poll is persisted directly by the fallback.
+     *
+     * @param controllerId of the polling target
+     * @return {@code true} if the poll has been registered for write-behind persistence, {@code false} otherwise
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    boolean registerPoll(@NotEmpty String controllerId);
+
     /**
      * Retrieves last {@link Action} for a download of an artifact of given module and target if exists and is not canceled.
      *
@@ -192,6 +246,16 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     String getPollingTime(Target target);
 
+    /**
+     * Returns configured polling interval at which the controller polls hawkBit server, as {@link #getPollingTime(Target)}. The target
+     * entity is loaded only if polling time overrides are configured - they are matched against the target.
+     *
+     * @param snapshot the poll snapshot of the target for which polling time is calculated
+     * @return current {@link TenantConfigurationKey#POLLING_TIME}.
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    String getPollingTime(ControllerPollSnapshot snapshot);
+
     /**
      * Returns polling time based on the maintenance window for an action. Server will reduce the polling interval as the start time for
      * maintenance window approaches, so that at least these many attempts are made between current polling until start of maintenance window.
@@ -234,7 +298,8 @@ public interface ControllerManagement {
     boolean hasTargetArtifactAssigned(long targetId, @NotEmpty String sha1Hash);
 
     /**
-     * Registers retrieved status for given {@link Target} and {@link Action} if it does not exist yet.
+     * Registers retrieved status for given {@link Target} and {@link Action} if it does not exist yet. Unless eager poll persistence is
+     * configured, the retrieved status is written behind - repeated registrations for an action are coalesced in memory.
      *
      * @param actionId to the handle status for
      * @param message for the status
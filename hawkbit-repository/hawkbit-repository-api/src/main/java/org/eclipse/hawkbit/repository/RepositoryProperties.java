@@ -14,6 +14,7 @@ import java.util.concurrent.TimeUnit;
 
 import lombok.Data;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -43,7 +44,7 @@ public class RepositoryProperties {
     private boolean publishTargetPollEvent = true;
 
     /**
-     * Maximum number of poll operations queued before flush.
+     * Maximum number of targets with polls buffered before flush. Polls of further targets are persisted directly until the next flush.
      */
     private int pollPersistenceQueueSize = 10_000;
 
@@ -53,10 +54,38 @@ public class RepositoryProperties {
     private long pollPersistenceFlushTime = TimeUnit.SECONDS.toMillis(10);
 
     /**
-     * Set to true to persist polls immediately.
+     * Number of threads flushing the buffered polls (of different tenants) in parallel.
+     */
+    private int pollPersistenceFlushThreads = 2;
+
+    /**
+     * Set to true to persist polls immediately. Otherwise, the last target queries and the {@link Action.Status#RETRIEVED} action
+     * statuses are written behind, every {@link #pollPersistenceFlushTime}.
      */
     private boolean eagerPollPersistence;
 
+    /**
+     * Time window in {@link TimeUnit#MILLISECONDS} for collecting the action status feedback of a tenant, in order to apply it together
+     * in a single transaction. Set to 0 (default) to apply each feedback in its own transaction, immediately.
+     */
+    private long actionStatusBatchWindow;
+
+    /**
+     * Maximum number of action status feedbacks applied in a single transaction.
+     */
+    private int actionStatusBatchSize = 500;
+
+    /**
+     * Number of threads applying the action status batches (of different tenants).
+     */
+    private int actionStatusBatchThreads = 2;
+
+    /**
+     * Maximum time in {@link TimeUnit#MILLISECONDS} a feedback waits for its batch. If its batch hasn't been started until then, it is
+     * applied by the submitter, in its own transaction.
+     */
+    private long actionStatusBatchTimeout = TimeUnit.SECONDS.toMillis(30);
+
     /**
      * If an {@link org.eclipse.hawkbit.repository.model.Action} has a weight of null this value is used as weight.
      */
@@ -78,4 +107,17 @@ public class RepositoryProperties {
      * new targets
      */
     private long dynamicRolloutsMinInvolvePeriodMS = 60_000;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} after which a resumable artifact upload session, to which no chunk is uploaded, expires -
+     * it doesn't reserve storage anymore and is deleted, with its received chunks, by the auto cleanup.
+     */
+    private long artifactUploadSessionTimeout = TimeUnit.HOURS.toMillis(24);
+
+    /**
+     * Grace period in {@link TimeUnit#MILLISECONDS} of the artifact garbage collection - binaries not referenced by an artifact are
+     * deleted only if stored before, since they could be stored but not yet referenced. Shall be longer than the
+     * {@link #artifactUploadSessionTimeout}, the abandoned uploads are deleted after it, too.
+     */
+    private long artifactGcGracePeriod = TimeUnit.HOURS.toMillis(48);
 }
\ No newline at end of file
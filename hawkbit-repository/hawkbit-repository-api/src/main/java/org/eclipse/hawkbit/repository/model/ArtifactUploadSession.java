@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.repository.ValidString;
+
+/**
+ * State of a resumable (chunked) artifact upload.
+ *
+ * @param id the id of the session
+ * @param moduleId the id of the software module the artifact is uploaded to
+ * @param filename the filename of the artifact
+ * @param size the size of the artifact
+ * @param received the received ranges, ordered by start
+ */
+public record ArtifactUploadSession(String id, long moduleId, String filename, long size, List<Range> received) {
+
+    /**
+     * Received range of the artifact binary.
+     *
+     * @param start the start offset, inclusive
+     * @param end the end offset, exclusive
+     */
+    public record Range(long start, long end) {}
+
+    /**
+     * Use to create a new upload session.
+     */
+    public record Create(
+            String contentType, @PositiveOrZero long filesize,
+            ArtifactHashes hash,
+            long moduleId,
+            @NotEmpty @ValidString String filename,
+            boolean overrideExisting) {}
+}
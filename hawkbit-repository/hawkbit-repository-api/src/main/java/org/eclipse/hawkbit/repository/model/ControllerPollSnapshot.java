@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Lightweight projection of the poll relevant state of a target - the target itself, its active action with the highest weight and its
+ * installed action. It is read with a single query, without loading the entities.
+ *
+ * @param targetId the id of the target
+ * @param controllerId the controller id of the target
+ * @param address the last known address of the target
+ * @param updateStatus the update status of the target
+ * @param requestControllerAttributes whether the controller attributes are requested
+ * @param activeAction the active action with the highest weight or {@code null} if there is no active action
+ * @param installedActionId the id of the (not active anymore) action which has installed the installed distribution set, or {@code null}
+ */
+public record ControllerPollSnapshot(
+        long targetId, String controllerId, @Nullable String address, TargetUpdateStatus updateStatus, boolean requestControllerAttributes,
+        @Nullable ActiveAction activeAction,
+        @Nullable Long installedActionId) {
+
+    /**
+     * The poll relevant properties of an active action.
+     *
+     * @param id the id of the action
+     * @param optLockRevision the optimistic lock revision of the action
+     * @param status the status of the action
+     * @param actionType the type of the action
+     * @param forcedTime the forced time of the action, applicable for {@link ActionType#TIMEFORCED}
+     * @param weight the weight of the action or {@code null} if not set
+     * @param maintenanceSchedule whether the action has a maintenance schedule
+     */
+    public record ActiveAction(
+            long id, int optLockRevision, Status status, ActionType actionType, long forcedTime, @Nullable Integer weight,
+            boolean maintenanceSchedule) {
+
+        /**
+         * @see Action#isCancelingOrCanceled()
+         */
+        public boolean isCancelingOrCanceled() {
+            return Status.CANCELING == status || Status.CANCELED == status;
+        }
+
+        /**
+         * @see Action#isWaitingConfirmation()
+         */
+        public boolean isWaitingConfirmation() {
+            return Status.WAIT_FOR_CONFIRMATION == status;
+        }
+
+        /**
+         * @see Action#isHitAutoForceTime(long)
+         */
+        public boolean isHitAutoForceTime(final long hitTimeMillis) {
+            return ActionType.TIMEFORCED == actionType && hitTimeMillis >= forcedTime;
+        }
+    }
+}
@@ -136,6 +136,18 @@ public class TenantConfigurationProperties {
          * Switch to enable/disable the implicit locking
          */
         public static final String IMPLICIT_LOCK_ENABLED = "implicit.lock.enabled";
+        /**
+         * Download bandwidth limit of the tenant in bytes per second, 0 for unlimited.
+         */
+        public static final String DOWNLOAD_BANDWIDTH_TENANT = "download.bandwidth.tenant";
+        /**
+         * Download bandwidth limit of a controller in bytes per second, 0 for unlimited.
+         */
+        public static final String DOWNLOAD_BANDWIDTH_CONTROLLER = "download.bandwidth.controller";
+        /**
+         * Weight of the tenant when sharing the global download bandwidth limit with the other downloading tenants.
+         */
+        public static final String DOWNLOAD_BANDWIDTH_WEIGHT = "download.bandwidth.weight";
 
         private static final Map<Class<? extends Serializable>, TenantConfigurationValidator> DEFAULT_TYPE_VALIDATORS = Map.of(
                 Boolean.class, new TenantConfigurationBooleanValidator(),
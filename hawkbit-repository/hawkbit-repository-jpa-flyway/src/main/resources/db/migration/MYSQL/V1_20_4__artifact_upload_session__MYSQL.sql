@@ -0,0 +1,26 @@
+CREATE TABLE sp_artifact_upload_session (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at BIGINT,
+    created_by VARCHAR(64),
+    last_modified_at BIGINT,
+    last_modified_by VARCHAR(64),
+    optlock_revision BIGINT,
+    tenant VARCHAR(40) NOT NULL,
+    upload_id VARCHAR(36) NOT NULL,
+    software_module BIGINT NOT NULL,
+    provided_file_name VARCHAR(256) NOT NULL,
+    content_type VARCHAR(255),
+    file_size BIGINT NOT NULL,
+    md5_hash VARCHAR(32),
+    sha1_hash VARCHAR(40),
+    sha256_hash VARCHAR(64),
+    override_existing BOOLEAN NOT NULL,
+    completing BOOLEAN NOT NULL,
+    expires_at BIGINT NOT NULL,
+    received TEXT,
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX uk_artifact_upload_session ON sp_artifact_upload_session (upload_id, tenant);
+CREATE INDEX sp_idx_artifact_upload_session_01 ON sp_artifact_upload_session (tenant, expires_at);
+ALTER TABLE sp_artifact_upload_session
+    ADD CONSTRAINT fk_artifact_upload_session_software_module FOREIGN KEY (software_module) REFERENCES sp_software_module (id) ON DELETE CASCADE;
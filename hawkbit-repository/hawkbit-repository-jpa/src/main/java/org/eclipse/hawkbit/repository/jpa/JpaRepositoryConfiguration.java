@@ -21,6 +21,7 @@ import jakarta.validation.Validation;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.aopalliance.intercept.MethodInvocation;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryption;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionSecretsStorage;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionService;
@@ -51,6 +52,8 @@ import org.eclipse.hawkbit.repository.event.remote.service.TargetPollServiceEven
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionCleanup;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ArtifactGarbageCollector;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ArtifactUploadSessionCleanup;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoCleanupScheduler;
 import org.eclipse.hawkbit.repository.jpa.cluster.DistributedLockRepository;
 import org.eclipse.hawkbit.repository.jpa.cluster.LockProperties;
@@ -66,6 +69,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
 import org.eclipse.hawkbit.repository.jpa.model.helper.EntityInterceptorHolder;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ArtifactRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactUploadSessionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
@@ -375,6 +379,19 @@ public class JpaRepositoryConfiguration {
         return new AutoActionCleanup(deploymentManagement, configManagement);
     }
 
+    /**
+     * {@link ArtifactUploadSessionCleanup} bean.
+     *
+     * @param artifactStorage the artifact storage, with the staging files of the upload sessions
+     * @param uploadSessionRepository the repository of the upload sessions
+     * @return a new {@link ArtifactUploadSessionCleanup} bean
+     */
+    @Bean
+    AutoCleanupScheduler.CleanupTask artifactUploadSessionCleanup(
+            final Optional<ArtifactStorage> artifactStorage, final ArtifactUploadSessionRepository uploadSessionRepository) {
+        return new ArtifactUploadSessionCleanup(artifactStorage, uploadSessionRepository);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     @Profile("!test")
@@ -385,6 +402,24 @@ public class JpaRepositoryConfiguration {
         return new AutoCleanupScheduler(cleanupTasks, systemManagement, lockRegistry);
     }
 
+    /**
+     * {@link ArtifactGarbageCollector} bean.
+     * <p/>
+     * Note: does not activate in test profile, otherwise binaries stored by the tests could be collected.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @Profile("!test")
+    @ConditionalOnProperty(prefix = "hawkbit.artifact.gc.scheduler", name = "enabled", matchIfMissing = true)
+    ArtifactGarbageCollector artifactGarbageCollector(
+            final Optional<ArtifactStorage> artifactStorage, final ArtifactRepository artifactRepository,
+            final SystemManagement systemManagement, final PlatformTransactionManager txManager,
+            final LockRegistry<? extends Lock> lockRegistry, final RepositoryProperties repositoryProperties,
+            final Optional<MeterRegistry> meterRegistry) {
+        return new ArtifactGarbageCollector(
+                artifactStorage, artifactRepository, systemManagement, txManager, lockRegistry, repositoryProperties, meterRegistry);
+    }
+
     /**
      * {@link RolloutScheduler} bean.
      * <p/>
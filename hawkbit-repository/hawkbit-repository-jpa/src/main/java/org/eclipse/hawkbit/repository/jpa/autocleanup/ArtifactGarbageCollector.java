@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import static org.eclipse.hawkbit.context.AccessContext.asSystem;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * A scheduler which collects the garbage of the {@link ArtifactStorage} periodically, in the background - mark-and-sweep:
+ * <ol>
+ *     <li>marks the binaries referenced by the artifacts of a tenant - streamed from the {@link ArtifactRepository}</li>
+ *     <li>sweeps the binaries of the tenant which are not marked, see
+ *     {@link ArtifactStorage#collectGarbage(String, Set, Instant)}</li>
+ * </ol>
+ * and, finally, deletes the content which doesn't belong to a tenant anymore, see {@link ArtifactStorage#collectGarbage(Instant)}.
+ * <p/>
+ * The binaries stored in the grace period ({@link RepositoryProperties#getArtifactGcGracePeriod()}) are kept, since they could be
+ * stored but not yet referenced.
+ */
+@Slf4j
+public class ArtifactGarbageCollector {
+
+    private static final String ARTIFACT_GC = "artifact-gc";
+    private static final String SEP = ".";
+    private static final String PROP_ARTIFACT_GC_INTERVAL = "${hawkbit.artifact.gc.scheduler.fixedDelay:86400000}";
+
+    private final ArtifactStorage artifactStorage;
+    private final ArtifactRepository artifactRepository;
+    private final SystemManagement systemManagement;
+    private final PlatformTransactionManager txManager;
+    private final LockRegistry<? extends Lock> lockRegistry;
+    private final RepositoryProperties repositoryProperties;
+    private final Optional<Counter> reclaimedCounter;
+
+    public ArtifactGarbageCollector(
+            final Optional<ArtifactStorage> artifactStorage, final ArtifactRepository artifactRepository,
+            final SystemManagement systemManagement, final PlatformTransactionManager txManager,
+            final LockRegistry<? extends Lock> lockRegistry, final RepositoryProperties repositoryProperties,
+            final Optional<MeterRegistry> meterRegistry) {
+        this.artifactStorage = artifactStorage.orElse(null);
+        this.artifactRepository = artifactRepository;
+        this.systemManagement = systemManagement;
+        this.txManager = txManager;
+        this.lockRegistry = lockRegistry;
+        this.repositoryProperties = repositoryProperties;
+        reclaimedCounter = meterRegistry.map(mReg -> Counter.builder("hawkbit.artifact.gc.reclaimed")
+                .description("Storage reclaimed by the artifact garbage collection")
+                .baseUnit("bytes")
+                .register(mReg));
+    }
+
+    /**
+     * Scheduler method which kicks off the garbage collection.
+     */
+    @Scheduled(initialDelayString = PROP_ARTIFACT_GC_INTERVAL, fixedDelayString = PROP_ARTIFACT_GC_INTERVAL)
+    public void run() {
+        log.debug("Artifact garbage collection has been triggered.");
+        if (artifactStorage != null) {
+            // run this code in system code privileged to have the necessary permission to query the artifacts
+            asSystem(this::collectGarbage);
+        }
+    }
+
+    private void collectGarbage() {
+        final Instant olderThan = Instant.now().minusMillis(repositoryProperties.getArtifactGcGracePeriod());
+        final AtomicLong reclaimed = new AtomicLong();
+        systemManagement.forEachTenantAsSystem(tenant -> runLocked(ARTIFACT_GC + SEP + tenant, () -> {
+            final Set<String> referenced = DeploymentHelper.runInNewTransaction(txManager, "artifactGcMark", status -> {
+                try (final Stream<String> sha1Hashes = artifactRepository.streamReferencedSha1Hashes()) {
+                    return sha1Hashes.collect(Collectors.toSet());
+                }
+            });
+            // the sweep is not in the transaction - it could take long
+            reclaimed.addAndGet(artifactStorage.collectGarbage(tenant, referenced, olderThan));
+        }));
+        runLocked(ARTIFACT_GC, () -> reclaimed.addAndGet(artifactStorage.collectGarbage(olderThan)));
+
+        log.info("Artifact garbage collection has reclaimed {} bytes", reclaimed.get());
+        reclaimedCounter.ifPresent(counter -> counter.increment(reclaimed.get()));
+    }
+
+    // only one node collects the garbage (of a tenant) at a time
+    private void runLocked(final String lockKey, final Runnable runnable) {
+        final Lock lock = lockRegistry.obtain(lockKey);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            runnable.run();
+        } catch (final RuntimeException e) {
+            log.error("Artifact garbage collection {} failed.", lockKey, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
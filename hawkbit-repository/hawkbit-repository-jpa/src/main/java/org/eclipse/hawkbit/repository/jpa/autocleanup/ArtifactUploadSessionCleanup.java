@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactUploadSession;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactUploadSessionRepository;
+import org.springframework.dao.ConcurrencyFailureException;
+
+/**
+ * A cleanup task which deletes the expired resumable artifact upload sessions (see
+ * {@link RepositoryProperties#getArtifactUploadSessionTimeout()}) and the staging files of their received chunks.
+ * <p/>
+ * The expired sessions don't reserve storage anymore and can't be used - they are just deleted by the task.
+ */
+@Slf4j
+public class ArtifactUploadSessionCleanup implements AutoCleanupScheduler.CleanupTask {
+
+    private static final String ID = "artifact-upload-session-cleanup";
+
+    private final ArtifactStorage artifactStorage;
+    private final ArtifactUploadSessionRepository uploadSessionRepository;
+
+    public ArtifactUploadSessionCleanup(
+            final Optional<ArtifactStorage> artifactStorage, final ArtifactUploadSessionRepository uploadSessionRepository) {
+        this.artifactStorage = artifactStorage.orElse(null);
+        this.uploadSessionRepository = uploadSessionRepository;
+    }
+
+    @Override
+    public void run() {
+        if (artifactStorage == null) {
+            return;
+        }
+
+        int deleted = 0;
+        for (final JpaArtifactUploadSession session : uploadSessionRepository.findByExpiresAtLessThan(System.currentTimeMillis())) {
+            try {
+                uploadSessionRepository.delete(session);
+            } catch (final ConcurrencyFailureException e) {
+                log.debug("Upload session {} has been used meanwhile, not deleted", session.getUploadId());
+                continue;
+            }
+            artifactStorage.deleteChunkedUpload(AccessContext.tenant(), session.getUploadId());
+            deleted++;
+        }
+        log.debug("Deleted {} expired upload sessions", deleted);
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+}
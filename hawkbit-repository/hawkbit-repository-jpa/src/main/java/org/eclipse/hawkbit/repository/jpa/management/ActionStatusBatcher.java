@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.springframework.security.concurrent.DelegatingSecurityContextScheduledExecutorService;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+
+/**
+ * Batching stage for the action status feedback of the devices. The feedback is collected per tenant for a (short) time window and then
+ * applied in a single transaction - so, with a single commit and database connection for the whole batch. Note: every feedback is still
+ * applied as by {@link JpaControllerManagement#addUpdateActionStatus}, i.e. the action status inserts and the action and target updates
+ * are separate statements - there are neither bulk updates nor JDBC batched inserts (the ids are generated by the database).
+ * <p/>
+ * Every feedback is applied in the security context of its submitter. If the batch fails (e.g. because of a quota violation of a single
+ * feedback) it is rolled back and the feedback is applied one by one, in separate transactions, so every submitter gets its own result.
+ * <p/>
+ * The batches are applied by own threads, so the (blocked) submitters don't wait for other scheduled tasks. A submitter waits for a
+ * bounded time - if its feedback hasn't been taken by a batch until then, it applies it by itself. Otherwise, it waits for the result
+ * of the running batch.
+ */
+@Slf4j
+final class ActionStatusBatcher {
+
+    private final PlatformTransactionManager txManager;
+    private final ScheduledExecutorService executorService;
+    private final Function<ActionStatusCreate, Action> addActionStatus;
+    private final long window;
+    private final int maxBatchSize;
+    private final long timeout;
+
+    private final Map<String, Queue<PendingActionStatus>> pending = new ConcurrentHashMap<>();
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    ActionStatusBatcher(
+            final PlatformTransactionManager txManager, final Function<ActionStatusCreate, Action> addActionStatus,
+            final long window, final int maxBatchSize, final int threads, final long timeout) {
+        this.txManager = txManager;
+        // the batch transaction is started in the security context of the feedback which has scheduled it
+        executorService = new DelegatingSecurityContextScheduledExecutorService(Executors.newScheduledThreadPool(
+                Math.max(1, threads), Thread.ofPlatform().name("action-status-batch-", 0).daemon().factory()));
+        this.addActionStatus = addActionStatus;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Submits an action status to the batch of the current tenant and waits until it is applied.
+     *
+     * @param create the action status
+     * @return the updated action
+     */
+    Action submit(final ActionStatusCreate create) {
+        final String tenant = AccessContext.tenant();
+        final PendingActionStatus pendingActionStatus = new PendingActionStatus(
+                create, SecurityContextHolder.getContext(), new CompletableFuture<>());
+        final Queue<PendingActionStatus> queue = pending.computeIfAbsent(tenant, k -> new ConcurrentLinkedQueue<>());
+        queue.add(pendingActionStatus);
+        if (scheduled.add(tenant)) {
+            executorService.schedule(() -> flush(tenant), window, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            return pendingActionStatus.result().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (final TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (queue.remove(pendingActionStatus)) {
+                // not taken by a batch - applied by the submitter
+                log.warn("Action status of tenant {} not applied in a batch within {} ms, apply it directly", tenant, timeout);
+                return DeploymentHelper.runInNewTransaction(
+                        txManager, "addUpdateActionStatus", Isolation.READ_COMMITTED.value(),
+                        status -> addActionStatus.apply(create));
+            }
+            // taken by a running batch - its result (or the one by one fallback result) is awaited
+            try {
+                return pendingActionStatus.result().join();
+            } catch (final CompletionException ce) {
+                throw unwrap(ce.getCause());
+            }
+        }
+    }
+
+    void shutdown() {
+        executorService.shutdown();
+    }
+
+    private void flush(final String tenant) {
+        // unmark first - feedback submitted after that schedules the next flush
+        scheduled.remove(tenant);
+
+        final Queue<PendingActionStatus> queue = pending.get(tenant);
+        List<PendingActionStatus> batch;
+        while (!(batch = poll(queue)).isEmpty()) {
+            apply(tenant, batch);
+        }
+    }
+
+    private List<PendingActionStatus> poll(final Queue<PendingActionStatus> queue) {
+        final List<PendingActionStatus> batch = new ArrayList<>();
+        PendingActionStatus pendingActionStatus;
+        while (batch.size() < maxBatchSize && (pendingActionStatus = queue.poll()) != null) {
+            batch.add(pendingActionStatus);
+        }
+        return batch;
+    }
+
+    private void apply(final String tenant, final List<PendingActionStatus> batch) {
+        if (batch.size() > 1) {
+            try {
+                // one transaction, the feedback is applied one after another
+                final List<Action> actions = DeploymentHelper.runInNewTransaction(
+                        txManager, "addUpdateActionStatuses", Isolation.READ_COMMITTED.value(),
+                        status -> batch.stream().map(this::addActionStatus).toList());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(actions.get(i));
+                }
+                log.debug("{} action statuses of tenant {} applied in a batch", batch.size(), tenant);
+                return;
+            } catch (final RuntimeException e) {
+                log.debug("Failed to apply {} action statuses of tenant {} in a batch, apply them one by one", batch.size(), tenant, e);
+            }
+        }
+
+        batch.forEach(pendingActionStatus -> {
+            try {
+                pendingActionStatus.result().complete(DeploymentHelper.runInNewTransaction(
+                        txManager, "addUpdateActionStatus", Isolation.READ_COMMITTED.value(),
+                        status -> addActionStatus(pendingActionStatus)));
+            } catch (final RuntimeException e) {
+                pendingActionStatus.result().completeExceptionally(e);
+            }
+        });
+    }
+
+    private static RuntimeException unwrap(final Throwable cause) {
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+    }
+
+    private Action addActionStatus(final PendingActionStatus pendingActionStatus) {
+        return AccessContext.withSecurityContext(
+                pendingActionStatus.securityContext(), () -> addActionStatus.apply(pendingActionStatus.create()));
+    }
+
+    private record PendingActionStatus(ActionStatusCreate create, SecurityContext securityContext, CompletableFuture<Action> result) {}
+}
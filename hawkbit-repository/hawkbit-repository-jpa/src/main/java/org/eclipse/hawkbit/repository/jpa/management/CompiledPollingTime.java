@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ql.EntityMatcher;
+import org.eclipse.hawkbit.ql.jpa.QLSupport;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.qfields.TargetFields;
+import org.eclipse.hawkbit.tenancy.TenantAwareCacheManager;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link PollingTime} with pre-built {@link EntityMatcher}s for the overrides. It is compiled once per tenant and polling time
+ * configuration value and cached, so resolving the polling interval of a target doesn't parse the override queries again.
+ * <p/>
+ * The cache is keyed by the polling time configuration value, so a stale snapshot could never be used for a changed configuration.
+ * Nevertheless, the tenant's cache is cleared on tenant configuration changes in order to release the outdated snapshots.
+ */
+@Slf4j
+final class CompiledPollingTime {
+
+    static final String CACHE_NAME = "CompiledPollingTime";
+
+    private final PollingInterval pollingInterval;
+    private final List<CompiledOverride> overrides;
+
+    private CompiledPollingTime(final PollingTime pollingTime) {
+        pollingInterval = pollingTime.getPollingInterval();
+        overrides = new ArrayList<>(pollingTime.getOverrides().size());
+        for (final PollingTime.Override override : pollingTime.getOverrides()) {
+            try {
+                overrides.add(new CompiledOverride(
+                        QLSupport.getInstance().entityMatcher(override.qlStr(), TargetFields.class), override.pollingInterval()));
+            } catch (final Exception e) {
+                // validated on save, but the parser could have been changed in not backward compatible way
+                log.warn("Error while compiling polling override '{}', it is ignored: {}", override.qlStr(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the compiled polling time of the current tenant for the given polling time configuration value.
+     *
+     * @param pollingTime polling time configuration value
+     * @return the compiled polling time
+     */
+    static CompiledPollingTime of(final String pollingTime) {
+        return TenantAwareCacheManager.getInstance().getCache(CACHE_NAME)
+                .get(pollingTime, () -> new CompiledPollingTime(new PollingTime(pollingTime)));
+    }
+
+    /**
+     * Clears the compiled polling times of the current tenant.
+     */
+    static void evict() {
+        TenantAwareCacheManager.getInstance().getCache(CACHE_NAME).clear();
+    }
+
+    /**
+     * @return if there are overrides, i.e. if the polling interval depends on the target
+     */
+    boolean hasOverrides() {
+        return !overrides.isEmpty();
+    }
+
+    /**
+     * Resolves the polling interval of the target - of the first matching override or the default one.
+     *
+     * @param target the target, {@code null} if not needed (no overrides) or not found
+     * @return the polling interval applicable for the target
+     */
+    PollingInterval pollingInterval(@Nullable final Target target) {
+        if (!overrides.isEmpty() && target instanceof JpaTarget jpaTarget) {
+            for (final CompiledOverride override : overrides) {
+                try {
+                    if (override.matcher().match(jpaTarget)) {
+                        return override.pollingInterval();
+                    }
+                } catch (final Exception e) {
+                    log.warn("Error while evaluating polling override for target {}: {}", jpaTarget.getId(), e.getMessage());
+                }
+            }
+        }
+        // returns default - no overrides or not applicable for the target
+        return pollingInterval;
+    }
+
+    private record CompiledOverride(EntityMatcher matcher, PollingInterval pollingInterval) {}
+}
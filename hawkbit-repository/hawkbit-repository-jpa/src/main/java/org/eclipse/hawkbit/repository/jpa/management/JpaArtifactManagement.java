@@ -13,25 +13,42 @@ import static org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommit
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.persistence.EntityManager;
+import jakarta.validation.ValidationException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.ChunkedArtifactUpload;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionService;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactDeleteFailedException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactUploadFailedException;
+import org.eclipse.hawkbit.artifact.exception.FileSizeQuotaExceededException;
 import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
+import org.eclipse.hawkbit.artifact.exception.StorageQuotaExceededException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.eclipse.hawkbit.context.AccessContext;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.exception.ConcurrentModificationException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidMd5HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSha1HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSha256HashException;
@@ -40,8 +57,10 @@ import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactUploadSession;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
 import org.eclipse.hawkbit.repository.jpa.repository.ArtifactRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactUploadSessionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.ArtifactSpecifications;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
@@ -49,12 +68,15 @@ import org.eclipse.hawkbit.repository.jpa.utils.FileSizeAndStorageQuotaCheckingI
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.ArtifactUploadSession;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
@@ -68,12 +90,22 @@ import org.springframework.validation.annotation.Validated;
 @ConditionalOnBooleanProperty(prefix = "hawkbit.jpa", name = { "enabled", "artifact-management" }, matchIfMissing = true)
 public class JpaArtifactManagement implements ArtifactManagement {
 
+    private static final String UPLOAD_QUOTA_LOCK = "artifact-upload-quota.";
+    private static final long OPEN_UPLOAD_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
     private final ArtifactRepository artifactRepository;
     private final ArtifactStorage artifactStorage;
     private final SoftwareModuleRepository softwareModuleRepository;
     private final EntityManager entityManager;
     private final PlatformTransactionManager txManager;
     private final QuotaManagement quotaManagement;
+    private final ArtifactUploadSessionRepository uploadSessionRepository;
+    private final LockRegistry<? extends Lock> lockRegistry;
+    private final long uploadSessionTimeout;
+    // the chunked uploads opened by this node, by upload id - just kept open for the next chunks (and their incremental hashing), the
+    // state of the sessions is in the database and the chunks are in the staging files in the (shared) artifact storage. An evicted
+    // upload is closed only after its in-flight chunk writes.
+    private final Cache<String, ChunkedArtifactUpload> openUploads;
 
     protected JpaArtifactManagement(
             final ArtifactRepository artifactRepository,
@@ -81,13 +113,29 @@ public class JpaArtifactManagement implements ArtifactManagement {
             final SoftwareModuleRepository softwareModuleRepository,
             final EntityManager entityManager,
             final PlatformTransactionManager txManager,
-            final QuotaManagement quotaManagement) {
+            final QuotaManagement quotaManagement,
+            final ArtifactUploadSessionRepository uploadSessionRepository,
+            final LockRegistry<? extends Lock> lockRegistry,
+            final RepositoryProperties repositoryProperties) {
         this.artifactRepository = artifactRepository;
         this.artifactStorage = artifactStorage.orElse(null);
         this.softwareModuleRepository = softwareModuleRepository;
         this.entityManager = entityManager;
         this.txManager = txManager;
         this.quotaManagement = quotaManagement;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.lockRegistry = lockRegistry;
+        uploadSessionTimeout = repositoryProperties.getArtifactUploadSessionTimeout();
+        openUploads = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(Math.min(uploadSessionTimeout, OPEN_UPLOAD_TIMEOUT)))
+                // close timely, so the staging files of the abandoned sessions are not kept open
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((String id, ChunkedArtifactUpload upload, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && upload != null) {
+                        upload.close();
+                    }
+                })
+                .build();
     }
 
     @Override
@@ -98,41 +146,119 @@ public class JpaArtifactManagement implements ArtifactManagement {
             throw new UnsupportedOperationException();
         }
 
-        final long moduleId = artifactUpload.moduleId();
-        QuotaHelper.assertAssignmentQuota(
-                moduleId, 1, quotaManagement.getMaxArtifactsPerSoftwareModule(),
-                Artifact.class, SoftwareModule.class,
-                // get all artifacts without user context
-                softwareModuleId -> artifactRepository.count(null, ArtifactSpecifications.bySoftwareModuleId(softwareModuleId)));
+        return create(
+                artifactUpload.moduleId(), artifactUpload.filename(), artifactUpload.overrideExisting(),
+                isSmEncrypted -> storeArtifact(artifactUpload, isSmEncrypted));
+    }
 
-        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(moduleId);
-        if (softwareModule.isLocked()) {
-            // check in order to:
-            // - on non-existing artifact - skip binary storing before, eventual, failing in new JpaSoftwareModule.addArtifact
-            // - if existing and overriding - no check will be made in new JpaSoftwareModule.addArtifact, so we sh to fail here
-            throw new LockedException(JpaSoftwareModule.class, softwareModule.getId(), "ADD_ARTIFACT");
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // the reservation is committed before the quota lock is released
+    public ArtifactUploadSession createUploadSession(final ArtifactUploadSession.Create create) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
         }
 
-        final String filename = artifactUpload.filename();
-        final Artifact existing = softwareModule.getArtifactByFilename(filename).orElse(null);
-        if (existing != null) {
-            if (artifactUpload.overrideExisting()) {
-                log.debug("overriding existing artifact with new filename {}", filename);
-            } else {
-                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
-            }
+        final long maxArtifactSize = quotaManagement.getMaxArtifactSize();
+        if (create.filesize() > maxArtifactSize) {
+            throw new FileSizeQuotaExceededException(maxArtifactSize);
         }
 
-        // touch it to update the lock revision because we are modifying the DS indirectly, it will, also check UPDATE access
-        JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
+        // the storage is reserved for the whole file by the persisted session - the check and the reservation are atomic in the cluster
+        final Lock lock = lockRegistry.obtain(UPLOAD_QUOTA_LOCK + AccessContext.tenant());
+        lock.lock();
+        try {
+            final JpaArtifactUploadSession session = DeploymentHelper.runInNewTransaction(txManager, "createUploadSession", status -> {
+                // fail early, checked again on completion
+                getSoftwareModuleToAddArtifact(create.moduleId(), create.filename(), create.overrideExisting());
+                final long storageLeft = storageLeft();
+                if (create.filesize() > storageLeft) {
+                    throw new StorageQuotaExceededException(storageLeft);
+                }
+                final JpaArtifactUploadSession newSession = new JpaArtifactUploadSession(UUID.randomUUID().toString(), create);
+                newSession.setExpiresAt(System.currentTimeMillis() + uploadSessionTimeout);
+                return uploadSessionRepository.save(newSession);
+            });
+            log.debug("Upload session {} of {} created", session.getUploadId(), create.filename());
+            return session.toUploadSession();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ArtifactUploadSession getUploadSession(final long moduleId, final String sessionId) {
+        return findUploadSession(moduleId, sessionId).toUploadSession();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // no transaction (and connection) is held while the chunk is received
+    public ArtifactUploadSession uploadChunk(final long moduleId, final String sessionId, final long offset, final InputStream chunk) {
+        final JpaArtifactUploadSession session = assertNotCompleting(findUploadSession(moduleId, sessionId));
+        final String tenant = AccessContext.tenant();
+        final long written;
+        // the storage for the file has been reserved on session creation
+        try (final InputStream quotaCheckingChunk = new FileSizeAndStorageQuotaCheckingInputStream(
+                chunk, quotaManagement.getMaxArtifactSize(), session.getFileSize(), offset)) {
+            written = openUploads.get(sessionId, id -> artifactStorage.openChunkedUpload(tenant, id, session.getFileSize()))
+                    .write(offset, quotaCheckingChunk);
+        } catch (final IOException e) {
+            throw new ArtifactUploadFailedException(e);
+        }
+
+        // the chunk is durable in the staging file - recorded as received, the concurrent chunks (of any node) are serialized by the lock
+        return DeploymentHelper.runInNewTransaction(txManager, "uploadChunk", status -> {
+            final JpaArtifactUploadSession locked = assertNotCompleting(findUploadSessionForUpdate(moduleId, sessionId));
+            if (written > 0) {
+                locked.addReceived(offset, offset + written);
+            }
+            locked.setExpiresAt(System.currentTimeMillis() + uploadSessionTimeout);
+            return uploadSessionRepository.save(locked).toUploadSession();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // the session is marked as completing, then stored in a new transaction
+    public Artifact completeUploadSession(final long moduleId, final String sessionId) {
+        final JpaArtifactUploadSession session = DeploymentHelper.runInNewTransaction(txManager, "startCompleteUploadSession", status -> {
+            final JpaArtifactUploadSession locked = assertNotCompleting(findUploadSessionForUpdate(moduleId, sessionId));
+            if (!locked.isComplete()) {
+                throw new ValidationException("Upload session " + sessionId + " is not complete");
+            }
+            locked.setCompleting(true);
+            locked.setExpiresAt(System.currentTimeMillis() + uploadSessionTimeout);
+            return uploadSessionRepository.save(locked);
+        });
 
-        final StoredArtifactInfo artifact = storeArtifact(artifactUpload, softwareModule.isEncrypted());
+        final String tenant = AccessContext.tenant();
+        final ChunkedArtifactUpload upload = openCompletedUpload(tenant, session);
+        final Artifact artifact;
         try {
-            return storeArtifactMetadata(softwareModule, filename, artifact.getHashes(), artifact.getSize(), existing);
-        } catch (final Exception e) {
-            artifactStorage.deleteBySha1(AccessContext.tenant(), artifact.getHashes().sha1());
+            final ArtifactUploadSession.Create create = session.getCreate();
+            artifact = DeploymentHelper.runInNewTransaction(txManager, "completeUploadSession", status -> {
+                final Artifact created = create(
+                        moduleId, create.filename(), create.overrideExisting(), isSmEncrypted -> storeUpload(create, upload, isSmEncrypted));
+                // removed with the creation of the artifact
+                uploadSessionRepository.deleteById(session.getId());
+                return created;
+            });
+        } catch (final RuntimeException e) {
+            upload.close();
+            restoreUploadSession(sessionId, upload.isStaged());
             throw e;
         }
+        upload.close();
+        // if not published (moved) by the storage
+        artifactStorage.deleteChunkedUpload(tenant, sessionId);
+        return artifact;
+    }
+
+    @Override
+    @Transactional
+    public void abortUploadSession(final long moduleId, final String sessionId) {
+        final JpaArtifactUploadSession session = assertNotCompleting(findUploadSessionForUpdate(moduleId, sessionId));
+        uploadSessionRepository.delete(session);
+        final String tenant = AccessContext.tenant();
+        afterCommit(() -> discardUpload(tenant, sessionId));
     }
 
     @SuppressWarnings("java:S2201") // java:S2201 - the idea is to just check if the artifact exists
@@ -150,7 +276,7 @@ public class JpaArtifactManagement implements ArtifactManagement {
                     final ArtifactEncryptionService encryptionService = ArtifactEncryptionService.getInstance();
                     return new ArtifactStream(
                             encryptionService.decryptArtifact(softwareModuleId, artifactStorage.getBySha1(tenant, sha1Hash)),
-                            artifact.getSize() - encryptionService.encryptionSizeOverhead(),
+                            encryptionService.decryptedSize(artifact.getSize()),
                             artifact.getSha1Hash());
                 } else {
                     return new ArtifactStream(artifactStorage.getBySha1(tenant, sha1Hash), artifact.getSize(), artifact.getSha1Hash());
@@ -160,6 +286,21 @@ public class JpaArtifactManagement implements ArtifactManagement {
         throw new ArtifactBinaryNotFoundException(sha1Hash);
     }
 
+    @Override
+    public Optional<ArtifactStream> getEncodedArtifactStream(final String sha1Hash, final long softwareModuleId, final String encoding) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        // check access to the software module and if artifact belongs to it
+        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(softwareModuleId);
+        if (softwareModule.isEncrypted() ||
+                softwareModule.getArtifacts().stream().noneMatch(artifact -> artifact.getSha1Hash().equals(sha1Hash))) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(artifactStorage.getEncodedBySha1(AccessContext.tenant(), sha1Hash, encoding));
+    }
+
     @Override
     @Transactional
     @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
@@ -213,16 +354,161 @@ public class JpaArtifactManagement implements ArtifactManagement {
         });
     }
 
+    private Artifact create(
+            final long moduleId, final String filename, final boolean overrideExisting,
+            final Function<Boolean, StoredArtifactInfo> storeArtifact) {
+        final JpaSoftwareModule softwareModule = getSoftwareModuleToAddArtifact(moduleId, filename, overrideExisting);
+        final Artifact existing = softwareModule.getArtifactByFilename(filename).orElse(null);
+
+        // touch it to update the lock revision because we are modifying the DS indirectly, it will, also check UPDATE access
+        JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
+
+        final StoredArtifactInfo artifact = storeArtifact.apply(softwareModule.isEncrypted());
+        try {
+            return storeArtifactMetadata(softwareModule, filename, artifact.getHashes(), artifact.getSize(), existing);
+        } catch (final Exception e) {
+            artifactStorage.deleteBySha1(AccessContext.tenant(), artifact.getHashes().sha1());
+            throw e;
+        }
+    }
+
+    private JpaSoftwareModule getSoftwareModuleToAddArtifact(final long moduleId, final String filename, final boolean overrideExisting) {
+        QuotaHelper.assertAssignmentQuota(
+                moduleId, 1, quotaManagement.getMaxArtifactsPerSoftwareModule(),
+                Artifact.class, SoftwareModule.class,
+                // get all artifacts without user context
+                softwareModuleId -> artifactRepository.count(null, ArtifactSpecifications.bySoftwareModuleId(softwareModuleId)));
+
+        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(moduleId);
+        if (softwareModule.isLocked()) {
+            // check in order to:
+            // - on non-existing artifact - skip binary storing before, eventual, failing in new JpaSoftwareModule.addArtifact
+            // - if existing and overriding - no check will be made in new JpaSoftwareModule.addArtifact, so we sh to fail here
+            throw new LockedException(JpaSoftwareModule.class, softwareModule.getId(), "ADD_ARTIFACT");
+        }
+
+        if (softwareModule.getArtifactByFilename(filename).isPresent()) {
+            if (overrideExisting) {
+                log.debug("overriding existing artifact with new filename {}", filename);
+            } else {
+                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
+            }
+        }
+        return softwareModule;
+    }
+
+    private JpaArtifactUploadSession findUploadSession(final long moduleId, final String sessionId) {
+        return assertUploadSession(uploadSessionRepository.findByUploadId(sessionId), moduleId, sessionId);
+    }
+
+    private JpaArtifactUploadSession findUploadSessionForUpdate(final long moduleId, final String sessionId) {
+        return assertUploadSession(uploadSessionRepository.findByUploadIdForUpdate(sessionId), moduleId, sessionId);
+    }
+
+    private JpaArtifactUploadSession assertUploadSession(
+            final Optional<JpaArtifactUploadSession> session, final long moduleId, final String sessionId) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        // expired sessions are deleted by the cleanup task
+        return session
+                .filter(found -> found.getModuleId() == moduleId && found.getExpiresAt() >= System.currentTimeMillis())
+                .orElseThrow(() -> new EntityNotFoundException(ArtifactUploadSession.class.getSimpleName(), sessionId));
+    }
+
+    private static JpaArtifactUploadSession assertNotCompleting(final JpaArtifactUploadSession session) {
+        if (session.isCompleting()) {
+            throw new ConcurrentModificationException(
+                    new IllegalStateException("Upload session " + session.getUploadId() + " is being completed"));
+        }
+        return session;
+    }
+
+    // the upload opened by this node, if it has received all chunks (and so has digested them incrementally) - otherwise, the staging
+    // file is opened again, and the chunks received by the other nodes (or before a restart) are read back for hashing
+    private ChunkedArtifactUpload openCompletedUpload(final String tenant, final JpaArtifactUploadSession session) {
+        final ChunkedArtifactUpload openUpload = openUploads.asMap().remove(session.getUploadId());
+        if (openUpload != null) {
+            if (openUpload.isComplete()) {
+                return openUpload;
+            }
+            openUpload.close();
+        }
+        final ChunkedArtifactUpload upload = artifactStorage.openChunkedUpload(tenant, session.getUploadId(), session.getFileSize());
+        try {
+            upload.markReceived(0, session.getFileSize());
+        } catch (final IOException | RuntimeException e) {
+            upload.close();
+            restoreUploadSession(session.getUploadId(), true);
+            throw new ArtifactUploadFailedException(e);
+        }
+        return upload;
+    }
+
+    // makes a session, failed to complete, usable again - if the staging file is already published (or lost), the chunks are uploaded again
+    private void restoreUploadSession(final String sessionId, final boolean staged) {
+        try {
+            DeploymentHelper.runInNewTransaction(txManager, "restoreUploadSession", status -> {
+                uploadSessionRepository.findByUploadIdForUpdate(sessionId).ifPresent(session -> {
+                    session.setCompleting(false);
+                    if (!staged) {
+                        session.clearReceived();
+                    }
+                    uploadSessionRepository.save(session);
+                });
+                return null;
+            });
+        } catch (final RuntimeException e) {
+            // expires - the completion could be retried after the expiry only
+            log.warn("Could not restore upload session {}", sessionId, e);
+        }
+    }
+
+    private void discardUpload(final String tenant, final String sessionId) {
+        final ChunkedArtifactUpload openUpload = openUploads.asMap().remove(sessionId);
+        if (openUpload != null) {
+            openUpload.close();
+        }
+        artifactStorage.deleteChunkedUpload(tenant, sessionId);
+    }
+
     private StoredArtifactInfo storeArtifact(final ArtifactUpload artifactUpload, final boolean isSmEncrypted) {
         final InputStream stream = artifactUpload.inputStream();
         try (final InputStream wrappedStream = wrapInQuotaStream(
                 isSmEncrypted ? ArtifactEncryptionService.getInstance().encryptArtifact(artifactUpload.moduleId(), stream) : stream)) {
-            return artifactStorage.store(
+            return mapHashNotMatch(() -> artifactStorage.store(
                     AccessContext.tenant(),
                     wrappedStream, artifactUpload.filename(),
-                    artifactUpload.contentType(), artifactUpload.hash());
+                    artifactUpload.contentType(), artifactUpload.hash()));
         } catch (final ArtifactStoreException | IOException e) {
             throw new ArtifactUploadFailedException(e);
+        }
+    }
+
+    private StoredArtifactInfo storeUpload(
+            final ArtifactUploadSession.Create create, final ChunkedArtifactUpload upload, final boolean isSmEncrypted) {
+        if (isSmEncrypted) {
+            // the encrypted binary is stored - so the received one is streamed through the encryption, as a non-chunked upload
+            try (final InputStream content = upload.openContent()) {
+                return storeArtifact(new ArtifactUpload(
+                        content, create.contentType(), create.filesize(), create.hash(),
+                        create.moduleId(), create.filename(), create.overrideExisting()), true);
+            } catch (final IOException e) {
+                throw new ArtifactUploadFailedException(e);
+            }
+        }
+        try {
+            return mapHashNotMatch(() -> artifactStorage.store(
+                    AccessContext.tenant(), upload, create.filename(), create.contentType(), create.hash()));
+        } catch (final ArtifactStoreException e) {
+            throw new ArtifactUploadFailedException(e);
+        }
+    }
+
+    private static StoredArtifactInfo mapHashNotMatch(final Supplier<StoredArtifactInfo> store) {
+        try {
+            return store.get();
         } catch (final HashNotMatchException e) {
             if (e.getHashFunction().equals(HashNotMatchException.SHA1)) {
                 throw new InvalidSha1HashException(e.getMessage(), e);
@@ -235,12 +521,15 @@ public class JpaArtifactManagement implements ArtifactManagement {
     }
 
     private InputStream wrapInQuotaStream(final InputStream in) {
-        final long maxArtifactSize = quotaManagement.getMaxArtifactSize();
+        return new FileSizeAndStorageQuotaCheckingInputStream(in, quotaManagement.getMaxArtifactSize(), storageLeft());
+    }
 
+    // storage left, without the one reserved by the open upload sessions of the tenant
+    private long storageLeft() {
         final long currentlyUsed = artifactRepository.sumOfNonDeletedArtifactSize().orElse(0L);
+        final long reserved = uploadSessionRepository.sumOfReservedFileSize(System.currentTimeMillis());
         final long maxArtifactSizeTotal = quotaManagement.getMaxArtifactStorage();
-
-        return new FileSizeAndStorageQuotaCheckingInputStream(in, maxArtifactSize, maxArtifactSizeTotal - currentlyUsed);
+        return maxArtifactSizeTotal - currentlyUsed - reserved;
     }
 
     private Artifact storeArtifactMetadata(
@@ -262,4 +551,4 @@ public class JpaArtifactManagement implements ArtifactManagement {
         log.debug("storing new artifact into repository {}", artifact);
         return artifactRepository.save(AccessController.Operation.CREATE, artifact);
     }
-}
\ No newline at end of file
+}
@@ -16,24 +16,29 @@ import static org.eclipse.hawkbit.repository.model.Action.Status.DOWNLOADED;
 import static org.eclipse.hawkbit.repository.model.Action.Status.FINISHED;
 import static org.eclipse.hawkbit.repository.model.Target.CONTROLLER_ATTRIBUTE_MAX_KEY_SIZE;
 import static org.eclipse.hawkbit.repository.model.Target.CONTROLLER_ATTRIBUTE_MAX_VALUE_SIZE;
+import static org.eclipse.hawkbit.tenancy.DefaultTenantConfiguration.TENANT_TAG;
 
 import java.net.URI;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -44,11 +49,12 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotEmpty;
 
-import lombok.Data;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.context.AccessContext;
-import org.eclipse.hawkbit.ql.jpa.QLSupport;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
@@ -93,21 +99,23 @@ import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetType;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
-import org.eclipse.hawkbit.repository.qfields.TargetFields;
 import org.eclipse.hawkbit.tenancy.configuration.ControllerPollProperties;
 import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
-import org.eclipse.hawkbit.tenancy.configuration.PollingTime;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.eclipse.hawkbit.utils.IpUtil;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
@@ -121,8 +129,8 @@ import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
@@ -131,7 +139,7 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 @Service
 @ConditionalOnBooleanProperty(prefix = "hawkbit.jpa", name = { "enabled", "controller-management" }, matchIfMissing = true)
-public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
+public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement, DisposableBean {
 
     private static final Pattern PATTERN = Pattern.compile("[a-zA-Z0-9_\\-!@#$%^&*()+=\\[\\]{}|;:'\",.<>/\\\\?\\s]*");
 
@@ -149,7 +157,11 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     private final Duration minPollingTime;
     private final Duration maxPollingTime;
-    private final BlockingDeque<TargetPoll> queue;
+    private final WriteBehindBuffer<String, Long> pollBuffer;
+    private final WriteBehindBuffer<Long, Retrieved> retrievedBuffer;
+    private final ExecutorService flushExecutor;
+    private final ActionStatusBatcher actionStatusBatcher;
+    private final Optional<MeterRegistry> meterRegistry;
 
     @SuppressWarnings("squid:S00107")
     protected JpaControllerManagement(
@@ -162,7 +174,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             final DistributionSetManagement<? extends DistributionSet> distributionSetManagement,
             final ControllerPollProperties controllerPollProperties,
             final PlatformTransactionManager txManager, final EntityManager entityManager,
-            final ScheduledExecutorService executorService) {
+            final ScheduledExecutorService executorService, final Optional<MeterRegistry> meterRegistry) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
 
         this.targetRepository = targetRepository;
@@ -175,6 +187,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         this.controllerPollProperties = controllerPollProperties;
         this.txManager = txManager;
         this.entityManager = entityManager;
+        this.meterRegistry = meterRegistry;
 
         minPollingTime = controllerPollProperties.getMinPollingTime() == null
                 ? Duration.of(0, ChronoUnit.SECONDS)
@@ -183,12 +196,49 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                 ? Duration.of(100, ChronoUnit.YEARS)
                 : DurationHelper.fromString(controllerPollProperties.getMaxPollingTime());
         if (!repositoryProperties.isEagerPollPersistence()) {
+            pollBuffer = new WriteBehindBuffer<>(repositoryProperties.getPollPersistenceQueueSize(), Math::max);
+            // keeps the first retrieval, the later ones are just re-fetches
+            retrievedBuffer = new WriteBehindBuffer<>(
+                    repositoryProperties.getPollPersistenceQueueSize(), (buffered, retrieved) -> buffered);
+            flushExecutor = Executors.newFixedThreadPool(
+                    Math.max(1, repositoryProperties.getPollPersistenceFlushThreads()),
+                    Thread.ofPlatform().name("poll-flush-", 0).daemon().factory());
             executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
                     repositoryProperties.getPollPersistenceFlushTime(),
                     repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
-            queue = new LinkedBlockingDeque<>(repositoryProperties.getPollPersistenceQueueSize());
+            executorService.scheduleWithFixedDelay(this::flushRetrievedQueue,
+                    repositoryProperties.getPollPersistenceFlushTime(),
+                    repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
+            meterRegistry.ifPresent(mReg -> {
+                Gauge.builder("hawkbit.controller.poll.buffer.size", pollBuffer, WriteBehindBuffer::size)
+                        .description("Number of targets with a buffered, not yet persisted poll")
+                        .register(mReg);
+                FunctionCounter.builder("hawkbit.controller.poll.buffer.dropped", pollBuffer, WriteBehindBuffer::dropped)
+                        .description("Number of polls rejected by the full poll buffer (persisted directly instead)")
+                        .register(mReg);
+                Gauge.builder("hawkbit.controller.retrieved.buffer.size", retrievedBuffer, WriteBehindBuffer::size)
+                        .description("Number of actions with a buffered, not yet persisted retrieved status")
+                        .register(mReg);
+            });
         } else {
-            queue = null;
+            pollBuffer = null;
+            retrievedBuffer = null;
+            flushExecutor = null;
+        }
+        actionStatusBatcher = repositoryProperties.getActionStatusBatchWindow() > 0
+                ? new ActionStatusBatcher(txManager, this::addActionStatus,
+                        repositoryProperties.getActionStatusBatchWindow(), repositoryProperties.getActionStatusBatchSize(),
+                        repositoryProperties.getActionStatusBatchThreads(), repositoryProperties.getActionStatusBatchTimeout())
+                : null;
+    }
+
+    @Override
+    public void destroy() {
+        if (actionStatusBatcher != null) {
+            actionStatusBatcher.shutdown();
+        }
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
         }
     }
 
@@ -291,6 +341,18 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return addActionStatus(statusCreate);
     }
 
+    @Override
+    // doesn't block a connection while waiting for the batch, the action status is applied in a new transaction
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public Action ingestUpdateActionStatus(final ActionStatusCreate statusCreate) {
+        if (actionStatusBatcher == null) {
+            return DeploymentHelper.runInNewTransaction(
+                    txManager, "addUpdateActionStatus", Isolation.READ_COMMITTED.value(), status -> addActionStatus(statusCreate));
+        }
+        return actionStatusBatcher.submit(statusCreate);
+    }
+
     @Override
     public Optional<Action> findActiveActionWithHighestWeight(final String controllerId) {
         // get the highest action with weight
@@ -320,6 +382,45 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return super.findActiveActionsWithHighestWeightConsideringDefault(controllerId, maxActionCount);
     }
 
+    @Override
+    public Optional<ControllerPollSnapshot> getPollSnapshot(final String controllerId) {
+        final List<Object[]> rows = targetRepository.findPollSnapshotRows(controllerId, FINISHED);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // a row per active action, usually one
+        final List<ActiveAction> activeActions = new ArrayList<>(rows.size());
+        for (final Object[] row : rows) {
+            if (row[5] != null) {
+                activeActions.add(new ActiveAction(
+                        (Long) row[5], (Integer) row[6], (Status) row[7], (ActionType) row[8], (Long) row[9], (Integer) row[10],
+                        row[11] != null));
+            }
+        }
+
+        final Object[] target = rows.get(0);
+        return Optional.of(new ControllerPollSnapshot(
+                (Long) target[0], (String) target[1], (String) target[2], (TargetUpdateStatus) target[3], (Boolean) target[4],
+                activeActions.stream().min(activeActionWithHighestWeightFirst()).orElse(null),
+                (Long) target[12]));
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Retryable(includes = ConcurrencyFailureException.class, excludes = EntityAlreadyExistsException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public ControllerPollSnapshot findOrRegisterPollSnapshot(final String controllerId, final URI address) {
+        final Optional<ControllerPollSnapshot> snapshot = getPollSnapshot(controllerId);
+        if (snapshot.isPresent() && !isAddressChanged(IpUtil.addressToUri(snapshot.get().address()), address)
+                && !isStatusUnknown(snapshot.get().updateStatus()) && registerPoll(controllerId)) {
+            // nothing to store eagerly (as in updateTarget) - the target entity is not needed
+            return snapshot.get();
+        }
+
+        findOrRegisterTargetIfItDoesNotExist0(controllerId, address, null, null);
+        return getPollSnapshot(controllerId).orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
+    }
+
     @Override
     public Optional<Action> findActionWithDetails(final long actionId) {
         return actionRepository.findWithDetailsById(actionId);
@@ -348,6 +449,14 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return findOrRegisterTargetIfItDoesNotExist0(controllerId, address, name, type);
     }
 
+    @Override
+    public boolean registerPoll(final String controllerId) {
+        if (pollBuffer == null) {
+            return false;
+        }
+        return pollBuffer.offer(AccessContext.tenant(), controllerId, System.currentTimeMillis());
+    }
+
     private Target findOrRegisterTargetIfItDoesNotExist0(final String controllerId, final URI address, final String name, final String type) {
         final Specification<JpaTarget> spec = (targetRoot, query, cb) -> cb.equal(targetRoot.get(JpaTarget_.controllerId), controllerId);
         return targetRepository.findOne(spec)
@@ -378,27 +487,38 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     @Override
     public String getPollingTime(final Target target) {
+        return getPollingTime(pollingTime -> target);
+    }
+
+    @Override
+    public String getPollingTime(final ControllerPollSnapshot snapshot) {
+        // the overrides are matched against the target entity - without overrides it is not needed
+        return getPollingTime(pollingTime -> pollingTime.hasOverrides()
+                ? targetRepository.findById(snapshot.targetId()).orElse(null)
+                : null);
+    }
+
+    private String getPollingTime(final Function<CompiledPollingTime, Target> target) {
         // as system so to be able to read tenant configuration (READ_TENANT_CONFIGURATION)
         return asSystem(() -> {
-            final PollingTime pollingTime = new PollingTime(
+            final CompiledPollingTime pollingTime = CompiledPollingTime.of(
                     TenantConfigHelper.getTenantConfigurationManagement()
                             .getConfigurationValue(TenantConfigurationKey.POLLING_TIME, String.class).getValue());
-            if (!ObjectUtils.isEmpty(pollingTime.getOverrides()) && target instanceof JpaTarget jpaTarget) {
-                for (final PollingTime.Override override : pollingTime.getOverrides()) {
-                    try {
-                        if (QLSupport.getInstance().entityMatcher(override.qlStr(), TargetFields.class).match(jpaTarget)) {
-                            return override.pollingInterval().getFormattedIntervalWithDeviation(minPollingTime, maxPollingTime);
-                        }
-                    } catch (final Exception e) {
-                        log.warn("Error while evaluating polling override for target {}: {}", jpaTarget.getId(), e.getMessage());
-                    }
-                }
-            }
-            // returns default - no overrides or not applicable for the target
-            return pollingTime.getPollingInterval().getFormattedIntervalWithDeviation(minPollingTime, maxPollingTime);
+            return pollingTime.pollingInterval(target.apply(pollingTime))
+                    .getFormattedIntervalWithDeviation(minPollingTime, maxPollingTime);
         });
     }
 
+    // same order as findActiveActionWithHighestWeight - the highest weight (considering default) first, on equal weight the ones
+    // without weight first, then the oldest
+    private Comparator<ActiveAction> activeActionWithHighestWeightFirst() {
+        final int weightIfAbsent = repositoryProperties.getActionWeightIfAbsent();
+        return Comparator.<ActiveAction> comparingInt(action -> action.weight() == null ? weightIfAbsent : action.weight())
+                .reversed()
+                .thenComparing(action -> action.weight() != null)
+                .thenComparingLong(ActiveAction::id);
+    }
+
     @Override
     public String getPollingTimeForAction(final Target target, final Action action) {
         final String pollingTime = getPollingTime(target);
@@ -429,7 +549,20 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     @Transactional
     @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
     public void registerRetrieved(final long actionId, final String message) {
-        handleRegisterRetrieved(actionId, message);
+        if (retrievedBuffer == null) {
+            handleRegisterRetrieved(actionId, message);
+            return;
+        }
+
+        final String tenant = AccessContext.tenant();
+        // re-fetch of an already buffered action is coalesced without touching the database
+        if (!retrievedBuffer.contains(tenant, actionId) && !actionRepository.existsById(actionId)) {
+            throw new EntityNotFoundException(Action.class, actionId);
+        }
+        if (!retrievedBuffer.offer(tenant, actionId, new Retrieved(System.currentTimeMillis(), message))) {
+            // buffer is full - retrieved status is part of the action history, so store it directly
+            handleRegisterRetrieved(actionId, message);
+        }
     }
 
     @Override
@@ -686,48 +819,58 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     }
 
     /**
-     * Flush the update queue by means to persisting
-     * {@link Target#getLastTargetQuery()}.
+     * Flush the poll buffer by means to persisting {@link Target#getLastTargetQuery()}. The tenants are flushed in parallel (by the flush
+     * executor), each one in its own transaction.
      */
     private void flushUpdateQueue() {
         log.debug("Run flushUpdateQueue.");
 
-        final int size = queue.size();
-        if (size == 0) {
-            return;
-        }
-
-        log.debug("{} events in flushUpdateQueue.", size);
-
-        final Set<TargetPoll> events = HashSet.newHashSet(queue.size());
-        final int drained = queue.drainTo(events);
+        flushPerTenant(pollBuffer.drain(), (tenant, polls) -> {
+            final long startNano = System.nanoTime();
+            try {
+                DeploymentHelper.runInNewTransaction(txManager, "flushUpdateQueue", status -> updateLastTargetQueries(tenant, polls));
+                log.debug("{} polls of tenant {} persisted.", polls.size(), tenant);
+            } catch (final RuntimeException ex) {
+                log.error("Failed to persist polls of tenant {}.", tenant, ex);
+            } finally {
+                meterRegistry // flush polls of a tenant
+                        .map(mReg -> mReg.timer("hawkbit.controller.poll.flush", TENANT_TAG, tenant))
+                        .ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
+            }
+        });
+    }
 
-        if (drained <= 0) {
+    // flushes the drained entries of the tenants in parallel, with the bounded flush executor, and waits until all are flushed - so the
+    // next flush (scheduled with fixed delay) doesn't overlap
+    private <T> void flushPerTenant(final Map<String, T> drained, final BiConsumer<String, T> flush) {
+        if (drained.isEmpty()) {
             return;
         }
-
         try {
-            events.stream().collect(Collectors.groupingBy(TargetPoll::getTenant))
-                    .forEach((tenant, polls) -> DeploymentHelper.runInNewTransaction(
-                            txManager, "flushUpdateQueue",
-                            status -> updateLastTargetQueries(tenant, polls)));
-        } catch (final RuntimeException ex) {
-            log.error("Failed to persist UpdateQueue content.", ex);
-            return;
+            flushExecutor.invokeAll(drained.entrySet().stream()
+                    .<Callable<Void>> map(tenantEntries -> () -> {
+                        flush.accept(tenantEntries.getKey(), tenantEntries.getValue());
+                        return null;
+                    })
+                    .toList());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final RejectedExecutionException e) {
+            log.warn("Flush rejected, shutting down.");
         }
-
-        log.debug("{} events persisted.", drained);
     }
 
-    private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
+    private Void updateLastTargetQueries(final String tenant, final Map<String, Long> polls) {
         log.debug("Persist {} targetqueries.", polls.size());
 
-        final List<List<String>> pollChunks = ListUtils.partition(
-                polls.stream().map(TargetPoll::getControllerId).toList(),
+        // sorted by poll time, so the polls updated together (with the latest poll time of the chunk) are close in time
+        final List<List<Map.Entry<String, Long>>> pollChunks = ListUtils.partition(
+                polls.entrySet().stream().sorted(Map.Entry.comparingByValue()).toList(),
                 Constants.MAX_ENTRIES_IN_STATEMENT);
 
-        pollChunks.forEach(chunk -> {
-            final long lastTargetQuery = System.currentTimeMillis();
+        pollChunks.forEach(pollChunk -> {
+            final List<String> chunk = pollChunk.stream().map(Map.Entry::getKey).toList();
+            final long lastTargetQuery = pollChunk.get(pollChunk.size() - 1).getValue();
             setLastTargetQuery(tenant, lastTargetQuery, chunk);
             afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
                     .publishEvent(new TargetPollEvent(chunk, lastTargetQuery, tenant)));
@@ -736,6 +879,53 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return null;
     }
 
+    /**
+     * Flush the retrieved buffer by means to persisting the buffered {@link Status#RETRIEVED} action statuses. As in
+     * {@link #handleRegisterRetrieved(Long, String)} a retrieved status is stored only if the latest status of the action is not a
+     * retrieved one. Additionally, it is skipped if the action got a status after the retrieval, in order to keep the history order.
+     * As the polls, the tenants are flushed in parallel by the flush executor, each one in its own transaction.
+     */
+    private void flushRetrievedQueue() {
+        log.debug("Run flushRetrievedQueue.");
+
+        flushPerTenant(retrievedBuffer.drain(), (tenant, retrieved) -> {
+            try {
+                AccessContext.asSystemAsTenant(tenant, () -> DeploymentHelper.runInNewTransaction(
+                        txManager, "flushRetrievedQueue", status -> storeRetrieved(retrieved)));
+                log.debug("{} retrieved statuses of tenant {} processed.", retrieved.size(), tenant);
+            } catch (final RuntimeException ex) {
+                log.error("Failed to persist retrieved statuses of tenant {}.", tenant, ex);
+            }
+        });
+    }
+
+    private Void storeRetrieved(final Map<Long, Retrieved> retrieved) {
+        ListUtils.partition(List.copyOf(retrieved.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            final Map<Long, Object[]> latestStatuses = actionStatusRepository.findLatestStatusByActionIds(chunk).stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+            final List<Long> toStore = chunk.stream().filter(actionId -> {
+                final Object[] latestStatus = latestStatuses.get(actionId);
+                return latestStatus == null
+                        || (Status.RETRIEVED != latestStatus[1] && (Long) latestStatus[2] <= retrieved.get(actionId).timestamp());
+            }).toList();
+            if (toStore.isEmpty()) {
+                return;
+            }
+
+            final List<JpaActionStatus> actionStatuses = new ArrayList<>(toStore.size());
+            actionRepository.findAllById(toStore).forEach(action -> {
+                final Retrieved actionRetrieved = retrieved.get(action.getId());
+                actionStatuses.add(new JpaActionStatus(action, Status.RETRIEVED, actionRetrieved.timestamp(), actionRetrieved.message()));
+                // don't change the action status itself in case the action is in canceling state (see handleRegisterRetrieved)
+                if (!action.isCancelingOrCanceled()) {
+                    action.setStatus(Status.RETRIEVED);
+                }
+            });
+            actionStatusRepository.saveAll(actionStatuses);
+        });
+        return null;
+    }
+
     /**
      * Sets {@link Target#getLastTargetQuery()} by native SQL in order to avoid raising opt lock revision as this update is not mission-critical
      * and in fact only written by {@link ControllerManagement}, i.e. the target itself.
@@ -758,11 +948,11 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     /**
      * Stores target directly to DB in case either {@link Target#getAddress()} or {@link Target#getUpdateStatus()} or {@link Target#getName()}
-     * changes or the buffer queue is full.
+     * changes. Otherwise, only the poll is registered in the poll buffer (if full, just the poll is persisted directly).
      */
     @SuppressWarnings("java:S3776") // it's just complex
     private Target updateTarget(final JpaTarget toUpdate, final URI address, final String name, final String type) {
-        if (isStoreEager(toUpdate, address, name, type) || !queue.offer(new TargetPoll(toUpdate))) {
+        if (isStoreEager(toUpdate, address, name, type)) {
             if (isAddressChanged(IpUtil.addressToUri(toUpdate.getAddress()), address)) {
                 toUpdate.setAddress(address.toString());
             }
@@ -793,6 +983,13 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher().publishEvent(new TargetPollEvent(toUpdate)));
             return targetRepository.save(toUpdate);
         }
+        final long lastTargetQuery = System.currentTimeMillis();
+        if (!pollBuffer.offer(toUpdate.getTenant(), toUpdate.getControllerId(), lastTargetQuery)) {
+            // by native SQL, as the flush - so the opt lock revision is not raised
+            setLastTargetQuery(toUpdate.getTenant(), lastTargetQuery, List.of(toUpdate.getControllerId()));
+            afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
+                    .publishEvent(new TargetPollEvent(toUpdate.getControllerId(), lastTargetQuery, toUpdate.getTenant())));
+        }
         return toUpdate;
     }
 
@@ -1009,15 +1206,5 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         }
     }
 
-    @Data
-    private static class TargetPoll {
-
-        private final String tenant;
-        private final String controllerId;
-
-        TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
-        }
-    }
-}
\ No newline at end of file
+    private record Retrieved(long timestamp, String message) {}
+}
@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.repository.jpa.management;
 
 import static org.eclipse.hawkbit.auth.SpPermission.READ_GATEWAY_SECURITY_TOKEN;
+import static org.eclipse.hawkbit.context.AccessContext.asTenant;
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.AUTHENTICATION_GATEWAY_SECURITY_TOKEN_KEY;
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.POLLING_TIME;
 
@@ -24,16 +25,18 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import lombok.NonNull;
-import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.auth.SpPermission;
 import org.eclipse.hawkbit.context.AccessContext;
 import org.eclipse.hawkbit.ql.jpa.QLSupport;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.exception.TenantConfigurationValidatorException;
 import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
-import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTenantConfiguration;
 import org.eclipse.hawkbit.repository.jpa.repository.TenantConfigurationRepository;
 import org.eclipse.hawkbit.repository.model.PollStatus;
@@ -51,6 +54,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProp
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
@@ -64,7 +68,6 @@ import org.springframework.validation.annotation.Validated;
 /**
  * Central tenant configuration management operations of the SP server.
  */
-@Slf4j
 @Transactional(readOnly = true)
 @Validated
 @Service
@@ -127,7 +130,7 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
     @Override
     @SuppressWarnings("java:S3776") // java:S3776 - not really too complex
     public Function<Target, PollStatus> pollStatusResolver() {
-        final PollingTime pollingTime = new PollingTime(
+        final CompiledPollingTime pollingTime = CompiledPollingTime.of(
                 Objects.requireNonNull(getConfigurationValue0(TenantConfigurationKey.POLLING_TIME, String.class),
                                 "Polling time shall always be non-null")
                         .getValue());
@@ -141,22 +144,17 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
                 return null;
             }
 
-            if (!ObjectUtils.isEmpty(pollingTime.getOverrides()) && target instanceof JpaTarget jpaTarget) {
-                for (final PollingTime.Override override : pollingTime.getOverrides()) {
-                    try {
-                        if (QLSupport.getInstance().entityMatcher(override.qlStr(), TargetFields.class).match(jpaTarget)) {
-                            return pollStatus(lastTargetQuery, override.pollingInterval(), pollingOverdueTime);
-                        }
-                    } catch (final Exception e) {
-                        log.warn("Error while evaluating polling override for target {}: {}", jpaTarget.getId(), e.getMessage());
-                    }
-                }
-            }
-            // returns default - no overrides or not applicable for the target
-            return pollStatus(lastTargetQuery, pollingTime.getPollingInterval(), pollingOverdueTime);
+            return pollStatus(lastTargetQuery, pollingTime.pollingInterval(target), pollingOverdueTime);
         };
     }
 
+    @EventListener(classes = { TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class,
+            TenantConfigurationDeletedEvent.class })
+    public void onTenantConfigurationEvent(final RemoteTenantAwareEvent event) {
+        // releases the outdated compiled polling times, they are keyed by the configuration value and are not used anymore
+        asTenant(event.getTenant(), CompiledPollingTime::evict);
+    }
+
     /**
      * Validates the data type of the tenant configuration. If it is possible to cast to the given data type.
      */
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+
+/**
+ * Write-behind buffer for not mission-critical updates (e.g. the last poll timestamps of the targets). The entries are kept per tenant
+ * in concurrent maps, so multiple updates for the same key between two flushes occupy a single entry - they are merged (lock-free) with
+ * the configured merge function.
+ * <p/>
+ * The number of buffered entries is bounded by the capacity. Updates for not yet buffered keys are rejected (and counted as dropped)
+ * if the buffer is full. The maps of the tenants are removed when drained, so the buffer doesn't grow with the number of tenants which
+ * have ever been buffered.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class WriteBehindBuffer<K, V> {
+
+    private final int capacity;
+    private final BinaryOperator<V> merge;
+    private final Map<String, Map<K, V>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity the maximum number of buffered entries
+     * @param merge merges the buffered (first argument) with the new (second argument) value of a key
+     */
+    WriteBehindBuffer(final int capacity, final BinaryOperator<V> merge) {
+        this.capacity = capacity;
+        this.merge = merge;
+    }
+
+    /**
+     * Buffers a value.
+     *
+     * @param tenant the tenant
+     * @param key the key
+     * @param value the value
+     * @return {@code true} if the value is buffered, {@code false} if it is dropped because the buffer is full
+     */
+    boolean offer(final String tenant, final K key, final V value) {
+        // already buffered - just merge (a tenant map is removed only when empty, so a present key is never merged into a removed map)
+        final Map<K, V> tenantEntries = entries.get(tenant);
+        if (tenantEntries != null && tenantEntries.computeIfPresent(key, (k, v) -> merge.apply(v, value)) != null) {
+            return true;
+        }
+
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        // added atomically with respect to the removal of the drained tenant map
+        final boolean[] concurrentlyBuffered = new boolean[1];
+        entries.compute(tenant, (k, buffered) -> {
+            final Map<K, V> map = buffered == null ? new ConcurrentHashMap<>() : buffered;
+            if (map.putIfAbsent(key, value) != null) {
+                concurrentlyBuffered[0] = true;
+                map.merge(key, value, merge);
+            }
+            return map;
+        });
+        if (concurrentlyBuffered[0]) {
+            size.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * @param tenant the tenant
+     * @param key the key
+     * @return {@code true} if there is a buffered value for the key
+     */
+    boolean contains(final String tenant, final K key) {
+        final Map<K, V> tenantEntries = entries.get(tenant);
+        return tenantEntries != null && tenantEntries.containsKey(key);
+    }
+
+    /**
+     * Removes all buffered entries. Entries buffered (or merged) concurrently are either part of the result or stay buffered for the
+     * next drain.
+     *
+     * @return the buffered entries, per tenant
+     */
+    Map<String, Map<K, V>> drain() {
+        final Map<String, Map<K, V>> drained = new HashMap<>();
+        entries.forEach((tenant, tenantEntries) -> {
+            final Map<K, V> drainedTenantEntries = new HashMap<>();
+            tenantEntries.forEach((key, value) -> {
+                // removes only if not merged meanwhile, otherwise the merged value is drained next time
+                if (tenantEntries.remove(key, value)) {
+                    size.decrementAndGet();
+                    drainedTenantEntries.put(key, value);
+                }
+            });
+            if (!drainedTenantEntries.isEmpty()) {
+                drained.put(tenant, drainedTenantEntries);
+            }
+            // new keys are added (with compute) atomically with this check, so entries buffered meanwhile keep the map
+            entries.computeIfPresent(tenant, (k, buffered) -> buffered.isEmpty() ? null : buffered);
+        });
+        return drained;
+    }
+
+    /**
+     * @return the number of currently buffered entries
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * @return the number of tenants with buffered entries
+     */
+    int tenants() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of values dropped so far because the buffer was full
+     */
+    long dropped() {
+        return dropped.sum();
+    }
+}
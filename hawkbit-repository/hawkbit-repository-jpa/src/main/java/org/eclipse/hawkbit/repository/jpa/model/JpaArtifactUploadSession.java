@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.repository.model.ArtifactUploadSession;
+
+/**
+ * A resumable (chunked) artifact upload session. The received chunks are in the staging file of the upload in the artifact storage,
+ * the session keeps the upload information and the received ranges - so any node could receive the chunks and complete the upload.
+ */
+@NoArgsConstructor // Default constructor needed for JPA entities.
+@Setter
+@Getter
+@Entity
+@Table(name = "sp_artifact_upload_session")
+// exception squid:S2160 - BaseEntity equals/hashcode is handling correctly for sub entities
+@SuppressWarnings("squid:S2160")
+public class JpaArtifactUploadSession extends AbstractJpaTenantAwareBaseEntity {
+
+    private static final String RANGE_SEPARATOR = ",";
+    private static final String OFFSET_SEPARATOR = "-";
+
+    @Column(name = "upload_id", length = 36, nullable = false, updatable = false)
+    @Size(min = 1, max = 36)
+    @NotNull
+    private String uploadId;
+
+    @Column(name = "software_module", nullable = false, updatable = false)
+    private long moduleId;
+
+    @Column(name = "provided_file_name", length = 256, nullable = false, updatable = false)
+    @Size(min = 1, max = 256)
+    @NotNull
+    private String filename;
+
+    @Column(name = "content_type", updatable = false)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false, updatable = false)
+    private long fileSize;
+
+    @Column(name = "md5_hash", length = 32, updatable = false)
+    private String md5Hash;
+
+    @Column(name = "sha1_hash", length = 40, updatable = false)
+    private String sha1Hash;
+
+    @Column(name = "sha256_hash", length = 64, updatable = false)
+    private String sha256Hash;
+
+    @Column(name = "override_existing", nullable = false, updatable = false)
+    private boolean overrideExisting;
+
+    // set while the upload is stored - the session doesn't accept chunks and can't be completed or aborted again
+    @Column(name = "completing", nullable = false)
+    private boolean completing;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    // the merged received ranges, ordered by start - "start-end,start-end", the end exclusive
+    @Column(name = "received")
+    @Lob
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String received;
+
+    public JpaArtifactUploadSession(final String uploadId, final ArtifactUploadSession.Create create) {
+        this.uploadId = uploadId;
+        moduleId = create.moduleId();
+        filename = create.filename();
+        contentType = create.contentType();
+        fileSize = create.filesize();
+        if (create.hash() != null) {
+            md5Hash = create.hash().md5();
+            sha1Hash = create.hash().sha1();
+            sha256Hash = create.hash().sha256();
+        }
+        overrideExisting = create.overrideExisting();
+    }
+
+    public ArtifactUploadSession.Create getCreate() {
+        return new ArtifactUploadSession.Create(
+                contentType, fileSize,
+                md5Hash == null && sha1Hash == null && sha256Hash == null ? null : new ArtifactHashes(sha1Hash, md5Hash, sha256Hash),
+                moduleId, filename, overrideExisting);
+    }
+
+    /**
+     * @return the received ranges, ordered by start
+     */
+    public List<ArtifactUploadSession.Range> getReceived() {
+        final List<ArtifactUploadSession.Range> ranges = new ArrayList<>();
+        receivedRanges().forEach((start, end) -> ranges.add(new ArtifactUploadSession.Range(start, end)));
+        return ranges;
+    }
+
+    /**
+     * Adds a received range, merged with the received ones.
+     *
+     * @param start the start offset, inclusive
+     * @param end the end offset, exclusive
+     */
+    public void addReceived(final long start, final long end) {
+        final TreeMap<Long, Long> ranges = receivedRanges();
+        long mergedStart = start;
+        long mergedEnd = end;
+        final Map.Entry<Long, Long> before = ranges.floorEntry(start);
+        if (before != null && before.getValue() >= start) {
+            mergedStart = before.getKey();
+            mergedEnd = Math.max(mergedEnd, before.getValue());
+        }
+        Map.Entry<Long, Long> after;
+        while ((after = ranges.ceilingEntry(mergedStart)) != null && after.getKey() <= mergedEnd) {
+            mergedEnd = Math.max(mergedEnd, after.getValue());
+            ranges.remove(after.getKey());
+        }
+        ranges.put(mergedStart, mergedEnd);
+
+        final StringBuilder sb = new StringBuilder();
+        ranges.forEach((rangeStart, rangeEnd) -> {
+            if (!sb.isEmpty()) {
+                sb.append(RANGE_SEPARATOR);
+            }
+            sb.append(rangeStart).append(OFFSET_SEPARATOR).append(rangeEnd);
+        });
+        received = sb.toString();
+    }
+
+    /**
+     * Discards the received ranges, e.g. if the staging file is lost.
+     */
+    public void clearReceived() {
+        received = null;
+    }
+
+    /**
+     * @return if the whole binary is received
+     */
+    public boolean isComplete() {
+        final Long end = receivedRanges().get(0L);
+        return end == null ? fileSize == 0 : end == fileSize;
+    }
+
+    public ArtifactUploadSession toUploadSession() {
+        return new ArtifactUploadSession(uploadId, moduleId, filename, fileSize, getReceived());
+    }
+
+    private TreeMap<Long, Long> receivedRanges() {
+        final TreeMap<Long, Long> ranges = new TreeMap<>();
+        if (received != null && !received.isEmpty()) {
+            for (final String range : received.split(RANGE_SEPARATOR)) {
+                final int separator = range.indexOf(OFFSET_SEPARATOR);
+                ranges.put(Long.parseLong(range.substring(0, separator)), Long.parseLong(range.substring(separator + 1)));
+            }
+        }
+        return ranges;
+    }
+}
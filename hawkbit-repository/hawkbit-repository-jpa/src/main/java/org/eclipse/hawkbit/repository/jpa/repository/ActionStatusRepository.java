@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.repository.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -59,4 +62,16 @@ public interface ActionStatusRepository extends BaseEntityRepository<JpaActionSt
      */
     @Query("SELECT message FROM JpaActionStatus actionstatus JOIN actionstatus.messages message WHERE actionstatus.action.id = :actionId AND message NOT LIKE :filter")
     Page<String> findMessagesByActionIdAndMessageNotLike(@Param("actionId") Long actionId, @Param("filter") String filter, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the latest {@link ActionStatus} of each of the given {@link Action}s as rows of action id, status and created at.
+     * Actions without any status are not part of the result.
+     * <p/>
+     * No access control applied
+     *
+     * @param actionIds of the actions
+     * @return list of (action id, status, created at) rows
+     */
+    @Query("SELECT actionstatus.action.id, actionstatus.status, actionstatus.createdAt FROM JpaActionStatus actionstatus WHERE actionstatus.id IN (SELECT MAX(latest.id) FROM JpaActionStatus latest WHERE latest.action.id IN :actionIds GROUP BY latest.action.id)")
+    List<Object[]> findLatestStatusByActionIds(@Param("actionIds") Collection<Long> actionIds);
+}
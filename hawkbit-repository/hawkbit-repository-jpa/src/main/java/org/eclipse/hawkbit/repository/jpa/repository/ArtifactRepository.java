@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.repository.jpa.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -34,6 +35,17 @@ public interface ArtifactRepository extends BaseEntityRepository<JpaArtifact> {
     @Query("SELECT SUM(a.fileSize) FROM JpaArtifact a WHERE a.softwareModule.deleted = false")
     Optional<Long> sumOfNonDeletedArtifactSize();
 
+    /**
+     * Streams the SHA-1 hashes of the binaries referenced by the artifacts of the tenant, where the related software module is not
+     * deleted/archived. Shall be consumed in a transaction and closed.
+     * <p/>
+     * No access control applied
+     *
+     * @return the (distinct) SHA-1 hashes
+     */
+    @Query("SELECT DISTINCT a.sha1Hash FROM JpaArtifact a WHERE a.softwareModule.deleted = false")
+    Stream<String> streamReferencedSha1Hashes();
+
     /**
      * Counts artifacts where the related software module is deleted/archived.
      * <p/>
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactUploadSession;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The spring-data repository for the entity {@link JpaArtifactUploadSession}.
+ */
+@Transactional(readOnly = true)
+public interface ArtifactUploadSessionRepository extends BaseEntityRepository<JpaArtifactUploadSession> {
+
+    /**
+     * Finds an upload session by its upload id.
+     *
+     * @param uploadId the upload id
+     * @return the upload session
+     */
+    Optional<JpaArtifactUploadSession> findByUploadId(String uploadId);
+
+    /**
+     * Finds an upload session by its upload id and locks it (pessimistically) until the end of the (running) transaction - so the
+     * concurrent updates of the session, e.g. by the nodes receiving its chunks, are serialized.
+     *
+     * @param uploadId the upload id
+     * @return the upload session
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM JpaArtifactUploadSession s WHERE s.uploadId = :uploadId")
+    Optional<JpaArtifactUploadSession> findByUploadIdForUpdate(@Param("uploadId") String uploadId);
+
+    /**
+     * Sums the file sizes of the upload sessions (of the tenant) which are neither completing nor expired, i.e. the storage reserved by
+     * them.
+     * <p/>
+     * No access control applied.
+     *
+     * @param now the current time
+     * @return sum of the reserved storage in bytes
+     */
+    @Query("SELECT COALESCE(SUM(s.fileSize), 0) FROM JpaArtifactUploadSession s WHERE s.completing = false AND s.expiresAt >= :now")
+    long sumOfReservedFileSize(@Param("now") long now);
+
+    /**
+     * Finds the expired upload sessions (of the tenant).
+     *
+     * @param now the current time
+     * @return the expired upload sessions
+     */
+    List<JpaArtifactUploadSession> findByExpiresAtLessThan(long now);
+}
@@ -19,6 +19,7 @@ import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
+import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
@@ -80,6 +81,32 @@ public interface TargetRepository extends BaseEntityRepository<JpaTarget> {
             @Param("dSet") JpaDistributionSet distributionSet, @Param("lastModifiedAt") Long modifiedAt,
             @Param("lastModifiedBy") String modifiedBy, @Param("targets") Collection<Long> targets);
 
+    /**
+     * Finds the poll relevant columns of the target with the given controller id - its own, of its active actions and of its installed
+     * action (as {@link ActionRepository#findFirstByTargetIdAndDistributionSetIdAndStatusOrderByIdDesc}, if not active anymore). The
+     * target is returned once per active action (with <code>null</code> values if there is none), i.e. with a single row in the usual
+     * case. The installed action is selected by a subquery, so the finished actions don't multiply the rows.
+     * <p/>
+     * Columns: target id, controller id, address, update status, request controller attributes, active action id, active action
+     * opt lock revision, active action status, active action type, active action forced time, active action weight, active action
+     * maintenance schedule, installed action id.
+     * <p/>
+     * No access control applied - used for the target's own controller
+     *
+     * @param controllerId the controller id of the target
+     * @param finished the {@link Action.Status#FINISHED} status
+     * @return the rows, empty if the target doesn't exist
+     */
+    @Query("SELECT t.id, t.controllerId, t.address, t.updateStatus, t.requestControllerAttributes, "
+            + "a.id, a.optLockRevision, a.status, a.actionType, a.forcedTime, a.weight, a.maintenanceWindowSchedule, "
+            + "(SELECT i.id FROM JpaAction i WHERE i.active = false AND i.id = "
+            + "(SELECT MAX(f.id) FROM JpaAction f "
+            + "WHERE f.target = t AND f.status = :finished AND f.distributionSet = t.installedDistributionSet)) "
+            + "FROM JpaTarget t "
+            + "LEFT JOIN t.actions a ON a.active = true "
+            + "WHERE t.controllerId = :controllerId")
+    List<Object[]> findPollSnapshotRows(@Param("controllerId") String controllerId, @Param("finished") Action.Status finished);
+
     /**
      * Counts {@link Target} instances of given type in the repository.
      * <p/>
@@ -36,11 +36,25 @@ public class FileSizeAndStorageQuotaCheckingInputStream extends FilterInputStrea
      * @param storageLeft Storage left until quota is reached
      */
     public FileSizeAndStorageQuotaCheckingInputStream(final InputStream in, final long sizeLimit, final long storageLeft) {
+        this(in, sizeLimit, storageLeft, 0);
+    }
+
+    /**
+     * Creates a <code>QuotaInputStream</code> for a part (chunk) of a file, using the input stream in and a limiting quota
+     *
+     * @param in Inner InputStream that read operations will be forwarded to
+     * @param sizeLimit Quota file size limit in byte
+     * @param storageLeft Storage left until quota is reached
+     * @param offset Offset of the part in the file in byte
+     */
+    public FileSizeAndStorageQuotaCheckingInputStream(
+            final InputStream in, final long sizeLimit, final long storageLeft, final long offset) {
         super(in);
 
         // only limit to lower bound to avoid two checks
         this.quota = Math.min(sizeLimit, storageLeft);
         this.sizeLimit = sizeLimit;
+        size = offset;
     }
 
     @Override
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class for {@link ArtifactGarbageCollector} - the collector is not a bean in the test profile, so it is created by the test, with
+ * a mocked storage.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Artifact garbage collection
+ */
+@SuppressWarnings("java:S6813") // constructor injects are not possible for test classes
+class ArtifactGarbageCollectorTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private LockRegistry<Lock> lockRegistry;
+    @Autowired
+    private PlatformTransactionManager txManager;
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    /**
+     * Verifies that the binaries of the artifacts of not deleted software modules are referenced, while the ones of soft-deleted
+     * modules and of deleted artifacts are not
+     */
+    @Test
+    void streamReferencedSha1Hashes() {
+        final String referenced = createArtifact("referenced", false).getSha1Hash();
+        final String softDeleted = createArtifact("softDeleted", true).getSha1Hash();
+        final Artifact deleted = createArtifact("deleted", false);
+        artifactManagement.delete(deleted.getId());
+        // also referenced by a soft-deleted module
+        final String shared = createArtifact("shared", false).getSha1Hash();
+        createArtifact("shared", true);
+
+        final Set<String> referencedSha1Hashes = AccessContext.asSystem(() -> DeploymentHelper.runInNewTransaction(txManager, "test",
+                status -> {
+                    try (final Stream<String> sha1Hashes = artifactRepository.streamReferencedSha1Hashes()) {
+                        return sha1Hashes.collect(Collectors.toSet());
+                    }
+                }));
+        assertThat(referencedSha1Hashes).contains(referenced, shared).doesNotContain(softDeleted, deleted.getSha1Hash());
+    }
+
+    /**
+     * Verifies that the garbage collection sweeps the binaries of the tenant which are not referenced and, finally, the content of the
+     * deleted tenants
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void collectGarbage() {
+        final String referenced = createArtifact("referenced", false).getSha1Hash();
+        final String softDeleted = createArtifact("softDeleted", true).getSha1Hash();
+
+        final ArtifactStorage artifactStorage = mock(ArtifactStorage.class);
+        new ArtifactGarbageCollector(
+                Optional.of(artifactStorage), artifactRepository, systemManagement, txManager, lockRegistry, repositoryProperties,
+                Optional.empty()).run();
+
+        final ArgumentCaptor<Set<String>> marked = ArgumentCaptor.forClass(Set.class);
+        verify(artifactStorage).collectGarbage(eq(AccessContext.tenant()), marked.capture(), any());
+        assertThat(marked.getValue()).contains(referenced).doesNotContain(softDeleted);
+        verify(artifactStorage).collectGarbage(any());
+    }
+
+    private Artifact createArtifact(final String content, final boolean softDeleted) {
+        final SoftwareModule module = testdataFactory.createSoftwareModuleOs(content + "-" + softDeleted);
+        final Artifact artifact = testdataFactory.createArtifact(content, module.getId(), "file");
+        if (softDeleted) {
+            // assigned to a distribution set - so, just marked as deleted
+            testdataFactory.createDistributionSet(Set.of(softwareModuleManagement.get(module.getId())), content);
+            softwareModuleManagement.delete(module.getId());
+            assertThat(softwareModuleManagement.find(module.getId()).orElseThrow().isDeleted()).isTrue();
+        }
+        return artifact;
+    }
+}
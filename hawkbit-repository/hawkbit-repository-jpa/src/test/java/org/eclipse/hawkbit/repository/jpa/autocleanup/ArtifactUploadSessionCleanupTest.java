@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactUploadSession;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactUploadSessionRepository;
+import org.eclipse.hawkbit.repository.model.ArtifactUploadSession;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Test class for {@link ArtifactUploadSessionCleanup} - with a mocked storage.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Artifact upload session cleanup
+ */
+@SuppressWarnings("java:S6813") // constructor injects are not possible for test classes
+class ArtifactUploadSessionCleanupTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private ArtifactUploadSessionRepository uploadSessionRepository;
+
+    /**
+     * Verifies that the expired upload sessions are deleted with their staging files, while the active ones are kept
+     */
+    @Test
+    void deleteExpiredUploadSessions() {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final String expired = artifactManagement.createUploadSession(
+                new ArtifactUploadSession.Create(null, 10, null, sm.getId(), "expired", false)).id();
+        final String active = artifactManagement.createUploadSession(
+                new ArtifactUploadSession.Create(null, 10, null, sm.getId(), "active", false)).id();
+        final JpaArtifactUploadSession expiredSession = uploadSessionRepository.findByUploadId(expired).orElseThrow();
+        expiredSession.setExpiresAt(System.currentTimeMillis() - 1);
+        uploadSessionRepository.save(expiredSession);
+
+        final ArtifactStorage artifactStorage = mock(ArtifactStorage.class);
+        new ArtifactUploadSessionCleanup(Optional.of(artifactStorage), uploadSessionRepository).run();
+
+        assertThat(uploadSessionRepository.findByUploadId(expired)).isEmpty();
+        verify(artifactStorage).deleteChunkedUpload(eq(AccessContext.tenant()), eq(expired));
+        verify(artifactStorage, never()).deleteChunkedUpload(anyString(), eq(active));
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> artifactManagement.getUploadSession(sm.getId(), expired));
+        assertThat(artifactManagement.getUploadSession(sm.getId(), active).id()).isEqualTo(active);
+        artifactManagement.abortUploadSession(sm.getId(), active);
+    }
+}
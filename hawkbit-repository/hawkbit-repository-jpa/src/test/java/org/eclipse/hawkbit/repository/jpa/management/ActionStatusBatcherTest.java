@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Controller Management
+ */
+class ActionStatusBatcherTest {
+
+    /**
+     * Verifies that a submitter whose feedback has been taken by a running batch waits for the batch result after its timeout.
+     */
+    @Test
+    void waitsForRunningBatchAfterTimeout() throws InterruptedException {
+        final Action action = mock(Action.class);
+        final CountDownLatch batchStarted = new CountDownLatch(1);
+        final ActionStatusBatcher batcher = new ActionStatusBatcher(
+                mock(PlatformTransactionManager.class),
+                create -> {
+                    batchStarted.countDown();
+                    try {
+                        // longer than the timeout
+                        Thread.sleep(500);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return action;
+                },
+                1, 10, 1, 50);
+        try {
+            final ActionStatusCreate create = ActionStatusCreate.builder().actionId(1L).status(Status.RUNNING).build();
+            assertThat(AccessContext.asTenant("test_tenant", () -> batcher.submit(create))).isSameAs(action);
+            assertThat(batchStarted.await(0, TimeUnit.MILLISECONDS)).isTrue();
+        } finally {
+            batcher.shutdown();
+        }
+    }
+}
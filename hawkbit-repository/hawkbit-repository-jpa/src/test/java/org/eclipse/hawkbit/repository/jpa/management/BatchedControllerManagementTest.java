@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Feature: Component Tests - Repository<br/>
+ * Story: Controller Management
+ */
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.actionStatusBatchWindow=100" })
+class BatchedControllerManagementTest extends AbstractJpaIntegrationTest {
+
+    /**
+     * Verifies that concurrently ingested action statuses are applied in a batch and a failing one doesn't affect the others.
+     */
+    @Test
+    void ingestUpdateActionStatusInBatch() {
+        final List<Long> actionIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            actionIds.add(getFirstAssignedActionId(assignDistributionSet(
+                    testdataFactory.createDistributionSet("ds" + i), testdataFactory.createTargets(1, "t" + i))));
+        }
+
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final ExecutorService executor = Executors.newFixedThreadPool(actionIds.size() + 1);
+        try {
+            final List<CompletableFuture<Action>> results = Stream.concat(actionIds.stream(), Stream.of(NOT_EXIST_IDL))
+                    .map(actionId -> CompletableFuture.supplyAsync(() -> AccessContext.withSecurityContext(securityContext,
+                            () -> controllerManagement.ingestUpdateActionStatus(
+                                    ActionStatusCreate.builder().actionId(actionId).status(Action.Status.FINISHED).build())), executor))
+                    .toList();
+
+            for (int i = 0; i < actionIds.size(); i++) {
+                assertThat(results.get(i).join().getStatus()).isEqualTo(Action.Status.FINISHED);
+                assertThat(deploymentManagement.findAction(actionIds.get(i)).get().getStatus()).isEqualTo(Action.Status.FINISHED);
+            }
+            assertThat(results.get(actionIds.size()))
+                    .failsWithin(Duration.ofSeconds(5))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(EntityNotFoundException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
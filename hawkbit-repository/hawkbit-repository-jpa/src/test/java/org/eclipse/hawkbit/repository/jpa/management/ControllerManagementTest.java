@@ -70,6 +70,8 @@ import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot;
+import org.eclipse.hawkbit.repository.model.ControllerPollSnapshot.ActiveAction;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
@@ -344,6 +346,7 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
                 .isThrownBy(() -> controllerManagement.getActionForDownloadByTargetAndSoftwareModule(controllerId, moduleId));
 
         assertThat(controllerManagement.findActiveActionWithHighestWeight(NOT_EXIST_ID)).isNotPresent();
+        assertThat(controllerManagement.getPollSnapshot(NOT_EXIST_ID)).isNotPresent();
 
         assertThat(controllerManagement.hasTargetArtifactAssigned(controllerId, "XXX")).isFalse();
         assertThat(controllerManagement.hasTargetArtifactAssigned(target.getId(), "XXX")).isFalse();
@@ -697,6 +700,47 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(targetRepository.count()).as("Only 1 target should be registered").isEqualTo(1L);
     }
 
+    /**
+     * Register a controller which does not exist with its poll and read its poll snapshot
+     */
+    @Test
+    @WithUser(principal = "controller", authorities = { CONTROLLER_ROLE })
+    void findOrRegisterPollSnapshot() {
+        final ControllerPollSnapshot snapshot = controllerManagement.findOrRegisterPollSnapshot("AA", LOCALHOST);
+        assertThat(snapshot.controllerId()).isEqualTo("AA");
+        assertThat(snapshot.address()).isEqualTo(LOCALHOST.toString());
+        assertThat(snapshot.updateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
+        assertThat(snapshot.activeAction()).isNull();
+        assertThat(snapshot.installedActionId()).isNull();
+
+        assertThat(controllerManagement.findOrRegisterPollSnapshot("AA", LOCALHOST)).isEqualTo(snapshot);
+        assertThat(targetRepository.count()).as("Only 1 target should be registered").isEqualTo(1L);
+    }
+
+    /**
+     * Verifies that the poll snapshot contains the target, its active action and its latest installed action - the earlier finished
+     * actions of the installed distribution set don't multiply the rows or shadow the installed action
+     */
+    @Test
+    void pollSnapshotOfTargetWithFinishedAndActiveActions() {
+        final String controllerId = testdataFactory.createTarget().getControllerId();
+        final DistributionSet installed = testdataFactory.createDistributionSet("installed");
+        Long installedActionId = null;
+        for (final DistributionSet ds : List.of(installed, testdataFactory.createDistributionSet("other"), installed)) {
+            installedActionId = getFirstAssignedActionId(assignDistributionSet(ds.getId(), controllerId));
+            addUpdateActionStatus(installedActionId, controllerId, Status.FINISHED);
+        }
+        final Long activeActionId = getFirstAssignedActionId(
+                assignDistributionSet(testdataFactory.createDistributionSet("active").getId(), controllerId));
+
+        final ControllerPollSnapshot snapshot = controllerManagement.getPollSnapshot(controllerId).orElseThrow();
+        assertThat(snapshot.controllerId()).isEqualTo(controllerId);
+        assertThat(snapshot.updateStatus()).isEqualTo(TargetUpdateStatus.PENDING);
+        assertThat(snapshot.activeAction()).isNotNull().extracting(ActiveAction::id).isEqualTo(activeActionId);
+        assertThat(snapshot.installedActionId()).isEqualTo(installedActionId).isEqualTo(controllerManagement
+                .findInstalledActionByTarget(targetManagement.getByControllerId(controllerId)).orElseThrow().getId());
+    }
+
     /**
      * Register a controller with name which does not exist and update its name
      */
@@ -1757,6 +1801,11 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(actionStatusList.get(actionStatusList.size() - 1).getStatus()).isEqualTo(expectedActionStatus);
         if (actionActive) {
             assertThat(controllerManagement.findActiveActionWithHighestWeight(controllerId).get().getId()).isEqualTo(actionId);
+            assertThat(controllerManagement.getPollSnapshot(controllerId).orElseThrow().activeAction())
+                    .satisfies(activeAction -> {
+                        assertThat(activeAction.id()).isEqualTo(actionId);
+                        assertThat(activeAction.status()).isEqualTo(expectedActionActionStatus);
+                    });
         }
     }
 
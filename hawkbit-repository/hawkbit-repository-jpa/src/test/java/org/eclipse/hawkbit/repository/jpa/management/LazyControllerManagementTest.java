@@ -18,6 +18,7 @@ import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
@@ -57,4 +58,26 @@ class LazyControllerManagementTest extends AbstractJpaIntegrationTest {
                     assertThat(updated.getLastTargetQuery()).isGreaterThan(target.getLastTargetQuery());
                 });
     }
+
+    /**
+     * Verifies that repeated retrieved registrations of an action are coalesced and persisted lazily as a single retrieved status.
+     */
+    @Test
+    void lazyRegisterRetrievedIsCoalesced() {
+        final Long actionId = getFirstAssignedActionId(
+                assignDistributionSet(testdataFactory.createDistributionSet("1"), testdataFactory.createTargets(1)));
+        final long statusCount = deploymentManagement.findActionStatusByAction(actionId, PAGE).getTotalElements();
+
+        controllerManagement.registerRetrieved(actionId, "retrieved 1");
+        controllerManagement.registerRetrieved(actionId, "retrieved 2");
+
+        Awaitility.await()
+                .pollInSameThread()
+                .pollInterval(Duration.ofMillis(100))
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    assertThat(deploymentManagement.findAction(actionId).get().getStatus()).isEqualTo(Action.Status.RETRIEVED);
+                    assertThat(deploymentManagement.findActionStatusByAction(actionId, PAGE).getTotalElements()).isEqualTo(statusCount + 1);
+                });
+    }
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Controller Management
+ */
+class WriteBehindBufferTest {
+
+    /**
+     * Verifies that multiple values of a key are buffered as a single, merged, entry.
+     */
+    @Test
+    void mergesValuesOfKey() {
+        final WriteBehindBuffer<String, Long> buffer = new WriteBehindBuffer<>(10, Math::max);
+        assertThat(buffer.offer("tenant", "c1", 2L)).isTrue();
+        assertThat(buffer.offer("tenant", "c1", 3L)).isTrue();
+        assertThat(buffer.offer("tenant", "c1", 1L)).isTrue();
+        assertThat(buffer.offer("other", "c1", 1L)).isTrue();
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.contains("tenant", "c1")).isTrue();
+        assertThat(buffer.contains("tenant", "c2")).isFalse();
+
+        assertThat(buffer.drain()).isEqualTo(Map.of("tenant", Map.of("c1", 3L), "other", Map.of("c1", 1L)));
+        assertThat(buffer.size()).isZero();
+        // the drained tenants are removed
+        assertThat(buffer.tenants()).isZero();
+        assertThat(buffer.contains("tenant", "c1")).isFalse();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    /**
+     * Verifies that values of not buffered keys are dropped and counted if the buffer is full.
+     */
+    @Test
+    void dropsValuesOfNewKeysIfFull() {
+        final WriteBehindBuffer<String, Long> buffer = new WriteBehindBuffer<>(2, (buffered, value) -> buffered);
+        assertThat(buffer.offer("tenant", "c1", 1L)).isTrue();
+        assertThat(buffer.offer("tenant", "c2", 1L)).isTrue();
+        assertThat(buffer.offer("tenant", "c3", 1L)).isFalse();
+        // already buffered keys are still merged
+        assertThat(buffer.offer("tenant", "c1", 2L)).isTrue();
+        assertThat(buffer.dropped()).isEqualTo(1);
+
+        assertThat(buffer.drain()).isEqualTo(Map.of("tenant", Map.of("c1", 1L, "c2", 1L)));
+        assertThat(buffer.offer("tenant", "c3", 3L)).isTrue();
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+}
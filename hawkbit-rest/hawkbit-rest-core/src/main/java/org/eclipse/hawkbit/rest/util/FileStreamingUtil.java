@@ -22,6 +22,9 @@ import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -38,6 +41,7 @@ import lombok.NoArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.Seekable;
 import org.eclipse.hawkbit.rest.exception.FileStreamingFailedException;
 import org.jspecify.annotations.NonNull;
 import org.springframework.http.HttpStatus;
@@ -58,6 +62,12 @@ public final class FileStreamingUtil {
     // per-request heap pressure under concurrency without improving throughput (end-to-end tests with 80 parallel
     // 100 MiB range requests measured ~6x worse latency at 256 KiB versus 8 KiB).
     private static final int BUFFER_SIZE = 0x2000;
+    // 1 MiB: size of a single FileChannel.transferTo call for file backed artifacts - no heap buffer is allocated for it, it just
+    // limits the granularity of the progress reporting and the time between two checks if the client has gone
+    private static final int TRANSFER_SIZE = 0x100000;
+    // 64 KiB: transfer size if throttled - smaller, so the throttle spreads the transfers evenly instead of alternating 1 MiB bursts and
+    // long waits
+    private static final int THROTTLED_TRANSFER_SIZE = 0x10000;
 
     /**
      * <p>
@@ -73,11 +83,32 @@ public final class FileStreamingUtil {
      * @return response entity containing the input stream of the artifact file (or ranges requested)
      * @throws FileStreamingFailedException if streaming fails
      */
-    @SuppressWarnings("java:S3776") // not so complex - linear logic at one place
     public static ResponseEntity<InputStream> writeFileResponse(
             final ArtifactStream artifact, final String filename, final long lastModified,
             final HttpServletRequest request, final HttpServletResponse response,
             final FileStreamingProgressListener progressListener) {
+        return writeFileResponse(artifact, filename, lastModified, request, response, progressListener, null);
+    }
+
+    /**
+     * Variant of {@link #writeFileResponse(ArtifactStream, String, long, HttpServletRequest, HttpServletResponse,
+     * FileStreamingProgressListener)} with throttled writes.
+     *
+     * @param artifact the artifact
+     * @param filename to be written to the client response
+     * @param lastModified unix timestamp of the artifact
+     * @param request from the client
+     * @param response to be sent back to the requesting client
+     * @param progressListener to write progress updates to
+     * @param throttle called with the written bytes, could be <code>null</code>
+     * @return response entity containing the input stream of the artifact file (or ranges requested)
+     * @throws FileStreamingFailedException if streaming fails
+     */
+    @SuppressWarnings("java:S3776") // not so complex - linear logic at one place
+    public static ResponseEntity<InputStream> writeFileResponse(
+            final ArtifactStream artifact, final String filename, final long lastModified,
+            final HttpServletRequest request, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final BandwidthThrottle throttle) {
         resetResponseExceptHeaders(response);
 
         response.setHeader(CONTENT_DISPOSITION, "attachment;filename=" + encodeFilename(filename));
@@ -105,7 +136,8 @@ public final class FileStreamingUtil {
             } else {
                 // it seems there are valid ranges
                 try {
-                    ranges = Range.of(rangeHeader, length);
+                    // seekable artifacts could be read in any order - serve the ranges in the requested order
+                    ranges = Range.of(rangeHeader, length, artifact.getSeekable() == null);
                 } catch (final IllegalArgumentException e) {
                     log.debug("range header ({}) for filename ({}) is not satisfiable: {}", rangeHeader, filename, e.getMessage());
                     response.setHeader(CONTENT_RANGE, "bytes */" + length);
@@ -116,17 +148,17 @@ public final class FileStreamingUtil {
             ranges = List.of();
         }
 
-        try (final InputStream inputStream = artifact) {
+        try (final ArtifactStream inputStream = artifact) {
             // full request - no range
             if (ranges.isEmpty()) {
                 log.debug("filename ({}) results into a full request: ", filename);
-                return handleFullFileRequest(inputStream, filename, length, response, progressListener);
+                return handleFullFileRequest(inputStream, filename, length, response, progressListener, throttle);
             } else if (ranges.size() == 1) { // standard range request
                 log.debug("filename ({}) results into a single range request: ", filename);
-                return handleSingleRangeRequest(inputStream, ranges.get(0), filename, response, progressListener);
+                return handleSingleRangeRequest(inputStream, ranges.get(0), filename, response, progressListener, throttle);
             } else { // multipart range request
                 log.debug("filename ({}) results into a multipart range request: ", filename);
-                return handleMultipartRangeRequest(inputStream, ranges, filename, response, progressListener);
+                return handleMultipartRangeRequest(inputStream, ranges, filename, response, progressListener, throttle);
             }
         } catch (final IOException e) {
             log.error("streaming of file ({}) failed!", filename, e);
@@ -164,13 +196,13 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleFullFileRequest(
-            final InputStream inputStream, final String filename, final long length, final HttpServletResponse response,
-            final FileStreamingProgressListener progressListener) {
+            final ArtifactStream inputStream, final String filename, final long length, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final BandwidthThrottle throttle) {
         response.setContentLengthLong(length);
 
         try {
             final ServletOutputStream to = response.getOutputStream();
-            copyStreams(inputStream, 0, length, filename, to, progressListener);
+            copy(inputStream, 0, 0, length, filename, to, new Progress(length, progressListener, throttle));
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullFileRequest " + filename, e);
         }
@@ -179,14 +211,15 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleSingleRangeRequest(
-            final InputStream inputStream, final Range range, final String filename, final HttpServletResponse response,
-            final FileStreamingProgressListener progressListener) {
+            final ArtifactStream inputStream, final Range range, final String filename, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final BandwidthThrottle throttle) {
         response.setHeader(CONTENT_RANGE, range.contentRange());
         response.setContentLengthLong(range.getPartLen());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
         try {
-            copyStreams(inputStream, range.getStart(), range.getPartLen(), filename, response.getOutputStream(), progressListener);
+            copy(inputStream, 0, range.getStart(), range.getPartLen(), filename, response.getOutputStream(),
+                    new Progress(range.getPartLen(), progressListener, throttle));
         } catch (final IOException e) {
             log.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -205,8 +238,8 @@ public final class FileStreamingUtil {
 
     // follows the RFC-2046 -> https://datatracker.ietf.org/doc/html/rfc2046#section-5.1
     private static ResponseEntity<InputStream> handleMultipartRangeRequest(
-            final InputStream inputStream, final List<Range> ranges, final String filename, final HttpServletResponse response,
-            final FileStreamingProgressListener progressListener) {
+            final ArtifactStream inputStream, final List<Range> ranges, final String filename, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final BandwidthThrottle throttle) {
         // add headers
         response.setContentType(CONTENT_TYPE_MULTIPART_BYTE_RANGES_AND_BOUNDARY);
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
@@ -238,7 +271,8 @@ public final class FileStreamingUtil {
                 to.println(range.contentRange());
                 // * write [CRLF *OCTET]
                 to.println();
-                copyStreams(inputStream, range.getStart() - streamPos, range.getPartLen(), filename, to, progressListener);
+                copy(inputStream, streamPos, range.getStart(), range.getPartLen(), filename, to,
+                        new Progress(range.getPartLen(), progressListener, throttle));
                 // update stream position
                 streamPos = range.getStart() + range.getPartLen();
             }
@@ -251,17 +285,83 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    // copies length bytes starting at start, the stream is expected to be at streamPos (used only if not seekable)
+    private static void copy(
+            final ArtifactStream from, final long streamPos, final long start, final long length, final String filename,
+            final ServletOutputStream to, final Progress progress) throws IOException {
+        final Seekable seekable = from.getSeekable();
+        if (seekable == null) {
+            copyStreams(from, start - streamPos, length, filename, to, progress);
+        } else if (seekable.getChannel() != null) {
+            transfer(seekable.getChannel(), start, length, filename, to, progress);
+        } else {
+            copySeekable(seekable, start, length, filename, to, progress);
+        }
+    }
+
+    // variant of copyStreams for seekable (not file backed) artifacts - reads directly from start, without reading the skipped bytes
+    private static void copySeekable(
+            final Seekable from, final long start, final long length, final String filename,
+            final OutputStream to, final Progress progress) throws IOException {
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of positional copy of file {} from {} to {}", filename, start, length);
+
+        final ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+        while (progress.total < length) {
+            buf.clear().limit((int) Math.min(BUFFER_SIZE, length - progress.total));
+            final int r = from.read(buf, start + progress.total);
+            if (r == -1) {
+                break;
+            }
+            to.write(buf.array(), 0, r);
+            progress.shipped(r);
+        }
+
+        final long totalTime = System.currentTimeMillis() - startMillis;
+        if (progress.total < length) {
+            throw new FileStreamingFailedException(
+                    filename + ": " + (length - progress.total) + " bytes could not be written to client, total time on write: !" +
+                            totalTime + " ms");
+        }
+        log.trace("Finished positional copy of file {} with length {} in {} ms", filename, length, totalTime);
+    }
+
+    // zero-copy (in terms of heap) variant of copyStreams for file backed artifacts - uses positional transfers, so it doesn't
+    // depend on (and doesn't change) the position of the stream
+    private static void transfer(
+            final FileChannel from, final long start, final long length, final String filename,
+            final ServletOutputStream to, final Progress progress) throws IOException {
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of transfer of file {} from {} to {}", filename, start, length);
+
+        final WritableByteChannel toChannel = new ServletOutputChannel(to);
+        final long transferSize = progress.transferSize(progress.throttle == null ? TRANSFER_SIZE : THROTTLED_TRANSFER_SIZE);
+        while (progress.total < length) {
+            final long transferred = from.transferTo(start + progress.total, Math.min(transferSize, length - progress.total), toChannel);
+            if (transferred <= 0) {
+                break; // end of file reached
+            }
+            progress.shipped(transferred);
+        }
+
+        final long totalTime = System.currentTimeMillis() - startMillis;
+        if (progress.total < length) {
+            throw new FileStreamingFailedException(
+                    filename + ": " + (length - progress.total) + " bytes could not be written to client, total time on write: !" +
+                            totalTime + " ms");
+        }
+        log.trace("Finished transfer of file {} with length {} in {} ms", filename, length, totalTime);
+    }
+
     private static void copyStreams(
             final InputStream from, final long start, final long length, final String filename,
-            final OutputStream to, final FileStreamingProgressListener progressListener) throws IOException {
+            final OutputStream to, final Progress progress) throws IOException {
         final long startMillis = System.currentTimeMillis();
         log.trace("Start of copy-streams of file {} from {} to {}", filename, start, length);
 
         Objects.requireNonNull(from);
         Objects.requireNonNull(to);
         final byte[] buf = new byte[BUFFER_SIZE];
-        long total = 0;
-        int progressPercent = 1;
 
         // Use InputStream.skipNBytes so seekable backends (FileInputStream → lseek) advance in O(1)
         // instead of reading and discarding 'start' bytes through a 2KB scratch buffer.
@@ -269,7 +369,6 @@ public final class FileStreamingUtil {
 
         long toRead = length;
         boolean toContinue = true;
-        long shippedSinceLastEvent = 0;
 
         while (toContinue) {
             final int r = from.read(buf, 0, Math.min(BUFFER_SIZE, toRead > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) toRead));
@@ -280,31 +379,19 @@ public final class FileStreamingUtil {
             toRead -= r;
             if (toRead > 0) {
                 to.write(buf, 0, r);
-                total += r;
-                shippedSinceLastEvent += r;
+                progress.shipped(r);
             } else {
                 to.write(buf, 0, (int) toRead + r);
-                total += toRead + r;
-                shippedSinceLastEvent += toRead + r;
+                progress.shipped(toRead + r);
                 toContinue = false;
             }
-
-            if (progressListener != null) {
-                final int newPercent = (int) Math.floor(total * 100.0 / length);
-
-                // every 10 percent an event
-                if (newPercent == 100 || newPercent > progressPercent + 10) {
-                    progressPercent = newPercent;
-                    progressListener.progress(length, shippedSinceLastEvent, total);
-                    shippedSinceLastEvent = 0;
-                }
-            }
         }
 
         final long totalTime = System.currentTimeMillis() - startMillis;
-        if (total < length) {
+        if (progress.total < length) {
             throw new FileStreamingFailedException(
-                    filename + ": " + (length - total) + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+                    filename + ": " + (length - progress.total) + " bytes could not be written to client, total time on write: !" +
+                            totalTime + " ms");
         }
         log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
     }
@@ -359,6 +446,89 @@ public final class FileStreamingUtil {
         void progress(long requestedBytes, long shippedBytesSinceLast, long shippedBytesOverall);
     }
 
+    /**
+     * Throttle of the artifact file streaming, e.g. to limit the download bandwidth.
+     */
+    @FunctionalInterface
+    public interface BandwidthThrottle {
+
+        /**
+         * Called after each write, blocks until the written bytes fit into the bandwidth.
+         *
+         * @param bytes the written bytes
+         * @throws IOException if interrupted while waiting
+         */
+        void acquire(long bytes) throws IOException;
+    }
+
+    // tracks the shipped bytes of a copy, notifies the listener every 10 percent and throttles the writes
+    private static final class Progress {
+
+        private final long length;
+        private final FileStreamingProgressListener progressListener;
+        private final BandwidthThrottle throttle;
+        private long total;
+        private long shippedSinceLastEvent;
+        private int progressPercent = 1;
+
+        private Progress(final long length, final FileStreamingProgressListener progressListener, final BandwidthThrottle throttle) {
+            this.length = length;
+            this.progressListener = progressListener;
+            this.throttle = throttle;
+        }
+
+        // the size of a single transfer - at most a percent (but a buffer at least) if the progress is tracked, not to skip an event
+        private long transferSize(final long maxTransferSize) {
+            return progressListener == null ? maxTransferSize : Math.min(maxTransferSize, Math.max(BUFFER_SIZE, length / 100));
+        }
+
+        private void shipped(final long shipped) throws IOException {
+            if (throttle != null) {
+                throttle.acquire(shipped);
+            }
+            total += shipped;
+            shippedSinceLastEvent += shipped;
+            if (progressListener != null) {
+                final int newPercent = (int) Math.floor(total * 100.0 / length);
+
+                // every 10 percent an event
+                if (newPercent == 100 || newPercent > progressPercent + 10) {
+                    progressPercent = newPercent;
+                    progressListener.progress(length, shippedSinceLastEvent, total);
+                    shippedSinceLastEvent = 0;
+                }
+            }
+        }
+    }
+
+    // writes the byte buffers directly to the servlet output stream (servlet 6.1 ServletOutputStream#write(ByteBuffer)), so the
+    // container copies the (direct) transfer buffers into its output buffer without intermediate heap arrays. Doesn't close the stream.
+    private static final class ServletOutputChannel implements WritableByteChannel {
+
+        private final ServletOutputStream to;
+
+        private ServletOutputChannel(final ServletOutputStream to) {
+            this.to = to;
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            final int remaining = src.remaining();
+            to.write(src);
+            return remaining - src.remaining();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // the servlet output stream is managed by the container
+        }
+    }
+
     @Value
     private static class Range {
 
@@ -380,8 +550,8 @@ public final class FileStreamingUtil {
         }
 
         // throws IllegalArgumentException if the header doesn't conform the expected format and constraints (like non-overlapping)
-        // return validated, ordered and non-overlapping ranges
-        private static List<Range> of(final String rangeHeader, final long length) {
+        // return validated and non-overlapping ranges - ordered by start position if ordered is true, otherwise in the requested order
+        private static List<Range> of(final String rangeHeader, final long length, final boolean ordered) {
             // Range header matches"bytes=n-n,n-n,n-n..."
             if (!rangeHeader.matches("^bytes=\\d*-\\d*(,\\d*-\\d*)*+$")) {
                 throw new IllegalArgumentException("Doesn't match pattern");
@@ -412,16 +582,17 @@ public final class FileStreamingUtil {
                 throw new IllegalArgumentException("Empty range list");
             }
             // order ranges by start position
-            ranges.sort(Comparator.comparingLong(Range::getStart));
+            final List<Range> orderedRanges = new ArrayList<>(ranges);
+            orderedRanges.sort(Comparator.comparingLong(Range::getStart));
             // validate ranges, we don't allow overlapping, as this would make the streaming logic more complex and computational expensive.
             long streamPos = 0;
-            for (final Range range : ranges) {
+            for (final Range range : orderedRanges) {
                 if (streamPos > range.getStart()) {
                     throw new IllegalArgumentException("Ranges are overlapping or not in order");
                 }
                 streamPos = range.getStart() + range.getPartLen();
             }
-            return ranges;
+            return ordered ? orderedRanges : ranges;
         }
 
         private String contentRange() {
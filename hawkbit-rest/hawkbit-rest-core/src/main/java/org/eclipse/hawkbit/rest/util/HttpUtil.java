@@ -30,4 +30,55 @@ public final class HttpUtil {
     public static boolean matchesHttpHeader(final String matchHeader, final String toMatch) {
         return Stream.of(matchHeader.split(",")).map(String::trim).anyMatch(chunk -> chunk.equals(toMatch) || chunk.equals("*"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks given <code>If-None-Match</code> header for the defined entity tag or wildcard. As specified by RFC 9110 the weak
+     * comparison is used, i.e. a weak entity tag (<code>W/</code> prefixed, e.g. added by a proxy) matches the same opaque tag.
+     *
+     * @param ifNoneMatchHeader to search through
+     * @param eTag quoted entity tag to search for
+     * @return <code>true</code> if the entity tag matches.
+     */
+    public static boolean matchesIfNoneMatch(final String ifNoneMatchHeader, final String eTag) {
+        return Stream.of(ifNoneMatchHeader.split(","))
+                .map(String::trim)
+                .map(chunk -> chunk.startsWith("W/") ? chunk.substring(2) : chunk)
+                .anyMatch(chunk -> chunk.equals(eTag) || chunk.equals("*"));
+    }
+
+    /**
+     * Checks if the given <code>Accept-Encoding</code> header accepts the content coding, explicitly or via wildcard, with a non-zero
+     * quality value (RFC 9110, section 12.5.3).
+     *
+     * @param acceptEncodingHeader the header value, could be <code>null</code>
+     * @param coding the content coding, e.g. <code>gzip</code>
+     * @return <code>true</code> if the content coding is acceptable.
+     */
+    public static boolean acceptsEncoding(final String acceptEncodingHeader, final String coding) {
+        if (acceptEncodingHeader == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (final String chunk : acceptEncodingHeader.split(",")) {
+            final String[] parts = chunk.split(";");
+            final String name = parts[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                final String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (final NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(coding)) {
+                return accepted; // explicit entry overrides the wildcard
+            } else if ("*".equals(name)) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+}
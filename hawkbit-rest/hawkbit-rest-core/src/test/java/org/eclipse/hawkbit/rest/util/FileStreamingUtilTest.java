@@ -17,9 +17,16 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import jakarta.servlet.ServletOutputStream;
@@ -27,12 +34,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.FileBacked;
+import org.eclipse.hawkbit.artifact.model.Seekable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 /**
  * Feature: Component Tests - Management API<br/>
@@ -90,4 +102,121 @@ class FileStreamingUtilTest {
         verify(outputStream, times(0)).print(anyString());
         verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that file backed artifacts are transferred via the file channel - full and single range requests, with progress reporting.
+     */
+    @Test
+    void shouldTransferFileBackedArtifact(@TempDir final Path tempDir) throws IOException {
+        final File file = Files.write(tempDir.resolve("artifact"), CONTENT_BYTES).toFile();
+
+        final MockHttpServletRequest fullRequest = new MockHttpServletRequest("GET", "/artifact");
+        final MockHttpServletResponse fullResponse = new MockHttpServletResponse();
+        final List<Long> shipped = new ArrayList<>();
+        final FileBackedStream stream = new FileBackedStream(file);
+        assertThat(FileStreamingUtil.writeFileResponse(
+                new ArtifactStream(stream, CONTENT_BYTES.length, "sha1-111"), "test.file", 0, fullRequest, fullResponse,
+                (requested, shippedSinceLast, shippedOverall) -> shipped.add(shippedOverall)).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        // nothing is read through the stream (which is closed after the response is written)
+        assertThat(stream.reads).isZero();
+        assertThat(fullResponse.getContentAsByteArray()).isEqualTo(CONTENT_BYTES);
+        assertThat(shipped).containsExactly((long) CONTENT_BYTES.length);
+
+        final MockHttpServletRequest rangeRequest = new MockHttpServletRequest("GET", "/artifact");
+        rangeRequest.addHeader(HttpHeaders.RANGE, "bytes=8-11");
+        final MockHttpServletResponse rangeResponse = new MockHttpServletResponse();
+        assertThat(FileStreamingUtil.writeFileResponse(
+                new ArtifactStream(new FileBackedStream(file), CONTENT_BYTES.length, "sha1-111"), "test.file", 0,
+                rangeRequest, rangeResponse, null).getStatusCode())
+                .isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(rangeResponse.getContentAsString()).isEqualTo("some");
+        assertThat(rangeResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 8-11/" + CONTENT_BYTES.length);
+    }
+
+    /**
+     * Verifies that the multipart ranges of seekable artifacts are served in the requested order by positional reads.
+     */
+    @Test
+    void shouldServeUnorderedRangesOfSeekableArtifact() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/artifact");
+        request.addHeader(HttpHeaders.RANGE, "bytes=13-16,8-11");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final SeekableStream stream = new SeekableStream(CONTENT_BYTES);
+
+        assertThat(FileStreamingUtil.writeFileResponse(
+                new ArtifactStream(stream, CONTENT_BYTES.length, "sha1-111"), "test.file", 0, request, response, null).getStatusCode())
+                .isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        final String body = response.getContentAsString();
+        assertThat(body.indexOf("bytes 13-16/")).isLessThan(body.indexOf("bytes 8-11/"));
+        assertThat(body).contains("\r\n\r\nvery\r\n").contains("\r\n\r\nsome\r\n");
+        // nothing is read through the stream
+        assertThat(stream.available()).isEqualTo(CONTENT_BYTES.length);
+    }
+
+    /**
+     * Verifies that all written bytes of the full and the range requests pass the throttle.
+     */
+    @Test
+    void shouldThrottleWrites(@TempDir final Path tempDir) throws IOException {
+        final File file = Files.write(tempDir.resolve("artifact"), CONTENT_BYTES).toFile();
+        final List<Long> throttled = new ArrayList<>();
+
+        final MockHttpServletResponse fullResponse = new MockHttpServletResponse();
+        FileStreamingUtil.writeFileResponse(
+                new ArtifactStream(new FileBackedStream(file), CONTENT_BYTES.length, "sha1-111"), "test.file", 0,
+                new MockHttpServletRequest("GET", "/artifact"), fullResponse, null, throttled::add);
+        assertThat(fullResponse.getContentAsByteArray()).isEqualTo(CONTENT_BYTES);
+        assertThat(throttled.stream().mapToLong(Long::longValue).sum()).isEqualTo(CONTENT_BYTES.length);
+
+        throttled.clear();
+        final MockHttpServletRequest rangeRequest = new MockHttpServletRequest("GET", "/artifact");
+        rangeRequest.addHeader(HttpHeaders.RANGE, "bytes=0-3,8-11");
+        FileStreamingUtil.writeFileResponse(
+                TEST_ARTIFACT.get(), "test.file", 0, rangeRequest, new MockHttpServletResponse(), null, throttled::add);
+        assertThat(throttled.stream().mapToLong(Long::longValue).sum()).isEqualTo(8);
+    }
+
+    private static class SeekableStream extends ByteArrayInputStream implements Seekable {
+
+        private SeekableStream(final byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public long size() {
+            return count;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position) {
+            if (position >= count) {
+                return -1;
+            }
+            final int len = (int) Math.min(dst.remaining(), count - position);
+            dst.put(buf, (int) position, len);
+            return len;
+        }
+    }
+
+    private static class FileBackedStream extends FileInputStream implements FileBacked {
+
+        private int reads;
+
+        private FileBackedStream(final File file) throws IOException {
+            super(file);
+        }
+
+        @Override
+        public int read() throws IOException {
+            reads++;
+            return super.read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            reads++;
+            return super.read(b, off, len);
+        }
+    }
+}
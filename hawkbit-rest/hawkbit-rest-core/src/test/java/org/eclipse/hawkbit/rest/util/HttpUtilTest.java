@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - REST Core<br/>
+ * Story: HTTP header matching
+ */
+class HttpUtilTest {
+
+    private static final String GZIP = "gzip";
+
+    /**
+     * Verifies that the content coding is accepted if listed explicitly or via wildcard, with a non-zero quality value
+     */
+    @Test
+    void acceptsEncoding() {
+        assertThat(HttpUtil.acceptsEncoding(null, GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("identity", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("gzip", GZIP)).isTrue();
+        assertThat(HttpUtil.acceptsEncoding("GZIP", GZIP)).isTrue();
+        assertThat(HttpUtil.acceptsEncoding("br, gzip;q=0.5, deflate", GZIP)).isTrue();
+        assertThat(HttpUtil.acceptsEncoding("br , gzip ; Q=1.0", GZIP)).isTrue();
+        assertThat(HttpUtil.acceptsEncoding("*", GZIP)).isTrue();
+        assertThat(HttpUtil.acceptsEncoding("*;q=0.1", GZIP)).isTrue();
+    }
+
+    /**
+     * Verifies that the content coding is not accepted if excluded with a zero (or invalid) quality value, even if the wildcard
+     * accepts any coding
+     */
+    @Test
+    void rejectsEncoding() {
+        assertThat(HttpUtil.acceptsEncoding("gzip;q=0", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("gzip;q=0.000", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("gzip;q=invalid", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("*;q=0", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("*, gzip;q=0", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("gzip;q=0, *", GZIP)).isFalse();
+        assertThat(HttpUtil.acceptsEncoding("*;q=0, gzip", GZIP)).isTrue();
+    }
+
+    /**
+     * Verifies that the entity tag matches the If-None-Match header, with the weak comparison, or the wildcard
+     */
+    @Test
+    void matchesIfNoneMatch() {
+        final String eTag = "\"abc\"";
+        assertThat(HttpUtil.matchesIfNoneMatch("\"abc\"", eTag)).isTrue();
+        assertThat(HttpUtil.matchesIfNoneMatch("W/\"abc\"", eTag)).isTrue();
+        assertThat(HttpUtil.matchesIfNoneMatch("\"xyz\", W/\"abc\"", eTag)).isTrue();
+        assertThat(HttpUtil.matchesIfNoneMatch("*", eTag)).isTrue();
+        assertThat(HttpUtil.matchesIfNoneMatch("\"xyz\"", eTag)).isFalse();
+        assertThat(HttpUtil.matchesIfNoneMatch("abc", eTag)).isFalse();
+    }
+}